@@ -1,12 +1,20 @@
 package com.ircproject;
 
+import com.ircproject.config.LeanBootstrap;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class IrcProjectApplication {
 
     public static void main(String[] args) {
+        // --lean: Spring 컨텍스트 없이 직접 조립한 객체 그래프로 기동 (롤링 재시작/오토스케일링용)
+        if (Arrays.asList(args).contains("--lean") || "lean".equals(System.getProperty("irc.boot.mode"))) {
+            LeanBootstrap.main(args);
+            return;
+        }
         SpringApplication.run(IrcProjectApplication.class, args);
     }
 
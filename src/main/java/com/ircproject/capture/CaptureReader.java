@@ -0,0 +1,123 @@
+package com.ircproject.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * packageName    : com.ircproject.capture
+ * fileName       : CaptureReader
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : TrafficRecorder 가 만든 캡처 파일을 레코드 단위로 읽습니다.
+ *                  형식: 머리 = MAGIC(6) + VERSION(1) + 기록 시작 epoch millis(8, big-endian)
+ *                        레코드 = 종류(1) + 이전 레코드와의 시간 차 ns(varint) + 연결 id(varint) + 본문
+ *                          CONNECT    : 호스트 길이(varint) + UTF-8 호스트
+ *                          DATA       : 길이(varint) + 소켓에서 읽은 바이트 그대로
+ *                          DISCONNECT : 없음
+ *                          LOST       : 쓰기가 밀려 버린 레코드 수(varint)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class CaptureReader implements Closeable {
+
+    static final byte[] MAGIC = "IRCCAP".getBytes(StandardCharsets.US_ASCII);
+    static final byte VERSION = 1;
+
+    public static final byte CONNECT = 1;
+    public static final byte DATA = 2;
+    public static final byte DISCONNECT = 3;
+    public static final byte LOST = 4;
+
+    /**
+     * @param timeNanos 기록 시작부터의 경과 시간
+     * @param payload   DATA 는 수신 바이트, CONNECT 는 UTF-8 호스트, 나머지는 빈 배열
+     * @param count     LOST 레코드의 버린 레코드 수
+     */
+    public record Record(byte type, long timeNanos, int connectionId, byte[] payload, long count) {
+
+        public String host() {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final DataInputStream in;
+    private final long startEpochMillis;
+    private long timeNanos;
+
+    public CaptureReader(Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    public CaptureReader(InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a traffic capture file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported capture version: " + version);
+        }
+        this.startEpochMillis = in.readLong();
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * @return 다음 레코드, 파일 끝이면 null (마지막 레코드가 잘려 있어도 null)
+     */
+    public Record next() throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            return null;
+        }
+        try {
+            timeNanos += readVarint();
+            int connectionId = (int) readVarint();
+            return switch ((byte) type) {
+                case CONNECT, DATA -> {
+                    byte[] payload = new byte[(int) readVarint()];
+                    in.readFully(payload);
+                    yield new Record((byte) type, timeNanos, connectionId, payload, 0);
+                }
+                case DISCONNECT -> new Record((byte) type, timeNanos, connectionId, EMPTY, 0);
+                case LOST -> new Record((byte) type, timeNanos, connectionId, EMPTY, readVarint());
+                default -> throw new IOException("Unknown capture record type: " + type);
+            };
+        } catch (EOFException e) {
+            return null; // 기록 중에 프로세스가 죽어서 잘린 꼬리
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in capture");
+    }
+}
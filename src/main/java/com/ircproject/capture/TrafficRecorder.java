@@ -0,0 +1,255 @@
+package com.ircproject.capture;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.ircproject.capture
+ * fileName       : TrafficRecorder
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 연결별 수신 원본 바이트를 시각과 함께 바이너리 파일로 기록합니다. (irc.capture.path 를 지정했을 때만)
+ *                  이벤트 루프는 미리 할당한 버퍼에 레코드를 인코딩만 하고, 디스크 쓰기는 전용 스레드가 합니다.
+ *                  쓰기가 밀려 빈 버퍼가 없으면 루프를 막지 않고 레코드를 버린 뒤, 버린 개수를 LOST 레코드로 남깁니다.
+ *                  파일 형식은 CaptureReader 참고.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       종료 로그의 카운터는 잠금 안에서 읽고, 기록 스레드가 제때 끝나지 않으면 경고
+ */
+@Component
+public class TrafficRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    // 버퍼 하나의 크기와 개수 (한 번의 read 는 최대 8 KiB 이므로 레코드 하나는 항상 들어감)
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int BUFFER_COUNT = 8;
+
+    // 트래픽이 적어도 이 간격마다는 버퍼를 넘겨서 파일에 반영
+    private static final long HANDOFF_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final ByteBuffer END_OF_CAPTURE = ByteBuffer.allocate(0);
+
+    private final boolean enabled;
+    private final long maxBytes;
+
+    private FileChannel file;
+    private Thread writer;
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFER_COUNT);
+    private final BlockingQueue<ByteBuffer> full = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+
+    // 이하 record* 를 호출하는 쪽(이벤트 루프)과 close() 가 공유 - synchronized 로 보호
+    private ByteBuffer current;
+    private long lastNanos;
+    private long lastHandoffNanos;
+    private long encodedBytes;
+    private long lostRecords;     // 아직 LOST 레코드로 남기지 못한 수
+    private long totalLostRecords;
+    private boolean limitReached;
+    private boolean closed;
+
+    /**
+     * @param path     기록할 파일 (비어 있으면 끔, 이미 있으면 덮어씀)
+     * @param maxBytes 이 크기를 넘으면 기록을 멈춤
+     */
+    public TrafficRecorder(@Value("${irc.capture.path:}") String path,
+                           @Value("${irc.capture.max-bytes:1073741824}") long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.enabled = !path.isBlank() && open(Path.of(path));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void recordConnect(int connectionId, String host) {
+        if (!enabled) {
+            return;
+        }
+        byte[] hostBytes = host.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = begin(CaptureReader.CONNECT, connectionId, 5 + hostBytes.length);
+        if (buffer != null) {
+            putVarint(buffer, hostBytes.length);
+            buffer.put(hostBytes);
+        }
+    }
+
+    /**
+     * 소켓에서 읽은 데이터를 기록합니다. data 의 position/limit 은 바꾸지 않습니다.
+     */
+    public synchronized void recordData(int connectionId, ByteBuffer data) {
+        if (!enabled) {
+            return;
+        }
+        ByteBuffer buffer = begin(CaptureReader.DATA, connectionId, 5 + data.remaining());
+        if (buffer != null) {
+            putVarint(buffer, data.remaining());
+            buffer.put(data.duplicate());
+        }
+    }
+
+    public synchronized void recordDisconnect(int connectionId) {
+        if (!enabled) {
+            return;
+        }
+        begin(CaptureReader.DISCONNECT, connectionId, 0);
+    }
+
+    public synchronized long getLostRecords() {
+        return totalLostRecords;
+    }
+
+    /**
+     * 남은 버퍼를 모두 쓰고 파일을 닫습니다. 여러 번 불러도 안전합니다.
+     */
+    @PreDestroy
+    public void close() {
+        long bytes;
+        long lost;
+        synchronized (this) {
+            if (!enabled || closed) {
+                return;
+            }
+            closed = true;
+            if (current != null && current.position() > 0) {
+                full.add(current);
+            }
+            current = null;
+            full.add(END_OF_CAPTURE);
+            bytes = encodedBytes; // closed 이후에는 더 바뀌지 않음
+            lost = totalLostRecords;
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Traffic capture writer still running after close, capture may be incomplete ({} bytes queued)", bytes);
+            return;
+        }
+        logger.info("Traffic capture closed ({} bytes, {} records lost)", bytes, lost);
+    }
+
+    private boolean open(Path path) {
+        try {
+            file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            logger.error("Cannot open traffic capture file {}", path, e);
+            return false;
+        }
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            free.add(ByteBuffer.allocate(BUFFER_SIZE));
+        }
+        lastNanos = System.nanoTime();
+        lastHandoffNanos = lastNanos;
+
+        current = free.poll();
+        current.put(CaptureReader.MAGIC).put(CaptureReader.VERSION).putLong(System.currentTimeMillis());
+
+        writer = new Thread(this::writeLoop, "traffic-capture");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Recording inbound traffic to {}", path);
+        return true;
+    }
+
+    // 레코드 머리(종류, 이전 레코드와의 시간 차, 연결 id)를 쓰고 본문을 쓸 버퍼를 돌려줌, 자리가 없으면 null
+    private ByteBuffer begin(byte type, int connectionId, int payloadBytes) {
+        if (closed) {
+            return null;
+        }
+        long now = System.nanoTime();
+        int needed = 1 + 10 + 5 + payloadBytes;
+        if (current != null && (current.remaining() < needed + 16 || now - lastHandoffNanos > HANDOFF_INTERVAL_NANOS)) {
+            handoff(now);
+        }
+        if (current == null) {
+            current = free.poll();
+        }
+        if (encodedBytes > maxBytes && !limitReached) {
+            limitReached = true;
+            logger.warn("Traffic capture reached {} bytes, further records are dropped", maxBytes);
+        }
+        if (current == null || limitReached) {
+            lostRecords++;
+            totalLostRecords++;
+            return null;
+        }
+
+        if (lostRecords > 0) {
+            current.put(CaptureReader.LOST);
+            putVarint(current, 0);
+            putVarint(current, 0);
+            putVarint(current, lostRecords);
+            lostRecords = 0;
+        }
+
+        int start = current.position();
+        current.put(type);
+        putVarint(current, now - lastNanos);
+        putVarint(current, connectionId);
+        lastNanos = now;
+        encodedBytes += current.position() - start + payloadBytes;
+        return current;
+    }
+
+    private void handoff(long now) {
+        if (current.position() > 0) {
+            full.add(current);
+            current = null;
+        }
+        lastHandoffNanos = now;
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                ByteBuffer buffer = full.take();
+                if (buffer == END_OF_CAPTURE) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    file.write(buffer);
+                }
+                buffer.clear();
+                free.add(buffer);
+            }
+        } catch (IOException e) {
+            logger.error("Traffic capture write failed, recording stopped", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                file.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // 부호 없는 LEB128 (작은 값일수록 짧음: 127 이하 1 바이트)
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
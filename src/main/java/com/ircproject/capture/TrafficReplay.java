@@ -0,0 +1,217 @@
+package com.ircproject.capture;
+
+import ch.qos.logback.classic.Level;
+import com.ircproject.config.LeanBootstrap;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.parser.IrcFormatException;
+import com.ircproject.parser.IrcParser;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * packageName    : com.ircproject.capture
+ * fileName       : TrafficReplay
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 캡처 파일의 수신 데이터를 서버와 같은 경로(User 라인 조립 -> IrcParser -> CommandDispatcher)로 다시 흘려보냅니다.
+ *                  객체 그래프는 LeanBootstrap 으로 조립하고, 소켓 대신 받은 메시지 수/바이트만 세는 메모리 사용자를 씁니다.
+ *                  기록된 속도 그대로(또는 배속) 재생하거나, 최대한 빠르게 재생해서 처리량을 잴 수 있습니다.
+ *                  실행: java -cp ... com.ircproject.capture.TrafficReplay <캡처 파일> [max|배속]
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       서비스용 종료 이벤트
+ */
+public final class TrafficReplay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplay.class);
+
+    /**
+     * @param capturedNanos 캡처에 기록된 전체 시간
+     * @param elapsedNanos  재생에 걸린 시간
+     */
+    public record Result(long records, int connections, long lines, long parseErrors, long lostRecords,
+                         long messagesOut, long bytesOut, long capturedNanos, long elapsedNanos) {
+    }
+
+    private final IrcParser parser;
+    private final CommandDispatcher dispatcher;
+    private final UserRepository userRepository;
+    private final ChannelRepository channelRepository;
+
+    // 캡처의 연결 id -> 재생용 사용자 (연결 id 는 재사용되므로 DISCONNECT 에서 제거)
+    private final Map<Integer, ReplayUser> users = new HashMap<>();
+
+    private long records;
+    private int connections;
+    private long lines;
+    private long parseErrors;
+    private long lostRecords;
+    private long messagesOut;
+    private long bytesOut;
+
+    public TrafficReplay(LeanBootstrap bootstrap) {
+        this.parser = bootstrap.getParser();
+        this.dispatcher = bootstrap.getDispatcher();
+        this.userRepository = bootstrap.getUserRepository();
+        this.channelRepository = bootstrap.getChannelRepository();
+    }
+
+    /**
+     * @param speed 1 이면 기록된 속도, 2 면 두 배속, 0 이하면 기다리지 않고 최대한 빠르게
+     */
+    public Result replay(CaptureReader reader, double speed) throws IOException {
+        long begin = System.nanoTime();
+        long capturedNanos = 0;
+        CaptureReader.Record record;
+        while ((record = reader.next()) != null) {
+            records++;
+            capturedNanos = record.timeNanos();
+            if (speed > 0) {
+                waitUntil(begin + (long) (record.timeNanos() / speed));
+            }
+            switch (record.type()) {
+                case CaptureReader.CONNECT -> connect(record.connectionId(), record.host());
+                case CaptureReader.DATA -> receive(record.connectionId(), record.payload());
+                case CaptureReader.DISCONNECT -> {
+                    ReplayUser user = users.get(record.connectionId());
+                    if (user != null) {
+                        disconnect(user);
+                    }
+                }
+                case CaptureReader.LOST -> lostRecords += record.count();
+                default -> {
+                }
+            }
+        }
+
+        // 캡처가 끝날 때까지 연결돼 있던 사용자도 정리
+        for (ReplayUser user : new ArrayList<>(users.values())) {
+            disconnect(user);
+        }
+        return new Result(records, connections, lines, parseErrors, lostRecords, messagesOut, bytesOut,
+                capturedNanos, System.nanoTime() - begin);
+    }
+
+    private ReplayUser connect(int connectionId, String host) {
+        ReplayUser user = new ReplayUser();
+        user.setConnectionId(connectionId);
+        user.setHost(host);
+        users.put(connectionId, user);
+        connections++;
+        return user;
+    }
+
+    // IrcServer.handleRead / processTurn 과 같은 순서 (처리 한도 없이 모든 라인을 바로 처리)
+    private void receive(int connectionId, byte[] payload) {
+        ReplayUser user = users.get(connectionId);
+        if (user == null) {
+            user = connect(connectionId, "unknown"); // CONNECT 레코드를 잃은 경우
+        }
+        try {
+            if (!user.appendData(ByteBuffer.wrap(payload))) {
+                disconnect(user); // 서버에서는 "Line too long" 으로 끊김
+                return;
+            }
+            String line;
+            while ((line = user.nextLine()) != null) {
+                process(user, line);
+                if (user.isCloseRequested()) {
+                    disconnect(user);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            disconnect(user); // 잘못된 압축 데이터
+        }
+    }
+
+    private void process(User user, String line) {
+        lines++;
+        IrcMessage message;
+        try {
+            message = parser.parse(line);
+        } catch (IrcFormatException e) {
+            parseErrors++;
+            return;
+        }
+        dispatcher.dispatch(user, message, user.getLastLineBytes());
+    }
+
+    // IrcServer.disconnect + processPendingCleanups 와 같은 정리
+    private void disconnect(ReplayUser user) {
+        if (users.remove(user.getConnectionId()) != user) {
+            return;
+        }
+        user.releaseCompression();
+        OutboundMessage quitMessage = OutboundMessage.of(":" + user.getNickname() + " QUIT :Connection closed\r\n")
+                .withEvent(new ServiceEvent.Quit(user.getNickname(), "Connection closed"));
+        channelRepository.forEachPeer(user, quitMessage::sendOrderedTo);
+        channelRepository.leaveAll(user);
+        userRepository.remove(user.getNickname(), user);
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // 소켓 대신 받은 메시지 수와 바이트만 세는 사용자
+    private final class ReplayUser extends User {
+
+        ReplayUser() {
+            super(null);
+        }
+
+        @Override
+        public void sendMessage(byte[] message) {
+            messagesOut++;
+            bytesOut += message.length;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TrafficReplay <capture file> [max|speed]");
+            System.exit(2);
+        }
+        double speed = args.length < 2 || args[1].equalsIgnoreCase("max") ? 0 : Double.parseDouble(args[1]);
+
+        // 재생 중에는 핸들러 로그가 처리량을 왜곡하지 않도록 WARN 이상만
+        if (LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof ch.qos.logback.classic.Logger root) {
+            root.setLevel(Level.WARN);
+        }
+        // 재생하는 캡처 파일을 다시 기록 대상으로 열어 덮어쓰지 않도록
+        System.setProperty("irc.capture.path", "");
+
+        Result result;
+        try (CaptureReader reader = new CaptureReader(Path.of(args[0]))) {
+            result = new TrafficReplay(new LeanBootstrap()).replay(reader, speed);
+        }
+
+        double seconds = result.elapsedNanos() / 1e9;
+        System.out.printf("records=%d connections=%d lines=%d parseErrors=%d lost=%d%n", result.records(),
+                result.connections(), result.lines(), result.parseErrors(), result.lostRecords());
+        System.out.printf("out: messages=%d bytes=%d%n", result.messagesOut(), result.bytesOut());
+        System.out.printf("captured %.2f s, replayed in %.2f s (%.0f lines/s)%n", result.capturedNanos() / 1e9, seconds,
+                result.lines() / Math.max(seconds, 1e-9));
+        logger.debug("Replay finished: {}", result);
+    }
+}
@@ -0,0 +1,200 @@
+package com.ircproject.config;
+
+import ch.qos.logback.classic.Level;
+import com.ircproject.capture.TrafficRecorder;
+import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.handler.commands.CapHandler;
+import com.ircproject.handler.commands.ChannelListHandler;
+import com.ircproject.handler.commands.CompressHandler;
+import com.ircproject.handler.commands.FilterHandler;
+import com.ircproject.handler.commands.HelpHandler;
+import com.ircproject.handler.commands.JoinHandler;
+import com.ircproject.handler.commands.ModeHandler;
+import com.ircproject.handler.commands.NamesHandler;
+import com.ircproject.handler.commands.NickHandler;
+import com.ircproject.handler.commands.NoticeHandler;
+import com.ircproject.handler.commands.OperHandler;
+import com.ircproject.handler.commands.PartHandler;
+import com.ircproject.handler.commands.PingHandler;
+import com.ircproject.handler.commands.PongHandler;
+import com.ircproject.handler.commands.PrivmsgHandler;
+import com.ircproject.handler.commands.QuitHandler;
+import com.ircproject.handler.commands.SearchHandler;
+import com.ircproject.handler.commands.StatsHandler;
+import com.ircproject.handler.commands.TopHandler;
+import com.ircproject.handler.commands.WhoHandler;
+import com.ircproject.handler.commands.WhowasHandler;
+import com.ircproject.history.ChannelHistory;
+import com.ircproject.moderation.ContentFilter;
+import com.ircproject.moderation.DuplicateSpamDetector;
+import com.ircproject.monitor.MessageTracer;
+import com.ircproject.monitor.TopTalkers;
+import com.ircproject.parser.IrcParser;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.ServerSnapshotStore;
+import com.ircproject.repository.UserRepository;
+import com.ircproject.repository.WhowasRepository;
+import com.ircproject.server.IrcServer;
+import com.ircproject.server.LoopExecutor;
+import com.ircproject.service.IrcService;
+import com.ircproject.service.ServiceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * packageName    : com.ircproject.config
+ * fileName       : LeanBootstrap
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : Spring 컨텍스트 없이 IRC 서버 객체 그래프를 직접 조립하는 경량 기동 경로입니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       트래픽 캡처 + 재생 도구용 접근자
+ * 2026. 10. 19.       kobe       WHOWAS 기록
+ * 2026. 10. 19.       kobe       내장 서비스(봇)는 ServiceLoader 로 찾아서 등록
+ */
+public final class LeanBootstrap {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeanBootstrap.class);
+
+    private final ChannelRepository channelRepository = new ChannelRepository();
+    private final WhowasRepository whowasRepository = new WhowasRepository(
+            Integer.parseInt(property("irc.whowas.max-entries", "IRC_WHOWAS_MAX_ENTRIES", "2048")),
+            Integer.parseInt(property("irc.whowas.max-per-nickname", "IRC_WHOWAS_MAX_PER_NICKNAME", "8")),
+            Long.parseLong(property("irc.whowas.max-age-seconds", "IRC_WHOWAS_MAX_AGE_SECONDS", "86400")));
+    private final UserRepository userRepository = new UserRepository(whowasRepository);
+    private final IrcParser parser = new IrcParser();
+    private final CommandDispatcher dispatcher;
+    private final IrcServer ircServer;
+    private final ServerSnapshotStore snapshotStore;
+    private final TrafficRecorder recorder;
+    private final ServiceRegistry serviceRegistry;
+
+    // [주의] 새 CommandHandler 나 서버 컴포넌트를 추가하면 여기에도 등록해야 합니다.
+    // (Spring 모드에서는 컴포넌트 스캔이 대신 해주는 일)
+    public LeanBootstrap() {
+        DuplicateSpamDetector spamDetector = new DuplicateSpamDetector(
+                Integer.parseInt(property("irc.spam.threshold", "IRC_SPAM_THRESHOLD", "20")),
+                Integer.parseInt(property("irc.spam.window-seconds", "IRC_SPAM_WINDOW_SECONDS", "60")),
+                property("irc.spam.action", "IRC_SPAM_ACTION", "drop"));
+        ContentFilter contentFilter = new ContentFilter(
+                property("irc.filter.patterns", "IRC_FILTER_PATTERNS", ""),
+                property("irc.filter.default-action", "IRC_FILTER_DEFAULT_ACTION", "block"));
+
+        MessageTracer tracer = new MessageTracer(
+                Integer.parseInt(property("irc.trace.sample-interval", "IRC_TRACE_SAMPLE_INTERVAL", "64")));
+        TopTalkers topTalkers = new TopTalkers(
+                Integer.parseInt(property("irc.top.capacity", "IRC_TOP_CAPACITY", "256")),
+                Integer.parseInt(property("irc.top.window-seconds", "IRC_TOP_WINDOW_SECONDS", "60")));
+        LoopExecutor loopExecutor = new LoopExecutor();
+        ChannelHistory channelHistory = new ChannelHistory(
+                Integer.parseInt(property("irc.history.max-messages", "IRC_HISTORY_MAX_MESSAGES", "10000")),
+                Integer.parseInt(property("irc.history.search-threads", "IRC_HISTORY_SEARCH_THREADS", "2")),
+                Integer.parseInt(property("irc.history.search-timeout-ms", "IRC_HISTORY_SEARCH_TIMEOUT_MS", "200")),
+                loopExecutor,
+                channelRepository);
+
+        List<CommandHandler> handlers = List.of(
+                new CapHandler(),
+                new ChannelListHandler(channelRepository),
+                new CompressHandler(
+                        Integer.parseInt(property("irc.compress.max-connections", "IRC_COMPRESS_MAX_CONNECTIONS", "1024")),
+                        Integer.parseInt(property("irc.compress.level", "IRC_COMPRESS_LEVEL", "3"))),
+                new FilterHandler(contentFilter, channelRepository),
+                new HelpHandler(),
+                new JoinHandler(channelRepository, userRepository),
+                new ModeHandler(channelRepository, userRepository),
+                new NamesHandler(channelRepository),
+                new NickHandler(userRepository, channelRepository),
+                new NoticeHandler(channelRepository, userRepository, spamDetector, contentFilter, topTalkers, channelHistory),
+                new OperHandler(property("irc.oper.name", "IRC_OPER_NAME", "admin"),
+                        property("irc.oper.password", "IRC_OPER_PASSWORD", "")),
+                new PartHandler(channelRepository),
+                new PingHandler(),
+                new PongHandler(),
+                new PrivmsgHandler(channelRepository, userRepository, spamDetector, contentFilter, topTalkers, channelHistory),
+                new QuitHandler(channelRepository, userRepository),
+                new SearchHandler(channelRepository, channelHistory),
+                new StatsHandler(tracer, channelRepository),
+                new TopHandler(topTalkers),
+                new WhoHandler(channelRepository, userRepository),
+                new WhowasHandler(whowasRepository)
+        );
+
+        this.dispatcher = new CommandDispatcher(handlers, topTalkers);
+        this.recorder = new TrafficRecorder(
+                property("irc.capture.path", "IRC_CAPTURE_PATH", ""),
+                Long.parseLong(property("irc.capture.max-bytes", "IRC_CAPTURE_MAX_BYTES", "1073741824")));
+        this.ircServer = new IrcServer(parser, dispatcher, channelRepository, userRepository, tracer, loopExecutor, recorder);
+        this.snapshotStore = new ServerSnapshotStore(channelRepository, loopExecutor,
+                property("irc.snapshot.path", "IRC_SNAPSHOT_PATH", "irc-state.snapshot"),
+                Boolean.parseBoolean(property("irc.snapshot.enabled", "IRC_SNAPSHOT_ENABLED", "true")),
+                Long.parseLong(property("irc.snapshot.reclaim-grace-seconds", "IRC_SNAPSHOT_RECLAIM_GRACE_SECONDS", "300")));
+        // META-INF/services/com.ircproject.service.IrcService 에 등록된 구현체 (Spring 모드에서는 빈으로 주입)
+        List<IrcService> services = ServiceLoader.load(IrcService.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+        this.serviceRegistry = new ServiceRegistry(services, userRepository, dispatcher, loopExecutor,
+                Integer.parseInt(property("irc.service.queue-capacity", "IRC_SERVICE_QUEUE_CAPACITY", "1024")));
+    }
+
+    /**
+     * 스냅샷 복원 후 서버를 기동하고, JVM 종료 시 스냅샷을 저장하도록 훅을 등록합니다.
+     */
+    public void start() {
+        snapshotStore.restore();
+        Runtime.getRuntime().addShutdownHook(new Thread(snapshotStore::save, "snapshot-writer"));
+        Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "capture-closer"));
+        serviceRegistry.start();
+        ircServer.start();
+    }
+
+    // 캡처 재생(TrafficRecorder -> TrafficReplay)처럼 소켓 없이 같은 객체 그래프를 쓰는 도구용
+
+    public IrcParser getParser() {
+        return parser;
+    }
+
+    public CommandDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public UserRepository getUserRepository() {
+        return userRepository;
+    }
+
+    public ChannelRepository getChannelRepository() {
+        return channelRepository;
+    }
+
+    public static void main(String[] args) {
+        long startedAt = System.nanoTime();
+
+        // Spring Boot 의 로깅 설정이 없으면 Logback 기본값(DEBUG)이 적용되므로 INFO 로 맞춰줍니다.
+        if (LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof ch.qos.logback.classic.Logger root) {
+            root.setLevel(Level.INFO);
+        }
+
+        new LeanBootstrap().start();
+        logger.info("Lean boot completed in {} ms", (System.nanoTime() - startedAt) / 1_000_000);
+
+        // AppCDS 아카이브 생성용: 서버 소켓 바인딩까지 로딩된 클래스만 덤프하고 종료
+        if (Boolean.getBoolean("irc.boot.exit-after-start")) {
+            System.exit(0);
+        }
+    }
+
+    private static String property(String key, String env, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(env);
+        }
+        return value != null ? value : defaultValue;
+    }
+}
@@ -3,6 +3,7 @@ package com.ircproject.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
@@ -42,7 +43,9 @@ public class SslConfig {
         this.resourceLoader = resourceLoader;
     }
 
+    // 키스토어 로딩은 기동 시간의 임계 경로가 아니므로, 실제로 필요해지는 시점까지 지연 생성
     @Bean
+    @Lazy
     public SSLContext sslContext() throws Exception{
         // 1. Keystore 로드
         // JAR 내부의 파일은 'File' 객체가 아니라 'InputStream'으로 읽어야 합니다.
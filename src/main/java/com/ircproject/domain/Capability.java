@@ -0,0 +1,47 @@
+package com.ircproject.domain;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : Capability
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : CAP 협상으로 켜고 끌 수 있는 IRCv3 기능 목록. 사용자별로는 비트셋(int)으로 저장합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public enum Capability {
+    // 순서 주의: SERVER_TIME, MESSAGE_TAGS 는 OutboundMessage 의 변형(variant) 인덱스 비트로 그대로 쓰입니다.
+    SERVER_TIME("server-time"),
+    MESSAGE_TAGS("message-tags"),
+    ECHO_MESSAGE("echo-message");
+
+    private final String token;
+    private final int bit;
+
+    Capability(String token) {
+        this.token = token;
+        this.bit = 1 << ordinal();
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * @return CAP 토큰에 해당하는 기능, 모르는 토큰이면 null
+     */
+    public static Capability fromToken(String token) {
+        for (Capability capability : values()) {
+            if (capability.token.equalsIgnoreCase(token)) {
+                return capability;
+            }
+        }
+        return null;
+    }
+}
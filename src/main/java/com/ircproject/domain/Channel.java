@@ -1,6 +1,11 @@
 package com.ircproject.domain;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -14,6 +19,11 @@ import java.util.concurrent.ConcurrentHashMap;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 6.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       NAMES/WHO 캐시 추가
+ * 2026. 10. 19.       kobe       채널 모드(+i, +m, +o, +v)와 마스크 목록(+b, +e, +I, +q) 추가
+ * 2026. 10. 19.       kobe       채널별 금칙어 필터 동작
+ * 2026. 10. 19.       kobe       +P (비어도 회수하지 않는 영구 채널)
+ * 2026. 10. 19.       kobe       마스크 목록 변경을 모아서 한 번만 컴파일 (compileMasks)
  */
 public class Channel {
     private final String name;
@@ -21,8 +31,45 @@ public class Channel {
     // 동시성(Concurrency) 문제 방지를 위해 Thread-Safe한 Set 사용
     private final Set<User> users = ConcurrentHashMap.newKeySet();
 
+    // NAMES/WHO 응답용 멤버 목록 캐시 (입장/퇴장 시 증분 갱신)
+    private final MemberListing listing;
+
+    // 채널 운영자(@)와 발언권(+)을 가진 멤버
+    private final Set<User> operators = ConcurrentHashMap.newKeySet();
+    private final Set<User> voiced = ConcurrentHashMap.newKeySet();
+
+    // 값 없는 채널 모드: i (초대 전용), m (발언 제한), P (영구 - 마지막 멤버가 나가도 회수하지 않음, 서버 운영자 전용)
+    public static final String FLAG_MODES = "imP";
+    public static final char PERSISTENT_MODE = 'P';
+    private volatile boolean inviteOnly;
+    private volatile boolean moderated;
+    private volatile boolean persistent;
+
+    // 마스크 목록 원본 (접은 마스크 -> 항목) 과, compileMasks() 때 다시 컴파일하는 매처
+    // 매처는 불변이므로 JOIN/PRIVMSG 경로에서는 잠금 없이 읽기만 합니다.
+    private final Map<ChannelListMode, Map<String, MaskEntry>> maskLists = new EnumMap<>(ChannelListMode.class);
+    private final MaskMatcher[] matchers = new MaskMatcher[ChannelListMode.values().length];
+    private int staleMatchers; // 목록이 바뀌었지만 아직 컴파일하지 않은 모드 (ordinal 비트)
+
+    // 목록 하나에 넣을 수 있는 최대 마스크 수 - 컴파일된 매처 덕분에 크게 잡아도 JOIN 비용은 거의 늘지 않음
+    public static final int MAX_LIST_ENTRIES = 8192;
+
+    // 금칙어 필터 동작 (null 이면 서버 기본값)
+    private volatile FilterAction filterAction;
+
     public Channel(String name) {
         this.name = name;
+        this.listing = new MemberListing(name);
+        for (ChannelListMode mode : ChannelListMode.values()) {
+            maskLists.put(mode, new LinkedHashMap<>());
+            matchers[mode.ordinal()] = MaskMatcher.EMPTY;
+        }
+    }
+
+    /**
+     * 마스크 목록의 항목 (누가 언제 설정했는지는 목록 조회 응답에 사용)
+     */
+    public record MaskEntry(String mask, String setBy, long setAt) {
     }
 
     public String getName() {
@@ -30,11 +77,249 @@ public class Channel {
     }
 
     public void join(User user) {
-        users.add(user);
+        boolean first = users.isEmpty();
+        if (users.add(user)) {
+            // 빈 채널에 처음 들어온 사람이 운영자가 됨
+            if (first) {
+                operators.add(user);
+            }
+            listing.add(user, memberToken(user));
+        }
     }
 
     public void leave(User user) {
-        users.remove(user);
+        if (users.remove(user)) {
+            operators.remove(user);
+            voiced.remove(user);
+            listing.remove(user);
+        }
+    }
+
+    /**
+     * 멤버의 닉네임이나 @/+ 상태가 바뀌었을 때 NAMES/WHO 캐시를 갱신합니다.
+     */
+    public void refreshMember(User user) {
+        listing.update(user, memberToken(user));
+    }
+
+    public boolean isOperator(User user) {
+        return operators.contains(user);
+    }
+
+    public boolean isVoiced(User user) {
+        return voiced.contains(user);
+    }
+
+    /**
+     * 멤버의 운영자(+o) 상태를 바꿉니다.
+     *
+     * @return 실제로 바뀌었으면 true
+     */
+    public boolean setOperator(User user, boolean operator) {
+        if (!users.contains(user)) {
+            return false;
+        }
+        boolean changed = operator ? operators.add(user) : operators.remove(user);
+        if (changed) {
+            refreshMember(user);
+        }
+        return changed;
+    }
+
+    /**
+     * 멤버의 발언권(+v) 상태를 바꿉니다.
+     *
+     * @return 실제로 바뀌었으면 true
+     */
+    public boolean setVoiced(User user, boolean voice) {
+        if (!users.contains(user)) {
+            return false;
+        }
+        boolean changed = voice ? voiced.add(user) : voiced.remove(user);
+        if (changed) {
+            refreshMember(user);
+        }
+        return changed;
+    }
+
+    // NAMES 에 표시되는 멤버 이름 (@닉네임, +닉네임, 닉네임)
+    private String memberToken(User user) {
+        if (operators.contains(user)) {
+            return "@" + user.getNickname();
+        }
+        if (voiced.contains(user)) {
+            return "+" + user.getNickname();
+        }
+        return user.getNickname();
+    }
+
+    public FilterAction getFilterAction() {
+        return filterAction;
+    }
+
+    public void setFilterAction(FilterAction filterAction) {
+        this.filterAction = filterAction;
+    }
+
+    public boolean isInviteOnly() {
+        return inviteOnly;
+    }
+
+    public boolean isModerated() {
+        return moderated;
+    }
+
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * 값 없는 채널 모드(FLAG_MODES)를 켜거나 끕니다.
+     *
+     * @return 실제로 바뀌었으면 true
+     */
+    public boolean setFlag(char letter, boolean on) {
+        boolean before;
+        switch (letter) {
+            case 'i' -> {
+                before = inviteOnly;
+                inviteOnly = on;
+            }
+            case 'm' -> {
+                before = moderated;
+                moderated = on;
+            }
+            case PERSISTENT_MODE -> {
+                before = persistent;
+                persistent = on;
+            }
+            default -> throw new IllegalArgumentException("Unknown channel flag: " + letter);
+        }
+        return before != on;
+    }
+
+    /**
+     * 켜져 있는 값 없는 모드 문자들 (예: "imP")
+     */
+    public String getFlags() {
+        return (inviteOnly ? "i" : "") + (moderated ? "m" : "") + (persistent ? "P" : "");
+    }
+
+    /**
+     * 마스크를 목록에 추가합니다. 매칭에는 compileMasks() 를 부른 뒤부터 반영됩니다.
+     *
+     * @return 새로 추가되었으면 true (이미 있으면 false)
+     */
+    public synchronized boolean addMask(ChannelListMode mode, String mask, String setBy, long setAt) {
+        Map<String, MaskEntry> list = maskLists.get(mode);
+        if (list.putIfAbsent(foldMask(mask), new MaskEntry(mask, setBy, setAt)) != null) {
+            return false;
+        }
+        staleMatchers |= 1 << mode.ordinal();
+        return true;
+    }
+
+    /**
+     * 마스크를 목록에서 제거합니다. 매칭에는 compileMasks() 를 부른 뒤부터 반영됩니다.
+     *
+     * @return 제거된 항목, 없으면 null
+     */
+    public synchronized MaskEntry removeMask(ChannelListMode mode, String mask) {
+        MaskEntry removed = maskLists.get(mode).remove(foldMask(mask));
+        if (removed != null) {
+            staleMatchers |= 1 << mode.ordinal();
+        }
+        return removed;
+    }
+
+    /**
+     * 바뀐 목록의 매처만 다시 컴파일합니다. 컴파일은 목록 크기에 비례하므로
+     * MODE 한 줄이나 스냅샷의 채널 하나처럼 변경을 모두 적용한 뒤 한 번만 부릅니다.
+     */
+    public synchronized void compileMasks() {
+        for (ChannelListMode mode : ChannelListMode.values()) {
+            if ((staleMatchers & (1 << mode.ordinal())) != 0) {
+                matchers[mode.ordinal()] = MaskMatcher.compile(new ArrayList<>(maskLists.get(mode).keySet()));
+            }
+        }
+        staleMatchers = 0;
+    }
+
+    public synchronized List<MaskEntry> getMasks(ChannelListMode mode) {
+        return List.copyOf(maskLists.get(mode).values());
+    }
+
+    public synchronized int getMaskCount(ChannelListMode mode) {
+        return maskLists.get(mode).size();
+    }
+
+    private static String foldMask(String mask) {
+        char[] chars = mask.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = MaskMatcher.fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 목록 모드의 매처로 호스트마스크를 검사합니다.
+     */
+    public boolean matches(ChannelListMode mode, String hostmask) {
+        return matchers[mode.ordinal()].matches(hostmask);
+    }
+
+    /**
+     * +b 에 걸리고 +e 로 예외 처리되지 않았으면 true
+     */
+    public boolean isBanned(User user) {
+        if (matchers[ChannelListMode.BAN.ordinal()].isEmpty()) {
+            return false;
+        }
+        String hostmask = user.getHostmask();
+        return matches(ChannelListMode.BAN, hostmask) && !matches(ChannelListMode.BAN_EXCEPTION, hostmask);
+    }
+
+    /**
+     * +i 채널이어도 +I 목록에 있으면 초대 없이 입장할 수 있습니다.
+     */
+    public boolean isInviteExempt(User user) {
+        return matches(ChannelListMode.INVITE_EXCEPTION, user.getHostmask());
+    }
+
+    /**
+     * 채널에 메시지를 보낼 수 있는지 확인합니다. (운영자/발언권자는 항상 가능)
+     * +m 이거나, +b/+q 에 걸리고 +e 예외가 없으면 보낼 수 없습니다.
+     */
+    public boolean canSpeak(User user) {
+        if (operators.contains(user) || voiced.contains(user)) {
+            return true;
+        }
+        if (moderated) {
+            return false;
+        }
+        MaskMatcher ban = matchers[ChannelListMode.BAN.ordinal()];
+        MaskMatcher quiet = matchers[ChannelListMode.QUIET.ordinal()];
+        if (ban.isEmpty() && quiet.isEmpty()) {
+            return true; // 대부분의 채널은 목록이 비어 있으므로 호스트마스크도 만들지 않음
+        }
+        String hostmask = user.getHostmask();
+        return !(ban.matches(hostmask) || quiet.matches(hostmask))
+                || matches(ChannelListMode.BAN_EXCEPTION, hostmask);
+    }
+
+    /**
+     * 353(RPL_NAMREPLY) 라인들과 366(RPL_ENDOFNAMES)을 전송합니다.
+     */
+    public void sendNames(User requester) {
+        listing.writeNames(requester);
+        requester.sendMessage(":server 366 " + requester.getNickname() + " " + name + " :End of /NAMES list.\r\n");
+    }
+
+    /**
+     * 352(RPL_WHOREPLY) 라인들을 전송합니다. (315 는 호출하는 쪽에서 전송)
+     */
+    public void sendWho(User requester) {
+        listing.writeWho(requester);
     }
 
     // 외부에서 리스트를 수정하지 못하도록 unmodifiable Set 반환 (방어적 복사)
@@ -0,0 +1,59 @@
+package com.ircproject.domain;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : ChannelListMode
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 마스크 목록을 값으로 가지는 채널 모드 (+b, +e, +I, +q) 와 목록 조회 응답 번호
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public enum ChannelListMode {
+    BAN('b', 367, 368, "End of channel ban list"),
+    BAN_EXCEPTION('e', 348, 349, "End of channel exception list"),
+    INVITE_EXCEPTION('I', 346, 347, "End of channel invite list"),
+    QUIET('q', 728, 729, "End of channel quiet list");
+
+    private final char letter;
+    private final int listReply;
+    private final int endReply;
+    private final String endText;
+
+    ChannelListMode(char letter, int listReply, int endReply, String endText) {
+        this.letter = letter;
+        this.listReply = listReply;
+        this.endReply = endReply;
+        this.endText = endText;
+    }
+
+    public char letter() {
+        return letter;
+    }
+
+    public int listReply() {
+        return listReply;
+    }
+
+    public int endReply() {
+        return endReply;
+    }
+
+    public String endText() {
+        return endText;
+    }
+
+    /**
+     * @return 모드 문자에 해당하는 목록 모드, 없으면 null
+     */
+    public static ChannelListMode fromLetter(char letter) {
+        for (ChannelListMode mode : values()) {
+            if (mode.letter == letter) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,217 @@
+package com.ircproject.domain;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : DeflateStream
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 연결 하나의 양방향 DEFLATE 스트림 (COMPRESS DEFLATE, 헤더 없는 raw deflate - RFC 4978 과 같은 방식).
+ *                  송신은 flush 한 번에 쌓인 라인들을 압축하고 SYNC_FLUSH 로 끝내므로, 상대는 다음 데이터를 기다리지 않고 바로 풀 수 있습니다.
+ *                  압축 사전은 zlib 의 고정 크기(송신 약 256 KiB, 수신 약 32 KiB 네이티브 메모리)이고,
+ *                  자바 쪽 버퍼는 필요할 때만 할당하며 수신 대기 데이터는 MAX_PENDING_INPUT 으로 제한합니다.
+ *                  연결 종료 시 반드시 end() 로 네이티브 메모리를 반납해야 합니다. (이벤트 루프 스레드 전용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class DeflateStream {
+
+    // 아직 풀지 못한 압축 수신 데이터 상한 (수신 버퍼 상한과 같음)
+    static final int MAX_PENDING_INPUT = User.MAX_INBOUND_BYTES;
+
+    private static final int MIN_OUTPUT_SPACE = 512;
+
+    // 서버 전체 통계 (STATS compression)
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final LongAdder RAW_BYTES = new LongAdder();
+    private static final LongAdder COMPRESSED_BYTES = new LongAdder();
+
+    private final Deflater deflater;
+    private final Inflater inflater = new Inflater(true);
+
+    // 압축된 송신 데이터 [outStart, outEnd) - 다 보내면 배열을 반납
+    private byte[] out;
+    private int outStart;
+    private int outEnd;
+
+    // inflater 에 넘긴 압축 수신 데이터 (끝에서 getRemaining() 만큼이 아직 안 풀린 부분)
+    private byte[] in;
+    private int inEnd;
+
+    private boolean ended;
+
+    /**
+     * @param level 압축 레벨 (1 = 빠름 ~ 9 = 작음)
+     */
+    public DeflateStream(int level) {
+        this.deflater = new Deflater(level, true);
+        ACTIVE.incrementAndGet();
+    }
+
+    // ===== 송신 =====
+
+    /**
+     * 라인을 압축 스트림에 넣습니다. 출력은 syncFlush() 전까지 일부만 나올 수 있습니다.
+     */
+    public void write(ByteBuffer raw) {
+        int before = outEnd;
+        RAW_BYTES.add(raw.remaining());
+        deflater.setInput(raw);
+        while (!deflater.needsInput()) {
+            ensureOutputSpace();
+            outEnd += deflater.deflate(out, outEnd, out.length - outEnd, Deflater.NO_FLUSH);
+        }
+        COMPRESSED_BYTES.add(outEnd - before);
+    }
+
+    /**
+     * 지금까지 넣은 데이터를 모두 출력하고 바이트 경계로 맞춥니다. (상대가 바로 풀 수 있음)
+     */
+    public void syncFlush() {
+        int before = outEnd;
+        while (true) {
+            ensureOutputSpace();
+            int space = out.length - outEnd;
+            int written = deflater.deflate(out, outEnd, space, Deflater.SYNC_FLUSH);
+            outEnd += written;
+            if (written < space) {
+                break; // 출력 공간이 남았으면 다 나온 것
+            }
+        }
+        COMPRESSED_BYTES.add(outEnd - before);
+    }
+
+    /**
+     * 압축을 켜기 전에 쌓여 있던 데이터를 압축하지 않고 그대로 앞에 붙입니다.
+     */
+    void writeUncompressed(ByteBuffer raw) {
+        while (raw.hasRemaining()) {
+            ensureOutputSpace();
+            int length = Math.min(raw.remaining(), out.length - outEnd);
+            raw.get(out, outEnd, length);
+            outEnd += length;
+        }
+    }
+
+    public int getPendingOutputBytes() {
+        return outEnd - outStart;
+    }
+
+    /**
+     * 보낼 압축 데이터 (소켓에 쓴 뒤 consume 으로 쓴 만큼 알려줘야 함)
+     */
+    public ByteBuffer pendingOutput() {
+        return out == null ? ByteBuffer.allocate(0) : ByteBuffer.wrap(out, outStart, outEnd - outStart);
+    }
+
+    public void consume(int bytes) {
+        outStart += bytes;
+        if (outStart == outEnd) {
+            out = null; // 유휴 연결이 송신 버퍼를 들고 있지 않도록
+            outStart = 0;
+            outEnd = 0;
+        }
+    }
+
+    // ===== 수신 =====
+
+    /**
+     * 소켓에서 읽은 압축 데이터를 넘깁니다.
+     *
+     * @return 아직 풀지 못한 데이터가 상한을 넘으면 false
+     */
+    public boolean feed(ByteBuffer compressed) {
+        int remaining = inflater.getRemaining();
+        int length = compressed.remaining();
+        if (remaining + length > MAX_PENDING_INPUT) {
+            return false;
+        }
+        if (in == null || remaining + length > in.length) {
+            byte[] target = new byte[Math.max(remaining + length, 4 * 1024)];
+            if (remaining > 0) {
+                System.arraycopy(in, inEnd - remaining, target, 0, remaining);
+            }
+            in = target;
+        } else if (remaining > 0) {
+            System.arraycopy(in, inEnd - remaining, in, 0, remaining);
+        }
+        compressed.get(in, remaining, length);
+        inEnd = remaining + length;
+        inflater.setInput(in, 0, inEnd);
+        return true;
+    }
+
+    /**
+     * 압축 수신 데이터를 dst 에 최대 length 바이트 풉니다.
+     *
+     * @return 푼 바이트 수 (더 풀 데이터가 없으면 0)
+     * @throws ZipException 올바른 deflate 데이터가 아니거나 스트림이 이미 끝난 경우
+     */
+    public int inflate(byte[] dst, int offset, int length) throws ZipException {
+        if (inflater.finished() && inflater.getRemaining() > 0) {
+            throw new ZipException("Data after end of compressed stream");
+        }
+        try {
+            return inflater.inflate(dst, offset, length);
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+    }
+
+    public boolean hasPendingInput() {
+        return inflater.getRemaining() > 0;
+    }
+
+    /**
+     * 네이티브 메모리를 반납합니다. 여러 번 불러도 안전합니다.
+     */
+    public void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        deflater.end();
+        inflater.end();
+        out = null;
+        in = null;
+        ACTIVE.decrementAndGet();
+    }
+
+    public static int getActiveCount() {
+        return ACTIVE.get();
+    }
+
+    public static long getRawBytes() {
+        return RAW_BYTES.sum();
+    }
+
+    public static long getCompressedBytes() {
+        return COMPRESSED_BYTES.sum();
+    }
+
+    // 앞쪽의 이미 보낸 부분을 당기고, 그래도 MIN_OUTPUT_SPACE 가 없으면 두 배로 키움
+    private void ensureOutputSpace() {
+        if (out == null) {
+            out = new byte[1024];
+            return;
+        }
+        if (out.length - outEnd >= MIN_OUTPUT_SPACE) {
+            return;
+        }
+        int pending = outEnd - outStart;
+        byte[] target = pending + MIN_OUTPUT_SPACE > out.length ? new byte[out.length * 2] : out;
+        System.arraycopy(out, outStart, target, 0, pending);
+        out = target;
+        outStart = 0;
+        outEnd = pending;
+    }
+}
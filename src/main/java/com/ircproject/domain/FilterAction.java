@@ -0,0 +1,30 @@
+package com.ircproject.domain;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : FilterAction
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 금칙어 필터에 걸린 메시지를 어떻게 처리할지 (채널별로 설정, 귓속말은 서버 기본값)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public enum FilterAction {
+    BLOCK,  // 전달하지 않고 보낸 사람에게 404 로 알림
+    CENSOR, // 일치한 부분을 *** 로 가려서 전달
+    OFF;    // 검사하지 않음
+
+    /**
+     * @return 이름에 해당하는 동작 (대소문자 무시), 없으면 null
+     */
+    public static FilterAction fromName(String name) {
+        for (FilterAction action : values()) {
+            if (action.name().equalsIgnoreCase(name)) {
+                return action;
+            }
+        }
+        return null;
+    }
+}
@@ -12,18 +12,28 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 5.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       IRCv3 message-tags 추가
  */
 
 // Java 21 Record: 불변(Immutable) 데이터 객체를 아주 간결하게 정의
 public record IrcMessage(
+        MessageTags tags,   // 예: "@time=...;msgid=..." (없으면 MessageTags.EMPTY, 요청 시에만 디코딩)
         String prefix,      // 예: ":dave!user@host" (없으면 null)
         String command,     // 예: "PRIVMSG"
         List<String> parameters // 예: ["#channel", "Hello World"]
 ) {
     // 생성자에서 parameters가 null이면 빈 리스트로 초기화하여 NPE 방지
     public IrcMessage {
+        if (tags == null) {
+            tags = MessageTags.EMPTY;
+        }
         if (parameters == null) {
             parameters = List.of();
         }
     }
+
+    // 태그 없는 메시지용 생성자
+    public IrcMessage(String prefix, String command, List<String> parameters) {
+        this(MessageTags.EMPTY, prefix, command, parameters);
+    }
 }
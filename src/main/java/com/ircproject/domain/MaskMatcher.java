@@ -0,0 +1,321 @@
+package com.ircproject.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : MaskMatcher
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : nick!user@host 글롭 마스크(*, ?) 목록을 하나의 트라이 오토마톤으로 컴파일합니다.
+ *                  공통 접두어(예: "*!*@")를 공유하므로, 마스크가 수천 개여도 호스트마스크 길이에 비례하는 시간에 매칭됩니다.
+ *                  목록이 바뀔 때마다 새로 컴파일하고, 만들어진 인스턴스는 불변이라 여러 스레드가 공유해도 됩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       매칭용 작업 공간을 스레드마다 하나만 두고 모든 매처가 공유 (다시 컴파일해도 ThreadLocal 이 쌓이지 않음)
+ */
+public final class MaskMatcher {
+
+    public static final MaskMatcher EMPTY = compile(List.of());
+
+    private static final int NONE = -1;
+
+    // 매칭 중 상태 집합의 중복 제거용 (스레드마다 하나, 지금까지 매칭한 가장 큰 오토마톤 크기로 자람)
+    // 매처마다 ThreadLocal 을 두면 목록이 바뀌어 다시 컴파일할 때마다 스레드 맵에 항목이 남으므로 모든 매처가 공유합니다.
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    // 노드별 상태 (배열 인덱스 = 노드 번호, 0 = 루트)
+    private final char[][] labels;  // 일반 문자 간선 (정렬됨, 이진 탐색)
+    private final int[][] targets;  // labels 와 같은 순서의 도착 노드
+    private final int[] anyChar;    // '?' 간선
+    private final int[] anyRun;     // '*' 간선 (입력을 소비하지 않고 이동 가능)
+    private final boolean[] loops;  // '*' 로 들어온 노드는 아무 문자나 소비하며 제자리에 머무름
+    private final boolean[] accepting;
+    private final int maskCount;
+
+    private MaskMatcher(Builder builder, int maskCount) {
+        int size = builder.nodes.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.anyChar = new int[size];
+        this.anyRun = new int[size];
+        this.loops = new boolean[size];
+        this.accepting = new boolean[size];
+        this.maskCount = maskCount;
+
+        for (int i = 0; i < size; i++) {
+            Builder.Node node = builder.nodes.get(i);
+            labels[i] = Arrays.copyOf(node.labels, node.edgeCount);
+            targets[i] = Arrays.copyOf(node.targets, node.edgeCount);
+            sortEdges(labels[i], targets[i]);
+            anyChar[i] = node.anyChar;
+            anyRun[i] = node.anyRun;
+            loops[i] = node.loops;
+            accepting[i] = node.accepting;
+        }
+    }
+
+    /**
+     * 마스크 목록을 컴파일합니다. 대소문자는 IRC 규칙(rfc1459)으로 접어서 비교합니다.
+     */
+    public static MaskMatcher compile(Collection<String> masks) {
+        Builder builder = new Builder();
+        for (String mask : masks) {
+            builder.add(mask);
+        }
+        return new MaskMatcher(builder, masks.size());
+    }
+
+    public int size() {
+        return maskCount;
+    }
+
+    public boolean isEmpty() {
+        return maskCount == 0;
+    }
+
+    /**
+     * 호스트마스크가 목록의 마스크 중 하나라도 일치하는지 확인합니다.
+     */
+    public boolean matches(String hostmask) {
+        if (maskCount == 0) {
+            return false;
+        }
+
+        Scratch s = SCRATCH.get();
+        s.ensureCapacity(accepting.length);
+        int[] current = s.current;
+        int[] next = s.next;
+        int currentSize = s.close(current, 0, 0, anyRun);
+
+        for (int i = 0; i < hostmask.length() && currentSize > 0; i++) {
+            char c = fold(hostmask.charAt(i));
+            int generation = s.nextGeneration();
+            int nextSize = 0;
+            for (int k = 0; k < currentSize; k++) {
+                int state = current[k];
+                if (loops[state]) {
+                    nextSize = s.add(next, nextSize, state, generation);
+                }
+                if (anyChar[state] != NONE) {
+                    nextSize = s.add(next, nextSize, anyChar[state], generation);
+                }
+                int edge = find(labels[state], c);
+                if (edge >= 0) {
+                    nextSize = s.add(next, nextSize, targets[state][edge], generation);
+                }
+            }
+            currentSize = s.closeInPlace(next, nextSize, generation, anyRun);
+
+            int[] swap = current;
+            current = next;
+            next = swap;
+        }
+
+        for (int k = 0; k < currentSize; k++) {
+            if (accepting[current[k]]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컴파일 없이 마스크 하나를 직접 비교합니다. (MODE 응답 등 일회성 비교와 벤치마크 기준선용)
+     */
+    public static boolean matchesOne(String mask, String hostmask) {
+        int m = 0;
+        int h = 0;
+        int starM = NONE;
+        int starH = 0;
+        while (h < hostmask.length()) {
+            if (m < mask.length() && (mask.charAt(m) == '?' || fold(mask.charAt(m)) == fold(hostmask.charAt(h)))) {
+                m++;
+                h++;
+            } else if (m < mask.length() && mask.charAt(m) == '*') {
+                starM = m++;
+                starH = h;
+            } else if (starM != NONE) {
+                m = starM + 1;
+                h = ++starH;
+            } else {
+                return false;
+            }
+        }
+        while (m < mask.length() && mask.charAt(m) == '*') {
+            m++;
+        }
+        return m == mask.length();
+    }
+
+    /**
+     * rfc1459 대소문자 접기: A-Z -> a-z, []\~ -> {}|^
+     */
+    public static char fold(char c) {
+        if (c >= 'A' && c <= '^') {
+            return (char) (c + 32);
+        }
+        return c;
+    }
+
+    private static int find(char[] sorted, char c) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = sorted[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static void sortEdges(char[] sortedLabels, int[] sortedTargets) {
+        // 간선 수가 적으므로 삽입 정렬
+        for (int i = 1; i < sortedLabels.length; i++) {
+            char label = sortedLabels[i];
+            int target = sortedTargets[i];
+            int j = i - 1;
+            while (j >= 0 && sortedLabels[j] > label) {
+                sortedLabels[j + 1] = sortedLabels[j];
+                sortedTargets[j + 1] = sortedTargets[j];
+                j--;
+            }
+            sortedLabels[j + 1] = label;
+            sortedTargets[j + 1] = target;
+        }
+    }
+
+    private static final class Scratch {
+        private int[] current = new int[0];
+        private int[] next = new int[0];
+        private int[] seen = new int[0]; // 노드별 마지막으로 추가된 generation
+        private int generation;
+
+        void ensureCapacity(int size) {
+            if (seen.length < size) {
+                current = new int[size];
+                next = new int[size];
+                seen = new int[size];
+                Arrays.fill(seen, -1); // 새 배열의 0 이 generation 0 과 겹치지 않도록
+            }
+        }
+
+        int nextGeneration() {
+            if (++generation == 0) {
+                Arrays.fill(seen, -1); // 한 바퀴 돌면 이전 표시와 겹치지 않도록 초기화
+            }
+            return generation;
+        }
+
+        int add(int[] set, int size, int state, int gen) {
+            if (seen[state] != gen) {
+                seen[state] = gen;
+                set[size++] = state;
+            }
+            return size;
+        }
+
+        // 루트에서 '*' 간선을 따라 입력 소비 없이 갈 수 있는 상태를 모읍니다.
+        int close(int[] set, int size, int state, int[] anyRun) {
+            int gen = nextGeneration();
+            size = add(set, size, state, gen);
+            return closeInPlace(set, size, gen, anyRun);
+        }
+
+        int closeInPlace(int[] set, int size, int gen, int[] anyRun) {
+            for (int k = 0; k < size; k++) {
+                int run = anyRun[set[k]];
+                if (run != NONE) {
+                    size = add(set, size, run, gen);
+                }
+            }
+            return size;
+        }
+    }
+
+    private static final class Builder {
+        private final List<Node> nodes = new ArrayList<>();
+
+        Builder() {
+            nodes.add(new Node(false));
+        }
+
+        void add(String mask) {
+            int state = 0;
+            for (int i = 0; i < mask.length(); i++) {
+                char c = mask.charAt(i);
+                if (c == '*') {
+                    // 연속된 '*' 는 하나와 같음
+                    while (i + 1 < mask.length() && mask.charAt(i + 1) == '*') {
+                        i++;
+                    }
+                    Node node = nodes.get(state);
+                    if (node.anyRun == NONE) {
+                        node.anyRun = newNode(true);
+                    }
+                    state = node.anyRun;
+                } else if (c == '?') {
+                    Node node = nodes.get(state);
+                    if (node.anyChar == NONE) {
+                        node.anyChar = newNode(false);
+                    }
+                    state = node.anyChar;
+                } else {
+                    state = child(state, fold(c));
+                }
+            }
+            nodes.get(state).accepting = true;
+        }
+
+        private int child(int state, char c) {
+            Node node = nodes.get(state);
+            for (int i = 0; i < node.edgeCount; i++) {
+                if (node.labels[i] == c) {
+                    return node.targets[i];
+                }
+            }
+            int created = newNode(false);
+            if (node.edgeCount == node.labels.length) {
+                int capacity = Math.max(2, node.edgeCount * 2);
+                node.labels = Arrays.copyOf(node.labels, capacity);
+                node.targets = Arrays.copyOf(node.targets, capacity);
+            }
+            node.labels[node.edgeCount] = c;
+            node.targets[node.edgeCount++] = created;
+            return created;
+        }
+
+        private int newNode(boolean loops) {
+            nodes.add(new Node(loops));
+            return nodes.size() - 1;
+        }
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final int[] NO_TARGETS = new int[0];
+
+        private static final class Node {
+            private char[] labels = NO_LABELS;
+            private int[] targets = NO_TARGETS;
+            private int edgeCount;
+            private final boolean loops;
+            private int anyChar = NONE;
+            private int anyRun = NONE;
+            private boolean accepting;
+
+            Node(boolean loops) {
+                this.loops = loops;
+            }
+        }
+    }
+}
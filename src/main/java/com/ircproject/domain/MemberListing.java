@@ -0,0 +1,214 @@
+package com.ircproject.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : MemberListing
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널 멤버 목록을 512 바이트 353(RPL_NAMREPLY) 라인 단위로 미리 나눠서 캐시합니다.
+ *                  입장/퇴장 시 해당 멤버가 속한 라인만 무효화하므로, 대형 채널에 입장이 몰려도 전체 목록을 다시 만들지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       퇴장으로 빈 자리를 마지막 라인의 멤버로 채워서 라인 수를 최소로 유지
+ */
+final class MemberListing {
+
+    // RFC 1459: CR-LF 포함 한 줄 최대 512 바이트
+    private static final int LINE_LIMIT = 512;
+    private static final int MIN_NAMES_BUDGET = 64;
+
+    private static final byte[] NAMES_PREFIX = ":server 353 ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] WHO_PREFIX = ":server 352 ".getBytes(StandardCharsets.UTF_8);
+
+    private final String channelName;
+    private final byte[] namesHeader; // " = #채널 :"
+    private final int namesBudget;    // 한 라인에 들어갈 수 있는 닉네임 목록 바이트 수
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final Map<User, Entry> entries = new HashMap<>();
+
+    MemberListing(String channelName) {
+        this.channelName = channelName;
+        this.namesHeader = (" = " + channelName + " :").getBytes(StandardCharsets.UTF_8);
+        // 요청자 닉네임은 최대 NICKLEN 이라고 가정하고 남는 공간을 닉네임 목록에 씁니다.
+        this.namesBudget = Math.max(MIN_NAMES_BUDGET,
+                LINE_LIMIT - NAMES_PREFIX.length - User.MAX_NICKNAME_LENGTH - namesHeader.length - 2);
+    }
+
+    synchronized void add(User user, String token) {
+        if (entries.containsKey(user)) {
+            return;
+        }
+        Entry entry = new Entry(user, token);
+        entries.put(user, entry);
+        place(entry);
+    }
+
+    synchronized void remove(User user) {
+        Entry entry = entries.remove(user);
+        if (entry != null) {
+            unplace(entry);
+        }
+    }
+
+    /**
+     * 닉네임 변경이나 모드(@ 등) 변경으로 멤버 표시가 바뀌었을 때 호출합니다.
+     */
+    synchronized void update(User user, String token) {
+        Entry entry = entries.get(user);
+        if (entry == null) {
+            return;
+        }
+        entry.who = null;
+        if (entry.token.equals(token)) {
+            return;
+        }
+        unplace(entry);
+        entry.token = token;
+        entry.tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+        place(entry);
+    }
+
+    /**
+     * 요청자에게 353 라인들을 전송합니다. 요청자별로 달라지는 부분(닉네임)만 새로 인코딩합니다.
+     */
+    synchronized void writeNames(User requester) {
+        byte[] prefix = concat(NAMES_PREFIX, requester.getNickname().getBytes(StandardCharsets.UTF_8));
+        for (Chunk chunk : chunks) {
+            requester.sendMessage(prefix);
+            requester.sendMessage(chunk.encoded());
+        }
+    }
+
+    /**
+     * 요청자에게 352(RPL_WHOREPLY) 라인들을 전송합니다. 멤버별 라인 조각은 바뀌기 전까지 재사용합니다.
+     */
+    synchronized void writeWho(User requester) {
+        byte[] prefix = concat(WHO_PREFIX, requester.getNickname().getBytes(StandardCharsets.UTF_8));
+        for (Chunk chunk : chunks) {
+            for (Entry entry : chunk.entries) {
+                requester.sendMessage(prefix);
+                requester.sendMessage(entry.who());
+            }
+        }
+    }
+
+    // 마지막 라인에 자리가 있으면 붙이고, 없으면 새 라인을 엽니다.
+    private void place(Entry entry) {
+        Chunk last = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (last == null || !last.fits(entry)) {
+            last = new Chunk();
+            chunks.add(last);
+        }
+        last.add(entry);
+    }
+
+    // 빠진 자리는 마지막 라인의 멤버를 옮겨 채웁니다. (중간 라인이 점점 비어 353 라인이 늘어나지 않도록)
+    // 마지막 라인만 덜 찬 상태가 유지되고, 다시 인코딩하는 라인은 많아야 두 개입니다.
+    private void unplace(Entry entry) {
+        Chunk chunk = entry.chunk;
+        chunk.remove(entry);
+
+        Chunk last = chunks.get(chunks.size() - 1);
+        if (chunk != last) {
+            for (int i = last.entries.size() - 1; i >= 0; i--) {
+                Entry moved = last.entries.get(i);
+                if (chunk.fits(moved)) {
+                    last.remove(moved);
+                    chunk.add(moved);
+                }
+            }
+            if (last.entries.isEmpty()) {
+                chunks.remove(chunks.size() - 1);
+            }
+        }
+        if (chunk.entries.isEmpty()) {
+            chunks.remove(chunk);
+        }
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private final class Chunk {
+        private final List<Entry> entries = new ArrayList<>();
+        private int bytes;
+        private byte[] encoded;
+
+        boolean fits(Entry entry) {
+            return bytes + (entries.isEmpty() ? 0 : 1) + entry.tokenBytes.length <= namesBudget;
+        }
+
+        void add(Entry entry) {
+            bytes += (entries.isEmpty() ? 0 : 1) + entry.tokenBytes.length;
+            entries.add(entry);
+            entry.chunk = this;
+            encoded = null;
+        }
+
+        void remove(Entry entry) {
+            entries.remove(entry);
+            bytes -= (entries.isEmpty() ? 0 : 1) + entry.tokenBytes.length;
+            entry.chunk = null;
+            encoded = null;
+        }
+
+        // " = #채널 :nick1 @nick2 ...\r\n"
+        byte[] encoded() {
+            if (encoded == null) {
+                byte[] line = new byte[namesHeader.length + bytes + 2];
+                System.arraycopy(namesHeader, 0, line, 0, namesHeader.length);
+                int offset = namesHeader.length;
+                for (int i = 0; i < entries.size(); i++) {
+                    if (i > 0) {
+                        line[offset++] = ' ';
+                    }
+                    byte[] token = entries.get(i).tokenBytes;
+                    System.arraycopy(token, 0, line, offset, token.length);
+                    offset += token.length;
+                }
+                line[offset++] = '\r';
+                line[offset] = '\n';
+                encoded = line;
+            }
+            return encoded;
+        }
+    }
+
+    private final class Entry {
+        private final User user;
+        private String token;
+        private byte[] tokenBytes;
+        private Chunk chunk;
+        private byte[] who;
+
+        Entry(User user, String token) {
+            this.user = user;
+            this.token = token;
+            this.tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+        }
+
+        // " #채널 <user> <host> server <nick> H[@] :0 <nick>\r\n"
+        byte[] who() {
+            if (who == null) {
+                String nickname = user.getNickname();
+                String status = token.length() > nickname.length() ? "H" + token.charAt(0) : "H";
+                who = (" " + channelName + " " + nickname + " " + user.getHost() + " server " + nickname
+                        + " " + status + " :0 " + nickname + "\r\n").getBytes(StandardCharsets.UTF_8);
+            }
+            return who;
+        }
+    }
+}
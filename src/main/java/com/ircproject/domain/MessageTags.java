@@ -0,0 +1,215 @@
+package com.ircproject.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : MessageTags
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : IRCv3 message-tags 섹션 (@key=value;key2 ...)
+ *                  원본 문자열 조각만 들고 있다가, 핸들러가 실제로 요청할 때 한 번만 디코딩합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class MessageTags {
+
+    public static final MessageTags EMPTY = new MessageTags("");
+
+    // '@' 와 뒤따르는 공백을 제외한 태그 섹션 원본 (예: "time=2026-10-19T00:00:00.000Z;+draft/reply=abc")
+    private final String raw;
+
+    // 지연 계산 캐시 (이벤트 루프 스레드에서만 접근하므로 동기화하지 않음)
+    private Map<String, String> decoded;
+    private byte[] wirePrefix;
+
+    private MessageTags(String raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * 파서가 잘라낸 태그 섹션을 디코딩 없이 감쌉니다.
+     */
+    public static MessageTags ofRaw(String raw) {
+        return (raw == null || raw.isEmpty()) ? EMPTY : new MessageTags(raw);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEmpty() {
+        return raw.isEmpty();
+    }
+
+    public String raw() {
+        return raw;
+    }
+
+    /**
+     * @return 태그 값 (값 없는 태그는 빈 문자열), 태그가 없으면 null
+     */
+    public String get(String key) {
+        return asMap().get(key);
+    }
+
+    public boolean contains(String key) {
+        return asMap().containsKey(key);
+    }
+
+    public Map<String, String> asMap() {
+        if (decoded == null) {
+            decoded = isEmpty() ? Map.of() : Collections.unmodifiableMap(decode(raw));
+        }
+        return decoded;
+    }
+
+    /**
+     * 클라이언트 전용 태그(+ 로 시작)만 남긴 태그 집합을 반환합니다. (다른 클라이언트에게 릴레이할 때 사용)
+     */
+    public MessageTags clientOnly() {
+        if (isEmpty()) {
+            return EMPTY;
+        }
+        Builder builder = builder();
+        for (Map.Entry<String, String> entry : asMap().entrySet()) {
+            if (entry.getKey().startsWith("+")) {
+                builder.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 와이어 포맷의 태그 접두어("@태그들 ")를 반환합니다. 한 번만 인코딩해서 모든 수신자가 공유합니다.
+     */
+    public byte[] wirePrefix() {
+        if (wirePrefix == null) {
+            wirePrefix = isEmpty() ? new byte[0] : ("@" + raw + " ").getBytes(StandardCharsets.UTF_8);
+        }
+        return wirePrefix;
+    }
+
+    /**
+     * 이미 인코딩된 IRC 라인 앞에 태그 접두어를 붙입니다.
+     */
+    public byte[] prependTo(byte[] line) {
+        if (isEmpty()) {
+            return line;
+        }
+        byte[] prefix = wirePrefix();
+        byte[] tagged = new byte[prefix.length + line.length];
+        System.arraycopy(prefix, 0, tagged, 0, prefix.length);
+        System.arraycopy(line, 0, tagged, prefix.length, line.length);
+        return tagged;
+    }
+
+    @Override
+    public String toString() {
+        return raw;
+    }
+
+    private static Map<String, String> decode(String raw) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        int start = 0;
+        while (start <= raw.length()) {
+            int end = raw.indexOf(';', start);
+            if (end < 0) {
+                end = raw.length();
+            }
+            if (end > start) {
+                int equals = raw.indexOf('=', start);
+                if (equals < 0 || equals > end) {
+                    tags.put(raw.substring(start, end), "");
+                } else {
+                    tags.put(raw.substring(start, equals), unescape(raw, equals + 1, end));
+                }
+            }
+            start = end + 1;
+        }
+        return tags;
+    }
+
+    // IRCv3 escape 규칙: \: -> ;  \s -> 공백  \\ -> \  \r -> CR  \n -> LF
+    private static String unescape(String raw, int from, int to) {
+        int firstEscape = raw.indexOf('\\', from);
+        if (firstEscape < 0 || firstEscape >= to) {
+            return raw.substring(from, to);
+        }
+        StringBuilder sb = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = raw.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (++i >= to) {
+                break; // 끝에 홀로 남은 역슬래시는 버림
+            }
+            char escaped = raw.charAt(i);
+            switch (escaped) {
+                case ':' -> sb.append(';');
+                case 's' -> sb.append(' ');
+                case 'r' -> sb.append('\r');
+                case 'n' -> sb.append('\n');
+                default -> sb.append(escaped);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void escape(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case ';' -> out.append("\\:");
+                case ' ' -> out.append("\\s");
+                case '\\' -> out.append("\\\\");
+                case '\r' -> out.append("\\r");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * 서버가 생성하는 태그(time, msgid 등)를 조립합니다. build() 시점에 한 번만 직렬화됩니다.
+     */
+    public static final class Builder {
+        private final StringBuilder raw = new StringBuilder();
+
+        private Builder() {
+        }
+
+        public Builder put(String key, String value) {
+            if (raw.length() > 0) {
+                raw.append(';');
+            }
+            raw.append(key);
+            if (value != null && !value.isEmpty()) {
+                raw.append('=');
+                escape(value, raw);
+            }
+            return this;
+        }
+
+        public Builder putAll(MessageTags tags) {
+            if (!tags.isEmpty()) {
+                if (raw.length() > 0) {
+                    raw.append(';');
+                }
+                raw.append(tags.raw());
+            }
+            return this;
+        }
+
+        public MessageTags build() {
+            return ofRaw(raw.toString());
+        }
+    }
+}
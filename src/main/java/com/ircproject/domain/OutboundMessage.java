@@ -0,0 +1,155 @@
+package com.ircproject.domain;
+
+import com.ircproject.service.ServiceEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : OutboundMessage
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 여러 수신자에게 팬아웃되는 메시지.
+ *                  수신자의 capability 조합(variant)별로 와이어 포맷을 최대 한 번만 직렬화해서 공유합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       팬아웃 수신자 수 반환, 기본 라인 길이 조회
+ * 2026. 10. 19.       kobe       채널 대화는 송신 대화 레인으로 (제어 메시지에 밀림)
+ * 2026. 10. 19.       kobe       서비스용 이벤트 첨부
+ * 2026. 10. 19.       kobe       채널 상태 변경 알림용 sendOrderedTo
+ */
+public final class OutboundMessage {
+
+    // 와이어 포맷에 영향을 주는 capability 비트 (SERVER_TIME=1, MESSAGE_TAGS=2 -> variant 0..3)
+    private static final int VARIANT_MASK = Capability.SERVER_TIME.bit() | Capability.MESSAGE_TAGS.bit();
+
+    private static final DateTimeFormatter SERVER_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    // msgid: 기동 시각 + 순번 (서버 인스턴스 안에서 유일)
+    private static final String MSGID_PREFIX = Long.toString(System.currentTimeMillis(), 36) + "-";
+    private static final AtomicLong MSGID_SEQUENCE = new AtomicLong();
+
+    private final byte[] line;
+    private final MessageTags clientTags;
+    private final long timestampMillis;
+    private final byte[][] variants = new byte[VARIANT_MASK + 1][];
+
+    private String msgid;
+
+    // 서비스(의사 사용자)에게 객체로 넘길 이벤트 (없으면 null - 서비스는 받지 않음)
+    private ServiceEvent event;
+
+    private OutboundMessage(byte[] line, MessageTags clientTags) {
+        this.line = line;
+        this.clientTags = clientTags;
+        this.timestampMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * @param line       태그 없는 IRC 라인 (\r\n 포함)
+     * @param clientTags 릴레이할 클라이언트 전용 태그 (message-tags 를 켠 수신자에게만 전달)
+     */
+    public static OutboundMessage of(String line, MessageTags clientTags) {
+        return new OutboundMessage(line.getBytes(StandardCharsets.UTF_8), clientTags.clientOnly());
+    }
+
+    public static OutboundMessage of(String line) {
+        return new OutboundMessage(line.getBytes(StandardCharsets.UTF_8), MessageTags.EMPTY);
+    }
+
+    /**
+     * 수신자의 capability 에 맞는 와이어 포맷을 반환합니다. 같은 variant 는 한 번만 인코딩됩니다.
+     */
+    public byte[] encodeFor(User recipient) {
+        int variant = recipient.getCapabilities() & VARIANT_MASK;
+        byte[] encoded = variants[variant];
+        if (encoded == null) {
+            encoded = encode(variant);
+            variants[variant] = encoded;
+        }
+        return encoded;
+    }
+
+    /**
+     * 서비스가 와이어 포맷을 파싱하지 않고 받을 이벤트를 붙입니다.
+     */
+    public OutboundMessage withEvent(ServiceEvent event) {
+        this.event = event;
+        return this;
+    }
+
+    public ServiceEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * 태그 없는 기본 라인의 바이트 길이 (통계용)
+     */
+    public int length() {
+        return line.length;
+    }
+
+    /**
+     * 응답이나 귓속말처럼 먼저 쌓인 채널 대화를 앞질러도 되는 메시지를 전송합니다.
+     */
+    public void sendTo(User recipient) {
+        recipient.deliver(this, User.Lane.CONTROL);
+    }
+
+    /**
+     * 입장/퇴장/닉 변경처럼 클라이언트의 채널 상태를 바꾸는 알림을 전송합니다. 먼저 쌓인 채널 대화 뒤에 나갑니다.
+     */
+    public void sendOrderedTo(User recipient) {
+        recipient.deliver(this, User.Lane.ORDERED);
+    }
+
+    /**
+     * 채널 대화를 수신자 목록에 전송합니다. 보낸 사람은 echo-message 를 켠 경우에만 자기 메시지를 돌려받습니다.
+     * 수신자의 대화 레인(User.deliver -> sendBulk)에 쌓이므로 제어 메시지보다 늦게 나가고, 밀린 수신자에게서는 먼저 버려집니다.
+     * (입장/퇴장/닉 변경처럼 클라이언트 상태를 바꾸는 알림은 sendOrderedTo 로 보낼 것)
+     *
+     * @return 실제로 보낸 수신자 수
+     */
+    public int broadcast(Collection<User> recipients, User sender) {
+        int sent = 0;
+        for (User recipient : recipients) {
+            if (recipient.equals(sender) && !sender.hasCapability(Capability.ECHO_MESSAGE)) {
+                continue;
+            }
+            recipient.deliver(this, User.Lane.BULK);
+            sent++;
+        }
+        return sent;
+    }
+
+    private byte[] encode(int variant) {
+        if (variant == 0) {
+            return line;
+        }
+
+        MessageTags.Builder tags = MessageTags.builder();
+        if ((variant & Capability.SERVER_TIME.bit()) != 0) {
+            tags.put("time", SERVER_TIME_FORMAT.format(Instant.ofEpochMilli(timestampMillis)));
+        }
+        if ((variant & Capability.MESSAGE_TAGS.bit()) != 0) {
+            tags.put("msgid", msgid());
+            tags.putAll(clientTags);
+        }
+        return tags.build().prependTo(line);
+    }
+
+    private String msgid() {
+        if (msgid == null) {
+            msgid = MSGID_PREFIX + Long.toString(MSGID_SEQUENCE.incrementAndGet(), 36);
+        }
+        return msgid;
+    }
+}
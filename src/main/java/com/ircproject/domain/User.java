@@ -4,9 +4,11 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * packageName    : com.ircproject.domain
@@ -18,16 +20,83 @@ import java.util.Set;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 5.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       유휴 연결 메모리 절감 (지연 버퍼, 배열 채널 목록, identity 해시)
+ * 2026. 10. 19.       kobe       COMPRESS DEFLATE 스트림 압축
+ * 2026. 10. 19.       kobe       송신 우선순위 (제어 레인 / 밀리면 버리는 채널 대화 레인)
+ * 2026. 10. 19.       kobe       팬아웃 수신 지점 deliver (서비스 의사 사용자가 재정의)
+ * 2026. 10. 19.       kobe       채널 상태 변경 알림은 먼저 쌓인 대화 뒤에 (sendOrdered)
+ * 2026. 10. 19.       kobe       마지막으로 꺼낸 라인의 바이트 수 (처리 한도를 문자 수가 아닌 바이트로)
  */
 public class User {
+    // 닉네임 최대 길이 (NICKLEN) - 353/352 라인 길이 계산의 기준
+    public static final int MAX_NICKNAME_LENGTH = 30;
+
+    // 서버가 연결마다 발급하는 촘촘한 정수 id (ConnectionTable 인덱스), 연결 전/해제 후에는 NO_CONNECTION
+    public static final int NO_CONNECTION = -1;
+
     private String nickname;
+    private int connectionId = NO_CONNECTION;
+    private String host = "unknown";
     private final SocketChannel socketChannel;
 
-    // 조각난 메시지를 모아둘 버퍼
-    private final StringBuilder buffer = new StringBuilder();
+    // 한 연결이 쌓아둘 수 있는 미처리 수신 데이터 상한 (태그 8191 + 본문 512 를 넉넉히 포함)
+    public static final int MAX_INBOUND_BYTES = 16 * 1024;
+
+    // 조각난 메시지를 모아둘 버퍼 (처리할 데이터가 남아 있을 때만 할당, 유휴 연결은 null)
+    private byte[] inbound;
+    private int inboundStart;
+    private int inboundEnd;
+    private int lastLineBytes; // 마지막으로 꺼낸 라인이 버퍼에서 차지한 바이트 수 (\r\n 포함)
+
+    // COMPRESS DEFLATE 를 켠 연결의 압축 스트림 (켜지 않았으면 null)
+    private DeflateStream compression;
+
+    // 마지막으로 소켓에서 데이터를 읽은 시각 (지연 추적용, System.nanoTime)
+    private long lastReadNanos;
 
     // 내가 입장한 채널 목록 관리
-    private final Set<String> joinedChannels = new HashSet<>();
+    // 대부분의 사용자는 채널 몇 개에만 있으므로 HashSet 대신 작은 배열을 선형 탐색
+    private static final String[] NO_CHANNELS = new String[0];
+    private String[] joinedChannels = NO_CHANNELS;
+    private int joinedChannelCount;
+
+    // CAP 협상으로 켠 기능들 (Capability.bit() 의 OR)
+    private int capabilities;
+
+    // 채널 대화 레인에 쌓아둘 수 있는 상한 - 넘으면 가장 오래된 대화부터 버림 (제어 레인은 버리지 않음)
+    public static final int MAX_BULK_BYTES = 256 * 1024;
+    private static final LongAdder SHED_MESSAGES = new LongAdder();
+    private static final LongAdder SHED_BYTES = new LongAdder();
+
+    /**
+     * 팬아웃 메시지를 쌓을 레인
+     */
+    public enum Lane {
+        CONTROL, // 응답 코드, PING/PONG, ERROR, 귓속말 - 먼저 쌓인 채널 대화를 앞질러 나감
+        ORDERED, // 입장/퇴장/닉 변경/모드 변경 - 먼저 쌓인 채널 대화 뒤에 나가고 버리지 않음
+        BULK     // 채널 대화 - 밀리면 오래된 것부터 버림
+    }
+
+    // 아직 소켓에 쓰지 못한 송신 데이터 (필요할 때만 할당)
+    // 제어 레인(응답 코드, PING/PONG, ERROR, 귓속말, 채널 상태 변경 알림)은 채널 대화 레인보다 항상 먼저 나감
+    private ArrayDeque<ByteBuffer> pendingWrites;
+    private ArrayDeque<ByteBuffer> pendingBulk;
+    private int pendingBulkBytes;
+    private ByteBuffer partialWrite; // 소켓에 일부만 쓴 라인 (라인 중간에 다른 라인이 끼지 않도록 다음 flush 에서 가장 먼저)
+    private Consumer<User> writeListener;
+    private boolean flushScheduled;
+
+    // 처리 한도를 넘겨 남은 라인이 있어서 서버의 라운드로빈 대기열에 들어가 있는 상태
+    private boolean readQueued;
+
+    // OPER 인증을 통과한 서버 운영자
+    private boolean serverOperator;
+
+    // QUIT 등으로 서버가 연결을 닫아야 하는 상태
+    private boolean closeRequested;
+
+    // 공통 채널 피어 계산용 방문 표시 (ChannelRepository.forEachPeer 의 epoch)
+    private int visitEpoch;
 
     // 생성 시점에는 닉네임을 아직 모를 수 있으므로(연결 직후), 초기값은 *로 설정하거나 null 처리
     public User(SocketChannel socketChannel) {
@@ -43,77 +112,536 @@ public class User {
         return nickname;
     }
 
+    public String getHost() {
+        return host;
+    }
+
+    // 접속 시점에 한 번만 조회해서 저장 (getRemoteAddress() 는 매번 호출하기엔 비쌈)
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    // 밴 마스크 비교용 nick!user@host (USER 명령을 받지 않으므로 user 자리에도 닉네임 사용)
+    public String getHostmask() {
+        return nickname + "!" + nickname + "@" + host;
+    }
+
+    public int getConnectionId() {
+        return connectionId;
+    }
+
+    public void setConnectionId(int connectionId) {
+        this.connectionId = connectionId;
+    }
+
     public SocketChannel getSocketChannel() {
         return socketChannel;
     }
 
-    // Set<User> 같은 컬렉션에 담을 때 중복 제거를 위해 equals/hashCode 필수
-    // 여기서는 'SocketChannel'이 유니크한 식별자 역할을 합니다. (닉네임은 변경 가능하므로 식별자로 부적합)
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        User user = (User) o;
-        return Objects.equals(socketChannel, user.socketChannel);
+    public int getCapabilities() {
+        return capabilities;
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(socketChannel);
+    public boolean hasCapability(Capability capability) {
+        return (capabilities & capability.bit()) != 0;
     }
 
-    // 들어온 데이터를 버퍼에 쌓기
-    public void appendData(String data) {
-        buffer.append(data);
+    public void enableCapability(Capability capability) {
+        capabilities |= capability.bit();
     }
 
-    // 완성된 라인(\r\n 또는 \n)이 있는지 확인하고 꺼내기
-    public String nextLine() {
-        String content = buffer.toString();
-        // 윈도우(\r\n)와 유닉스(\n) 줄바꿈 모두 처리
-        int eolIndex = content.indexOf("\n");
+    public void disableCapability(Capability capability) {
+        capabilities &= ~capability.bit();
+    }
+
+    // equals/hashCode 는 Object 의 identity 기반 구현을 그대로 사용합니다.
+    // 연결 하나당 User 객체가 정확히 하나이므로 SocketChannel 비교와 같은 의미이고,
+    // Objects.hash(socketChannel) 처럼 호출마다 varargs 배열을 만들지 않습니다.
+
+    /**
+     * 소켓에서 읽은 데이터를 버퍼에 쌓습니다. (src 의 position 부터 limit 까지 복사)
+     *
+     * 압축을 켠 연결은 압축 데이터를 넘겨받아 수신 버퍼가 상한에 닿을 때까지만 풀고, 나머지는 nextLine() 이 필요할 때 풉니다.
+     *
+     * @return 미처리 데이터가 상한(MAX_INBOUND_BYTES)을 넘으면 false (개행 없이 계속 보내는 클라이언트)
+     * @throws IOException 압축 데이터가 올바르지 않은 경우
+     */
+    public boolean appendData(ByteBuffer src) throws IOException {
+        if (compression != null) {
+            if (!compression.feed(src)) {
+                return false;
+            }
+            inflatePending();
+            // 풀린 데이터만으로 상한이 찼는데 개행이 없으면 역시 비정상
+            return inboundEnd - inboundStart < MAX_INBOUND_BYTES || hasCompleteLine();
+        }
+
+        int length = src.remaining();
+        if (inboundEnd - inboundStart + length > MAX_INBOUND_BYTES) {
+            return false;
+        }
+        ensureInboundSpace(length);
+        src.get(inbound, inboundEnd, length);
+        inboundEnd += length;
+        return true;
+    }
+
+    // 버퍼 끝에 length 바이트를 쓸 수 있게 함 (이미 처리한 앞부분을 버리고, 그래도 부족하면 키움)
+    private void ensureInboundSpace(int length) {
+        int pending = inboundEnd - inboundStart;
+        if (inbound == null) {
+            inbound = new byte[Math.max(length, 256)];
+        } else if (inboundEnd + length > inbound.length) {
+            byte[] target = pending + length > inbound.length
+                    ? new byte[Math.max(inbound.length * 2, pending + length)]
+                    : inbound;
+            System.arraycopy(inbound, inboundStart, target, 0, pending);
+            inbound = target;
+            inboundStart = 0;
+            inboundEnd = pending;
+        }
+    }
 
-        if (eolIndex == -1) {
-            return null; // 아직 완전한 문장이 도착하지 않음
+    // 압축 수신 데이터를 수신 버퍼 상한까지 풂 (압축 폭탄이 와도 메모리는 MAX_INBOUND_BYTES 를 넘지 않음)
+    private void inflatePending() throws IOException {
+        while (compression.hasPendingInput()) {
+            int space = MAX_INBOUND_BYTES - (inboundEnd - inboundStart);
+            if (space <= 0) {
+                return;
+            }
+            ensureInboundSpace(Math.min(space, 4 * 1024));
+            int inflated = compression.inflate(inbound, inboundEnd, Math.min(space, inbound.length - inboundEnd));
+            if (inflated == 0) {
+                break; // 블록이 덜 도착함
+            }
+            inboundEnd += inflated;
         }
+        if (inboundEnd == inboundStart) {
+            inbound = null;
+            inboundStart = 0;
+            inboundEnd = 0;
+        }
+    }
 
-        // 한 줄을 잘라냄(개행문자 포함해서 제거)
-        String line = content.substring(0, eolIndex).trim(); // \r 처리를 위해 trim 사용
+    private boolean hasCompleteLine() {
+        for (int i = inboundStart; i < inboundEnd; i++) {
+            if (inbound[i] == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // 처리한 부분은 버퍼에서 삭제
-        buffer.delete(0, eolIndex + 1);
+    public long getLastReadNanos() {
+        return lastReadNanos;
+    }
 
+    public void setLastReadNanos(long lastReadNanos) {
+        this.lastReadNanos = lastReadNanos;
+    }
+
+    // 아직 처리하지 않은 수신 데이터가 남아 있는지 (완성된 라인이 아닐 수도 있음)
+    public boolean hasBufferedInput() {
+        return inboundEnd > inboundStart || (compression != null && compression.hasPendingInput());
+    }
+
+    // 완성된 라인(\r\n 또는 \n)이 있는지 확인하고 꺼내기
+    public String nextLine() throws IOException {
+        String line = takeLine();
+        if (line == null && compression != null && compression.hasPendingInput()) {
+            // 수신 버퍼 상한 때문에 덜 풀어둔 데이터가 있으면 이어서 풂
+            inflatePending();
+            line = takeLine();
+        }
         return line;
     }
 
+    /**
+     * 마지막 nextLine() 이 수신 버퍼에서 꺼낸 바이트 수 (\r\n 포함, 압축 연결은 푼 뒤의 크기)
+     * 멀티바이트 문자가 섞이면 문자열 길이보다 커지므로, 처리 한도와 부하 집계는 이 값을 씁니다.
+     */
+    public int getLastLineBytes() {
+        return lastLineBytes;
+    }
+
+    private String takeLine() {
+        for (int i = inboundStart; i < inboundEnd; i++) {
+            if (inbound[i] != '\n') {
+                continue;
+            }
+
+            // 한 줄을 잘라냄 - 바이트 단위로 자르므로 UTF-8 멀티바이트 문자가 두 번의 read 에 나뉘어도 안전
+            String line = new String(inbound, inboundStart, i - inboundStart, StandardCharsets.UTF_8).trim(); // \r 처리를 위해 trim 사용
+
+            // 처리한 부분은 버퍼에서 삭제 (다 비었으면 배열 자체를 반납)
+            lastLineBytes = i + 1 - inboundStart;
+            inboundStart = i + 1;
+            if (inboundStart == inboundEnd) {
+                inbound = null;
+                inboundStart = 0;
+                inboundEnd = 0;
+            }
+            return line;
+        }
+        return null; // 아직 완전한 문장이 도착하지 않음
+    }
+
     /**
      * 사용자에게 메시지를 전송합니다.
      */
     public void sendMessage(String message) {
-        if (socketChannel != null && socketChannel.isOpen()) {
+        sendMessage(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이미 인코딩된 메시지를 전송합니다. (여러 수신자에게 같은 바이트를 재사용할 때)
+     */
+    public void sendMessage(byte[] message) {
+        if (socketChannel == null || !socketChannel.isOpen()) {
+            return;
+        }
+
+        // 서버가 쓰기 예약을 관리하지 않는 경우(테스트 등)에는 즉시 전송
+        if (writeListener == null) {
             try {
-                socketChannel.write(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+                socketChannel.write(ByteBuffer.wrap(message));
             } catch (IOException e) {
                 // 전송 실패 시 로그를 남기거나 연결 종료 처리가 필요할 수 있음
                 // 지금은 간단히 프린트
                 e.printStackTrace();
             }
+            return;
+        }
+
+        // 이벤트 루프가 명령 처리 후 한 번에 flush 하도록 쌓아둡니다. (여러 줄 -> 한 번의 write)
+        if (pendingWrites == null) {
+            pendingWrites = new ArrayDeque<>();
+        }
+        pendingWrites.add(ByteBuffer.wrap(message));
+        scheduleFlush();
+    }
+
+    /**
+     * 채널 대화처럼 늦게 가도 되고 밀리면 버려도 되는 메시지를 전송합니다.
+     * 제어 레인(sendMessage)에 쌓인 데이터가 먼저 나가고, 쌓인 양이 MAX_BULK_BYTES 를 넘으면 가장 오래된 것부터 버립니다.
+     */
+    public void sendBulk(byte[] message) {
+        if (writeListener == null || socketChannel == null || !socketChannel.isOpen()) {
+            sendMessage(message); // 쓰기 예약이 없으면 레인 구분도 없음
+            return;
+        }
+
+        if (pendingBulk == null) {
+            pendingBulk = new ArrayDeque<>();
+        }
+        pendingBulk.add(ByteBuffer.wrap(message));
+        pendingBulkBytes += message.length;
+        while (pendingBulkBytes > MAX_BULK_BYTES) {
+            ByteBuffer shed = pendingBulk.pollFirst();
+            pendingBulkBytes -= shed.remaining();
+            SHED_MESSAGES.increment();
+            SHED_BYTES.add(shed.remaining());
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * 채널을 함께 쓰는 사람들의 상태를 바꾸는 알림(JOIN, PART, QUIT, NICK, MODE)을 전송합니다.
+     * 먼저 쌓인 채널 대화를 앞지르면 클라이언트가 이미 바뀐 닉네임이나 나간 사람의 대화를 받게 되므로,
+     * 대화 레인에 쌓인 것을 제어 레인 뒤로 옮긴 다음(옮긴 대화는 더 이상 버리지 않음) 그 뒤에 쌓습니다.
+     */
+    public void sendOrdered(byte[] message) {
+        if (pendingBulk != null && !pendingBulk.isEmpty()) {
+            if (pendingWrites == null) {
+                pendingWrites = new ArrayDeque<>();
+            }
+            pendingWrites.addAll(pendingBulk);
+            pendingBulk.clear();
+            pendingBulkBytes = 0;
+        }
+        sendMessage(message);
+    }
+
+    /**
+     * 팬아웃 메시지를 받습니다. 소켓 연결은 자기 capability 에 맞는 와이어 포맷을 레인에 쌓고,
+     * 서비스 같은 내부 사용자는 재정의해서 메시지에 붙은 이벤트를 객체 그대로 받습니다.
+     */
+    public void deliver(OutboundMessage message, Lane lane) {
+        byte[] encoded = message.encodeFor(this);
+        switch (lane) {
+            case CONTROL -> sendMessage(encoded);
+            case ORDERED -> sendOrdered(encoded);
+            case BULK -> sendBulk(encoded);
+        }
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            writeListener.accept(this);
+        }
+    }
+
+    /**
+     * 쌓인 송신 데이터를 gathering write 한 번으로 소켓에 씁니다.
+     *
+     * @return 모두 전송했으면 true, 소켓 버퍼가 가득 차서 남은 데이터가 있으면 false
+     */
+    public boolean flush() throws IOException {
+        flushScheduled = false;
+        if (compression != null) {
+            return flushCompressed();
+        }
+        if (!hasPendingLanes()) {
+            return true;
+        }
+        if (socketChannel == null || !socketChannel.isOpen()) {
+            clearLanes();
+            return true;
+        }
+
+        // 일부만 쓴 라인 -> 제어 레인 -> 채널 대화 레인 순서로 한 번에
+        socketChannel.write(orderedPendingWrites());
+        if (partialWrite != null && !partialWrite.hasRemaining()) {
+            partialWrite = null;
+        }
+        if (partialWrite == null) {
+            partialWrite = takeWritten(pendingWrites, false);
+        }
+        if (partialWrite == null) {
+            partialWrite = takeWritten(pendingBulk, true);
+        }
+
+        if (!hasPendingLanes()) {
+            clearLanes(); // 유휴 연결이 큐를 계속 들고 있지 않도록 해제
+            return true;
+        }
+        return false;
+    }
+
+    // 이번 flush 까지 쌓인 라인을 한 묶음으로 압축하고 SYNC_FLUSH 로 끝냄 (묶음마다 상대가 바로 풀 수 있음)
+    // 앞 묶음이 소켓에 다 나간 뒤에만 다음 묶음을 압축해서, 그 전까지는 레인 우선순위와 버리기가 적용되도록 함
+    private boolean flushCompressed() throws IOException {
+        if (socketChannel == null || !socketChannel.isOpen()) {
+            clearLanes();
+            compression.consume(compression.getPendingOutputBytes());
+            return true;
+        }
+        if (compression.getPendingOutputBytes() > 0) {
+            compression.consume(socketChannel.write(compression.pendingOutput()));
+            if (compression.getPendingOutputBytes() > 0) {
+                return false;
+            }
+        }
+        if (hasPendingLanes()) {
+            for (ByteBuffer buffer : orderedPendingWrites()) {
+                compression.write(buffer);
+            }
+            compression.syncFlush();
+            clearLanes();
+            compression.consume(socketChannel.write(compression.pendingOutput()));
+        }
+        return compression.getPendingOutputBytes() == 0;
+    }
+
+    private ByteBuffer[] orderedPendingWrites() {
+        int count = (partialWrite != null ? 1 : 0) + (pendingWrites != null ? pendingWrites.size() : 0)
+                + (pendingBulk != null ? pendingBulk.size() : 0);
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        int index = 0;
+        if (partialWrite != null) {
+            buffers[index++] = partialWrite;
+        }
+        if (pendingWrites != null) {
+            for (ByteBuffer buffer : pendingWrites) {
+                buffers[index++] = buffer;
+            }
+        }
+        if (pendingBulk != null) {
+            for (ByteBuffer buffer : pendingBulk) {
+                buffers[index++] = buffer;
+            }
+        }
+        return buffers;
+    }
+
+    // 레인 앞쪽에서 소켓에 쓴 라인들을 꺼냄, 일부만 쓴 라인이 있으면 그것도 꺼내서 반환 (없으면 null)
+    private ByteBuffer takeWritten(ArrayDeque<ByteBuffer> lane, boolean bulk) {
+        if (lane == null) {
+            return null;
+        }
+        ByteBuffer head;
+        while ((head = lane.peekFirst()) != null && head.position() > 0) {
+            lane.pollFirst();
+            if (bulk) {
+                pendingBulkBytes -= head.limit(); // 일부라도 나간 라인은 더 이상 버릴 수 없으므로 상한 계산에서 뺌
+            }
+            if (head.hasRemaining()) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasPendingLanes() {
+        return partialWrite != null
+                || (pendingWrites != null && !pendingWrites.isEmpty())
+                || (pendingBulk != null && !pendingBulk.isEmpty());
+    }
+
+    private void clearLanes() {
+        partialWrite = null;
+        pendingWrites = null;
+        pendingBulk = null;
+        pendingBulkBytes = 0;
+    }
+
+    /**
+     * 이 연결에 DEFLATE 압축을 켭니다. 호출 시점까지 쌓인 송신 데이터(협상 응답 포함)는 압축하지 않고 먼저 나가며,
+     * 수신 버퍼에 남은 데이터(협상 명령 뒤에 바로 붙어 온 부분)는 압축된 데이터로 취급합니다.
+     */
+    public void enableCompression(int level) {
+        DeflateStream stream = new DeflateStream(level);
+        if (hasPendingLanes()) {
+            for (ByteBuffer buffer : orderedPendingWrites()) {
+                stream.writeUncompressed(buffer);
+            }
+            clearLanes();
+        }
+        if (inboundEnd > inboundStart) {
+            stream.feed(ByteBuffer.wrap(inbound, inboundStart, inboundEnd - inboundStart));
         }
+        inbound = null;
+        inboundStart = 0;
+        inboundEnd = 0;
+        compression = stream;
+    }
+
+    public boolean isCompressed() {
+        return compression != null;
+    }
+
+    /**
+     * 압축 스트림의 네이티브 메모리를 반납합니다. (연결 종료 시)
+     */
+    public void releaseCompression() {
+        if (compression != null) {
+            compression.end();
+            compression = null; // 이후 남은 송신 데이터는 닫힌 소켓 경로에서 버려짐
+        }
+    }
+
+    /**
+     * 아직 소켓에 쓰지 못한 송신 바이트 수 (모니터링용, 큐를 순회하므로 자주 부르지 말 것)
+     */
+    public long getPendingWriteBytes() {
+        long bytes = compression == null ? 0 : compression.getPendingOutputBytes();
+        bytes += pendingBulkBytes;
+        if (partialWrite != null) {
+            bytes += partialWrite.remaining();
+        }
+        if (pendingWrites != null) {
+            for (ByteBuffer buffer : pendingWrites) {
+                bytes += buffer.remaining();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 채널 대화 레인 상한을 넘어 버린 메시지 수 (전체 연결 합계)
+     */
+    public static long getShedMessageCount() {
+        return SHED_MESSAGES.sum();
+    }
+
+    public static long getShedByteCount() {
+        return SHED_BYTES.sum();
+    }
+
+    /**
+     * 이벤트 루프가 송신 데이터를 모아서 flush 하도록 알림을 받을 리스너를 등록합니다.
+     */
+    public void setWriteListener(Consumer<User> writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    public boolean isReadQueued() {
+        return readQueued;
+    }
+
+    public void setReadQueued(boolean readQueued) {
+        this.readQueued = readQueued;
+    }
+
+    public boolean isServerOperator() {
+        return serverOperator;
+    }
+
+    public void setServerOperator(boolean serverOperator) {
+        this.serverOperator = serverOperator;
+    }
+
+    /**
+     * 현재 명령 처리가 끝나면 서버가 송신 큐를 비우고 연결을 닫도록 요청합니다.
+     */
+    public void requestClose() {
+        closeRequested = true;
+    }
+
+    public boolean isCloseRequested() {
+        return closeRequested;
+    }
+
+    /**
+     * 이번 epoch 에 처음 방문했으면 표시하고 true, 이미 방문했으면 false 를 반환합니다.
+     */
+    public boolean markVisited(int epoch) {
+        if (visitEpoch == epoch) {
+            return false;
+        }
+        visitEpoch = epoch;
+        return true;
+    }
+
+    // 채널에 이미 입장해 있는지 확인 (getJoinedChannels() 와 달리 복사하지 않음)
+    public boolean isInChannel(String channelName) {
+        for (int i = 0; i < joinedChannelCount; i++) {
+            if (joinedChannels[i].equals(channelName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // 채널 입장 기록
     public void addChannel(String channelName) {
-        joinedChannels.add(channelName);
+        if (isInChannel(channelName)) {
+            return;
+        }
+        if (joinedChannelCount == joinedChannels.length) {
+            joinedChannels = Arrays.copyOf(joinedChannels, Math.max(4, joinedChannelCount * 2));
+        }
+        joinedChannels[joinedChannelCount++] = channelName;
     }
 
     // 채널 퇴장 기록
     public void removeChannel(String channelName) {
-        joinedChannels.remove(channelName);
+        for (int i = 0; i < joinedChannelCount; i++) {
+            if (joinedChannels[i].equals(channelName)) {
+                joinedChannels[i] = joinedChannels[--joinedChannelCount];
+                joinedChannels[joinedChannelCount] = null;
+                if (joinedChannelCount == 0) {
+                    joinedChannels = NO_CHANNELS; // 모든 채널에서 나가면 배열 반납
+                }
+                return;
+            }
+        }
     }
 
     // 현재 입장한 모든 채널 이름 변환 (복사본 반환 권장)
     public Set<String> getJoinedChannels() {
-        return new HashSet<>(joinedChannels);
+        return Set.of(Arrays.copyOf(joinedChannels, joinedChannelCount));
     }
 
 }
@@ -2,13 +2,18 @@ package com.ircproject.handler;
 
 import com.ircproject.domain.IrcMessage;
 import com.ircproject.domain.User;
+import com.ircproject.monitor.CommandDispatchEvent;
+import com.ircproject.monitor.TopTalkers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * packageName    : com.ircproject.handler
@@ -20,36 +25,107 @@ import java.util.Map;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       perfect hash 조회 테이블 + 421 응답
+ * 2026. 10. 19.       kobe       JFR 명령 처리 이벤트
+ * 2026. 10. 19.       kobe       사용자/IP 별 상위 K 집계
+ * 2026. 10. 19.       kobe       등록된 명령어 이름 조회 (지연 추적 집계 키)
  */
 @Component
 public class CommandDispatcher {
 
     private static final Logger logger = LoggerFactory.getLogger(CommandDispatcher.class);
-    private final Map<String, CommandHandler> handlers = new HashMap<>();
+
+    // 421 ERR_UNKNOWNCOMMAND 의 고정 부분은 미리 인코딩해 둡니다.
+    // 형식: :server 421 <닉네임> <명령어> :Unknown command
+    private static final byte[] UNKNOWN_COMMAND_PREFIX = ":server 421 ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UNKNOWN_COMMAND_SUFFIX = " :Unknown command\r\n".getBytes(StandardCharsets.UTF_8);
+
+    private final CommandTable handlers;
+    private final LongAdder unknownCommands = new LongAdder();
+    private final TopTalkers topTalkers;
 
     // 생성자 주입: Spring이 알아서 CommandHandler를 구현한 모든 빈을 List에 담아줍니다.
-    public CommandDispatcher(List<CommandHandler> commandHandlers) {
+    public CommandDispatcher(List<CommandHandler> commandHandlers, TopTalkers topTalkers) {
+        this.topTalkers = topTalkers;
+        Map<String, CommandHandler> handlersByCommand = new HashMap<>();
         for (CommandHandler handler : commandHandlers) {
-            handlers.put(handler.getCommand(), handler);
+            handlersByCommand.put(handler.getCommand().toUpperCase(Locale.ROOT), handler);
             logger.info("Registered Command Handler: {}", handler.getCommand());
         }
+        this.handlers = CommandTable.build(handlersByCommand);
     }
 
     public void dispatch(User user, IrcMessage message) {
-        String command = message.command().toUpperCase(); // 대소문자 무시 (NICK == nick)
+        dispatch(user, message, 0);
+    }
+
+    /**
+     * @param length 수신한 원본 라인의 바이트 수 (\r\n 포함, 상위 K 집계용)
+     */
+    public void dispatch(User user, IrcMessage message, int length) {
+        // 알 수 없는 명령어도 부하이므로 함께 집계
+        topTalkers.recordCommand(user, length);
 
-        CommandHandler handler = handlers.get(command);
+        String command = message.command(); // 조회 테이블이 대소문자를 무시 (NICK == nick)
+
+        CommandHandler handler = handlers.lookup(command);
 
         if (handler == null) {
-            logger.warn("Unknown Command: {}", command);
-            // 나중에 "421 ERR_UNKNOWNCOMMAND" 에러 메시지 전송 로직 추가
+            // 알 수 없는 명령어는 흔하므로 WARN 로그 대신 카운트하고 클라이언트에게 알려줍니다.
+            unknownCommands.increment();
+            logger.debug("Unknown Command: {}", command);
+            user.sendMessage(unknownCommandReply(user, command));
             return;
         }
 
+        // JFR 로 녹화 중이 아니면 begin/commit 은 거의 비용이 없음
+        CommandDispatchEvent event = new CommandDispatchEvent();
+        event.begin();
         try {
             handler.handle(user, message);
         } catch (Exception e) {
             logger.error("Error handling command: {}", command, e);
         }
+        if (event.shouldCommit()) {
+            event.command = handler.getCommand();
+            event.nickname = user.getNickname();
+            event.commit();
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 명령어를 처리하는 핸들러의 명령어 상수로 바꿉니다. (집계 키가 클라이언트 입력에 좌우되지 않도록)
+     *
+     * @return 등록된 명령어면 핸들러의 getCommand(), 아니면 null
+     */
+    public String resolveCommand(String command) {
+        CommandHandler handler = handlers.lookup(command);
+        return handler != null ? handler.getCommand() : null;
+    }
+
+    /**
+     * @return 기동 이후 수신한 알 수 없는 명령어 수
+     */
+    public long getUnknownCommandCount() {
+        return unknownCommands.sum();
+    }
+
+    private static byte[] unknownCommandReply(User user, String command) {
+        byte[] nickname = user.getNickname().getBytes(StandardCharsets.UTF_8);
+        // 파서가 명령어를 영문자/숫자로만 제한하므로 ASCII 그대로 복사할 수 있습니다.
+        int length = UNKNOWN_COMMAND_PREFIX.length + nickname.length + 1 + command.length() + UNKNOWN_COMMAND_SUFFIX.length;
+        byte[] reply = new byte[length];
+
+        int offset = 0;
+        System.arraycopy(UNKNOWN_COMMAND_PREFIX, 0, reply, offset, UNKNOWN_COMMAND_PREFIX.length);
+        offset += UNKNOWN_COMMAND_PREFIX.length;
+        System.arraycopy(nickname, 0, reply, offset, nickname.length);
+        offset += nickname.length;
+        reply[offset++] = ' ';
+        for (int i = 0; i < command.length(); i++) {
+            reply[offset++] = (byte) command.charAt(i);
+        }
+        System.arraycopy(UNKNOWN_COMMAND_SUFFIX, 0, reply, offset, UNKNOWN_COMMAND_SUFFIX.length);
+        return reply;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.ircproject.handler;
+
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.handler
+ * fileName       : CommandTable
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 기동 시점에 등록된 명령어로 만드는 충돌 없는(perfect hash) 조회 테이블입니다.
+ *                  대소문자를 무시하고 조회하며, 조회 과정에서 문자열을 새로 만들지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class CommandTable {
+
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int MAX_SEED_ATTEMPTS = 1 << 12;
+
+    private final String[] keys;
+    private final CommandHandler[] handlers;
+    private final int mask;
+    private final int seed;
+
+    private CommandTable(String[] keys, CommandHandler[] handlers, int seed) {
+        this.keys = keys;
+        this.handlers = handlers;
+        this.mask = keys.length - 1;
+        this.seed = seed;
+    }
+
+    /**
+     * 모든 명령어가 서로 다른 슬롯에 들어가는 seed 를 찾을 때까지 시도합니다.
+     * 명령어 수가 수십 개 수준이라 기동 시 한 번의 비용은 무시할 만합니다.
+     */
+    static CommandTable build(Map<String, CommandHandler> handlersByCommand) {
+        int size = Integer.highestOneBit(Math.max(1, handlersByCommand.size()) * 2 - 1) << 1;
+
+        while (true) {
+            for (int seed = 0; seed < MAX_SEED_ATTEMPTS; seed++) {
+                CommandTable table = tryBuild(handlersByCommand, size, seed);
+                if (table != null) {
+                    return table;
+                }
+            }
+            size <<= 1; // 이 크기로는 충돌 없는 seed 를 못 찾음 -> 테이블을 키워서 재시도
+        }
+    }
+
+    private static CommandTable tryBuild(Map<String, CommandHandler> handlersByCommand, int size, int seed) {
+        String[] keys = new String[size];
+        CommandHandler[] handlers = new CommandHandler[size];
+
+        for (Map.Entry<String, CommandHandler> entry : handlersByCommand.entrySet()) {
+            int slot = hash(entry.getKey(), seed) & (size - 1);
+            if (keys[slot] != null) {
+                return null;
+            }
+            keys[slot] = entry.getKey();
+            handlers[slot] = entry.getValue();
+        }
+        return new CommandTable(keys, handlers, seed);
+    }
+
+    /**
+     * @return 명령어에 해당하는 핸들러, 없으면 null
+     */
+    CommandHandler lookup(String command) {
+        int slot = hash(command, seed) & mask;
+        String key = keys[slot];
+        // 슬롯 충돌이 없으므로 후보는 하나뿐이고, 최종 확인만 하면 됩니다.
+        if (key != null && key.length() == command.length() && key.equalsIgnoreCase(command)) {
+            return handlers[slot];
+        }
+        return null;
+    }
+
+    // ASCII 대문자로 접으면서 FNV-1a 해시를 계산 (명령어는 영문자/숫자만 허용되므로 충분)
+    private static int hash(String command, int seed) {
+        int h = 0x811C9DC5 ^ seed;
+        for (int i = 0; i < command.length(); i++) {
+            char c = command.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            h = (h ^ c) * FNV_PRIME;
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Capability;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.StringJoiner;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : CapHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : IRCv3 CAP LS/LIST/REQ/END 협상
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class CapHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CapHandler.class);
+
+    // 지원 기능 목록은 바뀌지 않으므로 미리 만들어 둡니다.
+    private static final String SUPPORTED = supportedCapabilities();
+
+    @Override
+    public String getCommand() {
+        return "CAP";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (message.parameters().isEmpty()) {
+            user.sendMessage(":server 461 " + user.getNickname() + " CAP :Not enough parameters\r\n");
+            return;
+        }
+
+        String subcommand = message.parameters().get(0).toUpperCase();
+        switch (subcommand) {
+            case "LS" -> reply(user, "LS", SUPPORTED);
+            case "LIST" -> reply(user, "LIST", enabledCapabilities(user));
+            case "REQ" -> handleRequest(user, message.parameters().size() > 1 ? message.parameters().get(1) : "");
+            case "END" -> logger.debug("CAP negotiation finished for {}", user.getNickname());
+            // 410 ERR_INVALIDCAPCMD
+            default -> user.sendMessage(":server 410 " + user.getNickname() + " " + subcommand + " :Invalid CAP command\r\n");
+        }
+    }
+
+    /**
+     * REQ 는 전부 수락하거나 전부 거절합니다. (예: "server-time -echo-message")
+     */
+    private void handleRequest(User user, String requested) {
+        String[] tokens = requested.trim().split("\\s+");
+
+        // 1. 하나라도 모르는 기능이 있으면 NAK
+        for (String token : tokens) {
+            if (token.isEmpty() || Capability.fromToken(token.startsWith("-") ? token.substring(1) : token) == null) {
+                reply(user, "NAK", requested);
+                return;
+            }
+        }
+
+        // 2. 모두 아는 기능이면 적용 후 ACK
+        for (String token : tokens) {
+            if (token.startsWith("-")) {
+                user.disableCapability(Capability.fromToken(token.substring(1)));
+            } else {
+                user.enableCapability(Capability.fromToken(token));
+            }
+        }
+        reply(user, "ACK", requested);
+        logger.info("User {} capabilities: {}", user.getNickname(), enabledCapabilities(user));
+    }
+
+    // 형식: :server CAP <닉네임> <서브커맨드> :<기능 목록>
+    private void reply(User user, String subcommand, String capabilities) {
+        user.sendMessage(":server CAP " + user.getNickname() + " " + subcommand + " :" + capabilities + "\r\n");
+    }
+
+    private static String enabledCapabilities(User user) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (Capability capability : Capability.values()) {
+            if (user.hasCapability(capability)) {
+                joiner.add(capability.token());
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static String supportedCapabilities() {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (Capability capability : Capability.values()) {
+            joiner.add(capability.token());
+        }
+        return joiner.toString();
+    }
+}
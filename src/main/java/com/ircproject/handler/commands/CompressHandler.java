@@ -0,0 +1,87 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.DeflateStream;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : CompressHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : COMPRESS DEFLATE - 이 연결의 송수신을 raw DEFLATE 스트림으로 전환합니다. (RFC 4978 의 IMAP COMPRESS 와 같은 방식)
+ *                  성공 응답 ":server NOTICE <닉네임> :COMPRESS DEFLATE active" 가 마지막 비압축 라인이고,
+ *                  그 뒤로는 양쪽 모두 압축해서 보냅니다. 서버는 송신 묶음마다 SYNC_FLUSH 하므로 클라이언트는 받은 즉시 풀 수 있습니다.
+ *                  압축 스트림마다 zlib 네이티브 메모리가 고정으로 들어가므로 동시에 압축하는 연결 수를 max-connections 로 제한합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class CompressHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressHandler.class);
+
+    private final int maxConnections; // 0 이면 끔
+    private final int level;
+
+    public CompressHandler(@Value("${irc.compress.max-connections:1024}") int maxConnections,
+                           @Value("${irc.compress.level:3}") int level) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be 1-9: " + level);
+        }
+        this.maxConnections = maxConnections;
+        this.level = level;
+    }
+
+    @Override
+    public String getCommand() {
+        return "COMPRESS";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (message.parameters().isEmpty()) {
+            // 461 ERR_NEEDMOREPARAMS
+            user.sendMessage(":server 461 " + user.getNickname() + " COMPRESS :Not enough parameters\r\n");
+            return;
+        }
+
+        String algorithm = message.parameters().get(0);
+        if (!algorithm.equalsIgnoreCase("DEFLATE")) {
+            sendNotice(user, "COMPRESS " + algorithm + " unsupported (DEFLATE only)");
+            return;
+        }
+        if (user.isCompressed()) {
+            sendNotice(user, "COMPRESS already active");
+            return;
+        }
+        if (maxConnections <= 0) {
+            sendNotice(user, "COMPRESS is disabled");
+            return;
+        }
+        if (DeflateStream.getActiveCount() >= maxConnections) {
+            // 263 RPL_TRYAGAIN
+            user.sendMessage(":server 263 " + user.getNickname() + " COMPRESS :Server busy, please try again later\r\n");
+            return;
+        }
+
+        // 응답을 먼저 쌓은 뒤 전환 (쌓여 있던 데이터는 압축하지 않고 나감)
+        sendNotice(user, "COMPRESS DEFLATE active");
+        user.enableCompression(level);
+        logger.debug("Compression enabled for {} ({} active)", user.getNickname(), DeflateStream.getActiveCount());
+    }
+
+    private static void sendNotice(User user, String text) {
+        user.sendMessage(":server NOTICE " + user.getNickname() + " :" + text + "\r\n");
+    }
+}
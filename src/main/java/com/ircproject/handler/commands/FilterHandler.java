@@ -0,0 +1,131 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.FilterAction;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.moderation.ContentFilter;
+import com.ircproject.repository.ChannelRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : FilterHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 금칙어 필터 관리
+ *                  FILTER [LIST]                    - 패턴 목록 조회 (서버 운영자)
+ *                  FILTER ADD|DEL <패턴>             - 패턴 추가/삭제 (서버 운영자)
+ *                  FILTER #채널 [block|censor|off|default] - 채널 동작 조회/변경 (채널 운영자)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       패턴 목록 조회도 서버 운영자만 (목록이 곧 우회 방법 안내가 되지 않도록)
+ */
+@Component
+public class FilterHandler implements CommandHandler {
+
+    private final ContentFilter contentFilter;
+    private final ChannelRepository channelRepository;
+
+    public FilterHandler(ContentFilter contentFilter, ChannelRepository channelRepository) {
+        this.contentFilter = contentFilter;
+        this.channelRepository = channelRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "FILTER";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        List<String> params = message.parameters();
+        String subCommand = params.isEmpty() ? "LIST" : params.get(0);
+
+        if (subCommand.startsWith("#")) {
+            handleChannel(user, subCommand, params.size() > 1 ? params.get(1) : null);
+            return;
+        }
+
+        switch (subCommand.toUpperCase()) {
+            case "LIST" -> {
+                if (!checkServerOperator(user)) {
+                    return;
+                }
+                List<String> patterns = contentFilter.getPatterns();
+                sendNotice(user, "Filter patterns (" + patterns.size() + "), default action "
+                        + contentFilter.getDefaultAction().name().toLowerCase());
+                for (String pattern : patterns) {
+                    sendNotice(user, "  " + pattern);
+                }
+            }
+            case "ADD", "DEL" -> {
+                if (!checkServerOperator(user)) {
+                    return;
+                }
+                if (params.size() < 2) {
+                    user.sendMessage(":server 461 " + user.getNickname() + " FILTER :Not enough parameters\r\n");
+                    return;
+                }
+                // 공백이 들어간 패턴도 허용 (FILTER ADD :buy cheap followers)
+                String pattern = String.join(" ", params.subList(1, params.size()));
+                boolean changed = subCommand.equalsIgnoreCase("ADD")
+                        ? contentFilter.addPattern(pattern)
+                        : contentFilter.removePattern(pattern);
+                sendNotice(user, (changed ? "Filter updated: " : "Filter unchanged: ")
+                        + subCommand.toUpperCase() + " " + pattern);
+            }
+            default -> sendNotice(user, "Usage: FILTER [LIST] | FILTER ADD|DEL <pattern> | FILTER #channel [block|censor|off|default]");
+        }
+    }
+
+    private void handleChannel(User user, String channelName, String actionName) {
+        Channel channel = channelRepository.get(channelName);
+        if (channel == null) {
+            // 403 ERR_NOSUCHCHANNEL
+            user.sendMessage(":server 403 " + user.getNickname() + " " + channelName + " :No such channel\r\n");
+            return;
+        }
+
+        if (actionName == null) {
+            FilterAction action = channel.getFilterAction();
+            sendNotice(user, channelName + " filter action: "
+                    + (action != null ? action.name().toLowerCase() : "default (" + contentFilter.getDefaultAction().name().toLowerCase() + ")"));
+            return;
+        }
+
+        if (!channel.isOperator(user) && !user.isServerOperator()) {
+            // 482 ERR_CHANOPRIVSNEEDED
+            user.sendMessage(":server 482 " + user.getNickname() + " " + channelName + " :You're not channel operator\r\n");
+            return;
+        }
+
+        FilterAction action = FilterAction.fromName(actionName);
+        if (action == null && !actionName.equalsIgnoreCase("default")) {
+            sendNotice(user, "Unknown filter action: " + actionName);
+            return;
+        }
+        channel.setFilterAction(action);
+        sendNotice(user, channelName + " filter action set to " + actionName.toLowerCase());
+    }
+
+    private boolean checkServerOperator(User user) {
+        if (!user.isServerOperator()) {
+            // 481 ERR_NOPRIVILEGES
+            user.sendMessage(":server 481 " + user.getNickname() + " :Permission Denied- You're not an IRC operator\r\n");
+            return false;
+        }
+        return true;
+    }
+
+    // 형식 :server NOTICE 닉네임 :내용
+    private void sendNotice(User user, String text) {
+        user.sendMessage(":server NOTICE " + user.getNickname() + " :" + text + "\r\n");
+    }
+}
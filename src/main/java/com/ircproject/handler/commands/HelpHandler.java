@@ -40,6 +40,17 @@ public class HelpHandler implements CommandHandler {
         sendNotice(user, "4. HELP : 이 도움말을 표시합니다.");
         sendNotice(user, "5. LIST : 채널 리스트를 표시합니다.");
         sendNotice(user, "6. PART <#채널명> : 해당 채널에서 퇴장합니다.");
+        sendNotice(user, "7. NAMES <#채널명> : 채널 멤버 목록을 표시합니다.");
+        sendNotice(user, "8. WHO <#채널명|닉네임> : 사용자 정보를 표시합니다.");
+        sendNotice(user, "9. MODE <#채널명> [+/-imPovbeIq] [인자] : 채널 모드와 밴 목록을 조회/변경합니다.");
+        sendNotice(user, "10. NOTICE <#채널명|닉네임> <메세지> : 자동 응답 없이 알림을 보냅니다.");
+        sendNotice(user, "11. FILTER [LIST|ADD|DEL <패턴>|#채널명 <block|censor|off>] : 금칙어 필터를 관리합니다.");
+        sendNotice(user, "12. OPER <이름> <비밀번호> : 서버 운영자로 인증합니다.");
+        sendNotice(user, "13. STATS <latency|commands|compression|outbound|channels|reset> : 메시지 처리 지연 통계를 표시합니다. (운영자)");
+        sendNotice(user, "14. TOP [users|hosts|channels] [messages|bytes] [개수] : 최근 트래픽 상위 항목을 표시합니다. (운영자)");
+        sendNotice(user, "15. SEARCH <#채널명> <검색어...> : 채널 대화 기록을 검색합니다.");
+        sendNotice(user, "16. COMPRESS DEFLATE : 이 연결의 송수신을 DEFLATE 로 압축합니다.");
+        sendNotice(user, "17. WHOWAS <닉네임> [개수] : 그 닉네임을 쓰다 나간 사용자의 기록을 표시합니다.");
     }
 
     // 헬퍼 메서드: NOTICE 명령어로 서버 메시지 전송
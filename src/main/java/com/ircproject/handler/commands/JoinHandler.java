@@ -2,15 +2,20 @@ package com.ircproject.handler.commands;
 
 import com.ircproject.domain.Channel;
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandHandler;
 import com.ircproject.repository.ChannelRepository;
 import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * packageName    : com.ircproject.handler.commands
@@ -22,6 +27,10 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       +b/+i 입장 제한 확인
+ * 2026. 10. 19.       kobe       채널 생성과 입장을 한 번에 (빈 채널 회수와 경합 방지)
+ * 2026. 10. 19.       kobe       서비스용 입장 이벤트
+ * 2026. 10. 19.       kobe       입장 알림은 먼저 쌓인 대화 뒤에
  */
 @Component
 public class JoinHandler implements CommandHandler {
@@ -47,29 +56,60 @@ public class JoinHandler implements CommandHandler {
             return; // 파라미터가 없으면 무시 (원래는 에러 메시지 전송)
         }
 
-        String channelName = message.parameters().get(0);
+        // 예: "#a,#b,#c" -> 중복 채널은 한 번만 처리
+        Set<String> channelNames = new LinkedHashSet<>(Arrays.asList(message.parameters().get(0).split(",")));
 
-        // 채널 저장소에서 채널을 가져오거나 생성
-        Channel channel = channelRepository.getOrCreate(channelName);
+        // 여러 채널의 입장 알림은 수신자 큐에 쌓였다가 이벤트 루프가 한 번에 전송합니다.
+        for (String channelName : channelNames) {
+            if (channelName.isEmpty() || user.isInChannel(channelName)) {
+                continue;
+            }
+            if (!channelName.startsWith("#")) {
+                // 403 ERR_NOSUCHCHANNEL
+                user.sendMessage(":server 403 " + user.getNickname() + " " + channelName + " :No such channel\r\n");
+                continue;
+            }
+            join(user, channelName);
+        }
+    }
 
-        // 채널에 유저 입장
-        channel.join(user);
+    private void join(User user, String channelName) {
+        // 이미 있는 채널이면 밴(+b)/초대 전용(+i) 확인 - 컴파일된 매처라 목록이 길어도 한 번의 순회
+        Channel existing = channelRepository.get(channelName);
+        if (existing != null) {
+            if (existing.isBanned(user)) {
+                // 474 ERR_BANNEDFROMCHAN
+                user.sendMessage(":server 474 " + user.getNickname() + " " + channelName + " :Cannot join channel (+b)\r\n");
+                return;
+            }
+            if (existing.isInviteOnly() && !existing.isInviteExempt(user)) {
+                // 473 ERR_INVITEONLYCHAN
+                user.sendMessage(":server 473 " + user.getNickname() + " " + channelName + " :Cannot join channel (+i)\r\n");
+                return;
+            }
+        }
+
+        // 채널에 유저 입장 (없으면 생성 - 입장이 거절된 경우에는 빈 채널을 만들지 않음)
+        Channel channel = channelRepository.join(channelName, user);
 
         // 유저에게 채널 등록
         user.addChannel(channel.getName());
 
-        logger.info("User {} joined channel {}", user.getNickname(), channel.getName());
-        logger.info("Current users in {}: {}", channel.getName(), channel.getUsers().size());
+        logger.info("User {} joined channel {} ({} users)", user.getNickname(), channel.getName(), channel.getUsers().size());
 
-        // (중요) 3. [TODO] 같은 방에 있는 사람들에게 "누가 들어왔다"고 알려줘야 함 (Broadcasting)
+        // 같은 방에 있는 사람들에게 "누가 들어왔다"고 알려줌 (Broadcasting)
         broadcastJoinMessage(channel, user);
+
+        // 입장한 본인에게는 멤버 목록(NAMES)까지 같은 응답 묶음으로 전송
+        channel.sendNames(user);
     }
 
     private void broadcastJoinMessage(Channel channel, User joiner) {
-        String joinMessage = ":" + joiner.getNickname() + " JOIN " + channel.getName() + "\r\n";
+        OutboundMessage joinMessage = OutboundMessage.of(":" + joiner.getNickname() + " JOIN " + channel.getName() + "\r\n")
+                .withEvent(new ServiceEvent.Join(channel.getName(), joiner.getNickname()));
 
         for (User member : channel.getUsers()) {
-            member.sendMessage(joinMessage);
+            joinMessage.sendOrderedTo(member);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.ChannelListMode;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : ModeHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : MODE #채널 [+/-모드 [인자...]] - 채널 모드 조회/변경
+ *                  i, m, P (값 없음) / o, v (닉네임) / b, e, I, q (마스크 목록, 인자 없이 보내면 목록 조회)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       +P 영구 채널 (서버 운영자 전용, -P 된 빈 채널은 바로 회수)
+ * 2026. 10. 19.       kobe       한 줄당 인자 있는 모드 수 제한 (MODES) + 목록 변경은 한 번만 컴파일
+ * 2026. 10. 19.       kobe       모드 변경 알림은 먼저 쌓인 대화 뒤에
+ */
+@Component
+public class ModeHandler implements CommandHandler {
+
+    // MODE 한 줄에서 처리할 인자 있는 모드(b, e, I, q, o, v) 수 - 넘는 것은 무시 (005 MODES 로 알림)
+    static final int MAX_MODES = 6;
+
+    private final ChannelRepository channelRepository;
+    private final UserRepository userRepository;
+
+    public ModeHandler(ChannelRepository channelRepository, UserRepository userRepository) {
+        this.channelRepository = channelRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "MODE";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        List<String> params = message.parameters();
+        if (params.isEmpty()) {
+            // 461 ERR_NEEDMOREPARAMS
+            user.sendMessage(":server 461 " + user.getNickname() + " MODE :Not enough parameters\r\n");
+            return;
+        }
+
+        String target = params.get(0);
+        if (!target.startsWith("#")) {
+            handleUserMode(user, target);
+            return;
+        }
+
+        Channel channel = channelRepository.get(target);
+        if (channel == null) {
+            // 403 ERR_NOSUCHCHANNEL
+            user.sendMessage(":server 403 " + user.getNickname() + " " + target + " :No such channel\r\n");
+            return;
+        }
+
+        if (params.size() == 1) {
+            // 324 RPL_CHANNELMODEIS
+            user.sendMessage(":server 324 " + user.getNickname() + " " + channel.getName() + " +" + channel.getFlags() + "\r\n");
+            return;
+        }
+
+        applyChannelModes(user, channel, params.get(1), params.subList(2, params.size()));
+    }
+
+    // 사용자 모드는 아직 없음: 자기 자신은 빈 모드, 다른 사람은 거절
+    private void handleUserMode(User user, String target) {
+        if (target.equalsIgnoreCase(user.getNickname())) {
+            // 221 RPL_UMODEIS
+            user.sendMessage(":server 221 " + user.getNickname() + " +\r\n");
+        } else {
+            // 502 ERR_USERSDONTMATCH
+            user.sendMessage(":server 502 " + user.getNickname() + " :Cannot change mode for other users\r\n");
+        }
+    }
+
+    private void applyChannelModes(User user, Channel channel, String modeString, List<String> args) {
+        boolean operator = channel.isOperator(user);
+        boolean deniedSent = false;
+        ModeChanges changes = new ModeChanges();
+        boolean adding = true;
+        boolean persistenceCleared = false;
+        int argIndex = 0;
+        int argModes = 0;
+
+        for (int i = 0; i < modeString.length(); i++) {
+            char letter = modeString.charAt(i);
+            if (letter == '+' || letter == '-') {
+                adding = letter == '+';
+                continue;
+            }
+
+            ChannelListMode listMode = ChannelListMode.fromLetter(letter);
+            boolean needsArg = listMode != null || letter == 'o' || letter == 'v';
+            boolean flag = Channel.FLAG_MODES.indexOf(letter) >= 0;
+            if (!needsArg && !flag) {
+                // 472 ERR_UNKNOWNMODE
+                user.sendMessage(":server 472 " + user.getNickname() + " " + letter + " :is unknown mode char to me\r\n");
+                continue;
+            }
+
+            String arg = needsArg && argIndex < args.size() ? args.get(argIndex++) : null;
+            if (listMode != null && arg == null) {
+                // 인자 없는 +b 등은 목록 조회 (운영자가 아니어도 가능)
+                sendList(user, channel, listMode);
+                continue;
+            }
+            if (needsArg && arg == null) {
+                continue;
+            }
+            if (needsArg && ++argModes > MAX_MODES) {
+                continue;
+            }
+
+            if (letter == Channel.PERSISTENT_MODE) {
+                // 영구 채널은 채널 운영자가 아니라 서버 운영자가 정함
+                if (!user.isServerOperator()) {
+                    // 481 ERR_NOPRIVILEGES
+                    user.sendMessage(":server 481 " + user.getNickname() + " :Permission Denied- You're not an IRC operator\r\n");
+                    continue;
+                }
+            } else if (!operator) {
+                if (!deniedSent) {
+                    // 482 ERR_CHANOPRIVSNEEDED
+                    user.sendMessage(":server 482 " + user.getNickname() + " " + channel.getName() + " :You're not channel operator\r\n");
+                    deniedSent = true;
+                }
+                continue;
+            }
+
+            if (listMode != null) {
+                applyListMode(user, channel, listMode, adding, normalizeMask(arg), changes);
+            } else if (needsArg) {
+                applyMemberMode(user, channel, letter, adding, arg, changes);
+            } else if (channel.setFlag(letter, adding)) {
+                changes.add(adding, letter, null);
+                persistenceCleared |= letter == Channel.PERSISTENT_MODE && !adding;
+            }
+        }
+
+        // 목록 변경은 줄 단위로 모아서 매처를 한 번만 다시 컴파일
+        channel.compileMasks();
+
+        if (!changes.isEmpty()) {
+            // 적용된 변경만 채널 전체(변경한 본인 포함)에 한 번 인코딩해서 알림
+            byte[] notice = (":" + user.getNickname() + " MODE " + channel.getName() + " " + changes + "\r\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            for (User member : channel.getUsers()) {
+                member.sendOrdered(notice);
+            }
+        }
+
+        // 멤버 없는 채널의 영구 설정을 풀었으면 더 남겨둘 이유가 없음
+        if (persistenceCleared) {
+            channelRepository.reclaimIfEmpty(channel.getName());
+        }
+    }
+
+    private void applyListMode(User user, Channel channel, ChannelListMode mode, boolean adding, String mask,
+                               ModeChanges changes) {
+        if (!adding) {
+            Channel.MaskEntry removed = channel.removeMask(mode, mask);
+            if (removed != null) {
+                changes.add(false, mode.letter(), removed.mask());
+            }
+            return;
+        }
+
+        if (channel.getMaskCount(mode) >= Channel.MAX_LIST_ENTRIES) {
+            // 478 ERR_BANLISTFULL
+            user.sendMessage(":server 478 " + user.getNickname() + " " + channel.getName() + " " + mask + " :Channel list is full\r\n");
+            return;
+        }
+        if (channel.addMask(mode, mask, user.getNickname(), System.currentTimeMillis() / 1000)) {
+            changes.add(true, mode.letter(), mask);
+        }
+    }
+
+    private void applyMemberMode(User user, Channel channel, char letter, boolean adding, String nickname,
+                                 ModeChanges changes) {
+        User target = userRepository.findByNickname(nickname);
+        if (target == null) {
+            // 401 ERR_NOSUCHNICK
+            user.sendMessage(":server 401 " + user.getNickname() + " " + nickname + " :No such nick/channel\r\n");
+            return;
+        }
+        if (!channel.getUsers().contains(target)) {
+            // 441 ERR_USERNOTINCHANNEL
+            user.sendMessage(":server 441 " + user.getNickname() + " " + nickname + " " + channel.getName() + " :They aren't on that channel\r\n");
+            return;
+        }
+
+        boolean changed = letter == 'o' ? channel.setOperator(target, adding) : channel.setVoiced(target, adding);
+        if (changed) {
+            changes.add(adding, letter, target.getNickname());
+        }
+    }
+
+    private void sendList(User user, Channel channel, ChannelListMode mode) {
+        // +q 응답(728/729)에는 모드 문자가 한 칸 더 들어감
+        String prefix = ":server " + mode.listReply() + " " + user.getNickname() + " " + channel.getName()
+                + (mode == ChannelListMode.QUIET ? " q " : " ");
+        for (Channel.MaskEntry entry : channel.getMasks(mode)) {
+            user.sendMessage(prefix + entry.mask() + " " + entry.setBy() + " " + entry.setAt() + "\r\n");
+        }
+        user.sendMessage(":server " + mode.endReply() + " " + user.getNickname() + " " + channel.getName()
+                + (mode == ChannelListMode.QUIET ? " q" : "") + " :" + mode.endText() + "\r\n");
+    }
+
+    /**
+     * 축약된 마스크를 nick!user@host 형태로 채웁니다. (예: "bob" -> "bob!*@*", "*@host" -> "*!*@host")
+     */
+    static String normalizeMask(String mask) {
+        int bang = mask.indexOf('!');
+        int at = mask.indexOf('@');
+        if (bang < 0 && at < 0) {
+            return mask + "!*@*";
+        }
+        if (bang < 0) {
+            return "*!" + mask;
+        }
+        if (at < 0) {
+            return mask + "@*";
+        }
+        return mask;
+    }
+
+    // 적용된 변경을 "+bo-v mask nick nick" 형태로 모음
+    private static final class ModeChanges {
+        private final StringBuilder letters = new StringBuilder();
+        private final List<String> args = new ArrayList<>();
+        private char lastSign;
+
+        void add(boolean adding, char letter, String arg) {
+            char sign = adding ? '+' : '-';
+            if (sign != lastSign) {
+                letters.append(sign);
+                lastSign = sign;
+            }
+            letters.append(letter);
+            if (arg != null) {
+                args.add(arg);
+            }
+        }
+
+        boolean isEmpty() {
+            return letters.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return args.isEmpty() ? letters.toString() : letters + " " + String.join(" ", args);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.repository.ChannelRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : NamesHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : NAMES #채널[,#채널2] - 채널에 캐시된 353 라인을 그대로 전송합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class NamesHandler implements CommandHandler {
+
+    private final ChannelRepository channelRepository;
+
+    public NamesHandler(ChannelRepository channelRepository) {
+        this.channelRepository = channelRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "NAMES";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (message.parameters().isEmpty()) {
+            // 전체 채널 목록은 지원하지 않음 (LIST 사용)
+            user.sendMessage(":server 366 " + user.getNickname() + " * :End of /NAMES list.\r\n");
+            return;
+        }
+
+        for (String channelName : message.parameters().get(0).split(",")) {
+            Channel channel = channelRepository.get(channelName);
+            if (channel == null) {
+                // 없는 채널이어도 366 으로 끝을 알려주는 것이 관례
+                user.sendMessage(":server 366 " + user.getNickname() + " " + channelName + " :End of /NAMES list.\r\n");
+                continue;
+            }
+            channel.sendNames(user);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.ircproject.handler.commands;
 
+import com.ircproject.domain.Channel;
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandHandler;
+import com.ircproject.repository.ChannelRepository;
 import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -20,15 +24,21 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       이전 닉네임을 WHOWAS 에 기록
+ * 2026. 10. 19.       kobe       서비스용 닉네임 변경 이벤트
+ * 2026. 10. 19.       kobe       첫 닉네임 설정 시 005 (MODES)
+ * 2026. 10. 19.       kobe       닉 변경 알림은 먼저 쌓인 대화 뒤에
  */
 @Component
 public class NickHandler implements CommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(NickHandler.class);
     private final UserRepository userRepository;
+    private final ChannelRepository channelRepository;
 
-    public NickHandler(UserRepository userRepository) {
+    public NickHandler(UserRepository userRepository, ChannelRepository channelRepository) {
         this.userRepository = userRepository;
+        this.channelRepository = channelRepository;
     }
 
     @Override
@@ -46,6 +56,13 @@ public class NickHandler implements CommandHandler {
         String newNickname = message.parameters().get(0);
         String oldNickname = user.getNickname();
 
+        // 형식 검사: 채널 접두어(#)나 대상 구분자(,)는 쓸 수 없고, NAMES 라인 계산을 위해 길이를 제한
+        if (newNickname.length() > User.MAX_NICKNAME_LENGTH || newNickname.startsWith("#") || newNickname.contains(",")) {
+            // 432 ERR_ERRONEUSNICKNAME
+            user.sendMessage(":server 432 " + oldNickname + " " + newNickname + " :Erroneous nickname\r\n");
+            return;
+        }
+
         // 닉네임 중복 체크
         if (userRepository.exists(newNickname)) {
             user.sendMessage(":server 433 * " + newNickname + " :Nickname is already in use\r\n");
@@ -53,8 +70,8 @@ public class NickHandler implements CommandHandler {
         }
 
         // [Core Logic] 저장소 업데이트
-        // 기존 닉네임으로 저장된 기록 삭제 (처음 접속 시 "*" 닉네임은 없을 수 있으므로 체크)
-        userRepository.remove(oldNickname);
+        // 기존 닉네임으로 저장된 기록 삭제 + WHOWAS 기록 (처음 접속 시 "*" 닉네임은 저장돼 있지 않으므로 아무 일도 없음)
+        userRepository.remove(oldNickname, user);
 
         // 유저 객체 닉네임 변경
         user.setNickname(newNickname);
@@ -62,10 +79,26 @@ public class NickHandler implements CommandHandler {
         // 새로운 닉네임으로 저장
         userRepository.save(user);
 
+        // 입장한 채널들의 NAMES/WHO 캐시 갱신
+        for (String channelName : user.getJoinedChannels()) {
+            Channel channel = channelRepository.get(channelName);
+            if (channel != null) {
+                channel.refreshMember(user);
+            }
+        }
+
         logger.info("User nickname change: {} -> {}", oldNickname, newNickname);
 
-        // 변경 알림 (자신에게)
+        // 변경 알림: 자신 + 채널을 함께 쓰는 사람들에게 한 번씩만
         // :oldNick NICK :newNick
-        user.sendMessage(":" + oldNickname + " NICK " + newNickname + "\r\n");
+        OutboundMessage nickMessage = OutboundMessage.of(":" + oldNickname + " NICK " + newNickname + "\r\n")
+                .withEvent(new ServiceEvent.NickChange(oldNickname, newNickname));
+        nickMessage.sendOrderedTo(user);
+        channelRepository.forEachPeer(user, nickMessage::sendOrderedTo);
+
+        if ("*".equals(oldNickname)) {
+            // 005 RPL_ISUPPORT - 처음 닉네임을 정할 때 한 번만
+            user.sendMessage(":server 005 " + newNickname + " MODES=" + ModeHandler.MAX_MODES + " :are supported by this server\r\n");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.history.ChannelHistory;
+import com.ircproject.moderation.ContentFilter;
+import com.ircproject.moderation.DuplicateSpamDetector;
+import com.ircproject.monitor.TopTalkers;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : NoticeHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : NOTICE <대상> :<메시지> - PRIVMSG 와 같은 경로(스팸/금칙어 필터 포함)로 전달하되, 실패해도 응답하지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class NoticeHandler extends PrivmsgHandler {
+
+    public NoticeHandler(ChannelRepository channelRepository, UserRepository userRepository,
+                         DuplicateSpamDetector spamDetector, ContentFilter contentFilter, TopTalkers topTalkers,
+                         ChannelHistory channelHistory) {
+        super(channelRepository, userRepository, spamDetector, contentFilter, topTalkers, channelHistory);
+    }
+
+    @Override
+    public String getCommand() {
+        return "NOTICE";
+    }
+
+    @Override
+    protected boolean repliesWithErrors() {
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : OperHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : OPER <이름> <비밀번호> - 서버 운영자 인증 (FILTER 패턴 관리 등 운영자 명령에 필요)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class OperHandler implements CommandHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperHandler.class);
+
+    private final String operName;
+    private final byte[] operPassword; // 비어 있으면 OPER 비활성화
+
+    public OperHandler(@Value("${irc.oper.name:admin}") String operName,
+                       @Value("${irc.oper.password:}") String operPassword) {
+        this.operName = operName;
+        this.operPassword = operPassword.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getCommand() {
+        return "OPER";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (message.parameters().size() < 2) {
+            // 461 ERR_NEEDMOREPARAMS
+            user.sendMessage(":server 461 " + user.getNickname() + " OPER :Not enough parameters\r\n");
+            return;
+        }
+
+        if (operPassword.length == 0) {
+            // 491 ERR_NOOPERHOST
+            user.sendMessage(":server 491 " + user.getNickname() + " :No O-lines for your host\r\n");
+            return;
+        }
+
+        // 비밀번호는 길이와 무관한 시간으로 비교 (타이밍 공격 방지)
+        boolean nameMatches = operName.equals(message.parameters().get(0));
+        boolean passwordMatches = MessageDigest.isEqual(operPassword,
+                message.parameters().get(1).getBytes(StandardCharsets.UTF_8));
+        if (!nameMatches || !passwordMatches) {
+            logger.warn("Failed OPER attempt by {} from {}", user.getNickname(), user.getHost());
+            // 464 ERR_PASSWDMISMATCH
+            user.sendMessage(":server 464 " + user.getNickname() + " :Password incorrect\r\n");
+            return;
+        }
+
+        user.setServerOperator(true);
+        logger.info("{} is now an IRC operator", user.getNickname());
+        // 381 RPL_YOUREOPER
+        user.sendMessage(":server 381 " + user.getNickname() + " :You are now an IRC operator\r\n");
+    }
+}
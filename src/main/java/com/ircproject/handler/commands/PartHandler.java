@@ -2,9 +2,11 @@ package com.ircproject.handler.commands;
 
 import com.ircproject.domain.Channel;
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandHandler;
 import com.ircproject.repository.ChannelRepository;
+import com.ircproject.service.ServiceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -21,6 +23,9 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 8.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       마지막 멤버가 나가면 채널 회수
+ * 2026. 10. 19.       kobe       서비스용 퇴장 이벤트
+ * 2026. 10. 19.       kobe       퇴장 알림은 먼저 쌓인 대화 뒤에
  */
 @Component
 public class PartHandler implements CommandHandler {
@@ -58,7 +63,7 @@ public class PartHandler implements CommandHandler {
         }
 
         // 2. 상태 업데이트 (양방향 삭제)
-        channel.leave(user); // 채널에서 유저 뺌
+        channelRepository.leave(channelName, user); // 채널에서 유저 뺌 (마지막 멤버였으면 채널 회수)
         user.removeChannel(channelName); // 유저에게서 채널 뺌
 
         logger.info("User {} left channel {}", user.getNickname(), channelName);
@@ -70,14 +75,15 @@ public class PartHandler implements CommandHandler {
 
     private void broadcastPartMessage(Channel channel, User leaver, String reason) {
         // IRC 표준 :닉네임 PART #채널 :이유
-        String partMessage = ":" + leaver.getNickname() + " PART " + channel.getName() + " :" + reason + "\r\n";
+        OutboundMessage partMessage = OutboundMessage.of(":" + leaver.getNickname() + " PART " + channel.getName() + " :" + reason + "\r\n")
+                .withEvent(new ServiceEvent.Part(channel.getName(), leaver.getNickname(), reason));
 
         // 나가는 사람 본인에게도 PART 메시지를 보내야 클라이언트가 방을 닫습니다.
-        leaver.sendMessage(partMessage);
+        partMessage.sendOrderedTo(leaver);
 
         // 방에 남은 사람들에게 전송
         for (User member : channel.getUsers()) {
-            member.sendMessage(partMessage);
+            partMessage.sendOrderedTo(member);
         }
     }
 }
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.ircproject.handler.commands;
 
+import com.ircproject.domain.Capability;
 import com.ircproject.domain.Channel;
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandHandler;
+import com.ircproject.history.ChannelHistory;
+import com.ircproject.moderation.ContentFilter;
+import com.ircproject.moderation.DuplicateSpamDetector;
+import com.ircproject.monitor.BroadcastEvent;
+import com.ircproject.monitor.TopTalkers;
 import com.ircproject.repository.ChannelRepository;
 import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * packageName    : com.ircproject.handler.commands
@@ -22,17 +33,37 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       +m/+b/+q 발언 제한 확인
+ * 2026. 10. 19.       kobe       반복 스팸 감지
+ * 2026. 10. 19.       kobe       금칙어 필터, NOTICE 공용화
+ * 2026. 10. 19.       kobe       JFR 팬아웃 이벤트
+ * 2026. 10. 19.       kobe       채널 팬아웃 상위 K 집계
+ * 2026. 10. 19.       kobe       채널 기록 저장 (SEARCH)
+ * 2026. 10. 19.       kobe       서비스용 메시지 이벤트
  */
 @Component
 public class PrivmsgHandler implements CommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PrivmsgHandler.class);
+
+    // 한 줄에 지정할 수 있는 최대 대상 수 (TARGMAX) - 스팸 증폭 방지
+    static final int MAX_TARGETS = 8;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
-
-    public PrivmsgHandler(ChannelRepository channelRepository, UserRepository userRepository) {
+    private final DuplicateSpamDetector spamDetector;
+    private final ContentFilter contentFilter;
+    private final TopTalkers topTalkers;
+    private final ChannelHistory channelHistory;
+
+    public PrivmsgHandler(ChannelRepository channelRepository, UserRepository userRepository,
+                          DuplicateSpamDetector spamDetector, ContentFilter contentFilter, TopTalkers topTalkers,
+                          ChannelHistory channelHistory) {
         this.channelRepository = channelRepository;
         this.userRepository = userRepository;
+        this.spamDetector = spamDetector;
+        this.contentFilter = contentFilter;
+        this.topTalkers = topTalkers;
+        this.channelHistory = channelHistory;
     }
 
     @Override
@@ -40,62 +71,144 @@ public class PrivmsgHandler implements CommandHandler {
         return "PRIVMSG";
     }
 
+    /**
+     * 전달 실패 시 보낸 사람에게 에러 응답을 보낼지 여부 (NOTICE 는 절대 자동 응답하지 않음 - RFC 1459)
+     */
+    protected boolean repliesWithErrors() {
+        return true;
+    }
+
+    private boolean isNotice() {
+        return "NOTICE".equals(getCommand());
+    }
+
     @Override
     public void handle(User sender, IrcMessage message) throws IOException {
         if (message.parameters().size() < 2) {
             return; // 대상이나 메시지 내용이 없으면 무시
         }
 
-        String target = message.parameters().get(0); // 예: "#lobboy"
+        // 예: "#lobby,#dev,nick" -> 중복 대상은 한 번만 처리
+        Set<String> targets = new LinkedHashSet<>(Arrays.asList(message.parameters().get(0).split(",")));
         String text = message.parameters().get(1); // 예: "안녕하세요!"
 
-        // 1. 채널 메시지인지 확인 (#으로 시작하면 채널)
-        if (target.startsWith("#")) {
-            sendChannelMessage(sender, target, text);
-        } else {
-            // 귓속말 로직 구현
-            sendPrivateMessage(sender, target, text);
+        // 대상마다 수신자 큐에 쌓이고, 이벤트 루프가 처리 후 수신자별로 한 번에 write 합니다.
+        int count = 0;
+        for (String target : targets) {
+            if (target.isEmpty()) {
+                continue;
+            }
+            if (++count > MAX_TARGETS) {
+                // 407 ERR_TOOMANYTARGETS
+                sender.sendMessage(":server 407 " + sender.getNickname() + " " + target + " :Too many targets\r\n");
+                break;
+            }
+
+            // 같은 본문이 여러 대상/연결로 대량 반복되면 조용히 버림 (보낸 사람에게 알리지 않음)
+            if (!spamDetector.admit(text)) {
+                logger.debug("Dropped repeated message from {} to {}", sender.getNickname(), target);
+                continue;
+            }
+
+            // 1. 채널 메시지인지 확인 (#으로 시작하면 채널)
+            if (target.startsWith("#")) {
+                sendChannelMessage(sender, target, text, message);
+            } else {
+                // 귓속말 로직 구현
+                sendPrivateMessage(sender, target, text, message);
+            }
         }
     }
 
     // 귓속말 메서드
-    private void sendPrivateMessage(User sender, String targetNickName, String text) {
+    private void sendPrivateMessage(User sender, String targetNickName, String text, IrcMessage message) {
         User targetUser = userRepository.findByNickname(targetNickName);
 
-        if (targetNickName == null) {
+        if (targetUser == null) {
+            if (!repliesWithErrors()) {
+                return;
+            }
             // 401 ERR_NOSUCHNICK
             sender.sendMessage(":server 401 " + sender.getNickname() + " " + targetNickName + " :No such nick/channel\r\n");
             return;
         }
 
+        // 귓속말은 서버 기본 동작으로 필터링
+        String filtered = contentFilter.apply(text, null);
+        if (filtered == null) {
+            if (repliesWithErrors()) {
+                // 404 ERR_CANNOTSENDTOCHAN 을 귓속말에도 사용 (대상 닉네임 자리)
+                sender.sendMessage(":server 404 " + sender.getNickname() + " " + targetNickName + " :Message blocked by content filter\r\n");
+            }
+            return;
+        }
+
         // 메시지 전송
         // 형식 :보낸사람 PRIVMSG 받는사람 :할망
-        String fullMessage = ":" + sender.getNickname() + " PRIVMSG " + targetNickName + " :" + text + "\r\n";
-        targetUser.sendMessage(fullMessage);
+        OutboundMessage fullMessage = OutboundMessage.of(
+                ":" + sender.getNickname() + " " + getCommand() + " " + targetNickName + " :" + filtered + "\r\n", message.tags())
+                .withEvent(new ServiceEvent.PrivateMessage(sender.getNickname(), isNotice(), filtered));
+        fullMessage.sendTo(targetUser);
+
+        // echo-message: 보낸 사람에게도 같은 메시지를 돌려줌
+        if (sender.hasCapability(Capability.ECHO_MESSAGE) && !sender.equals(targetUser)) {
+            fullMessage.sendTo(sender);
+        }
 
-        logger.info("[Whisper] {} -> {}: {}", sender.getNickname(), targetNickName, text);
+        logger.debug("[Whisper] {} -> {}: {}", sender.getNickname(), targetNickName, text);
     }
 
-    private void sendChannelMessage(User sender, String channelName, String text) {
+    private void sendChannelMessage(User sender, String channelName, String text, IrcMessage message) {
         Channel channel = channelRepository.get(channelName);
 
         if (channel == null) {
+            if (!repliesWithErrors()) {
+                return;
+            }
             // 채널이 없으면 에러 메시지 전송 (401 ERR_NOSUCHNICK/CHANNEL)
-            sender.sendMessage(":server 401 " + sender.getSocketChannel() + " " + channelName + " : No such nick/channel\r\n");
+            sender.sendMessage(":server 401 " + sender.getNickname() + " " + channelName + " : No such nick/channel\r\n");
             return;
         }
 
-        // IRC 표준 응답 포맷: 보낸사람명!user@host PRIVMSG #방이름 :할말
-        // 여기서는 간단히 :닉네임 PRIVMSG ... 으로 구현
-        String fullMessage = ":" + sender.getNickname() + " PRIVMSG " + channelName + " :" + text + "\r\n";
+        if (!channel.canSpeak(sender)) {
+            if (repliesWithErrors()) {
+                // 404 ERR_CANNOTSENDTOCHAN (+m, +b, +q)
+                sender.sendMessage(":server 404 " + sender.getNickname() + " " + channelName + " :Cannot send to channel\r\n");
+            }
+            return;
+        }
 
-        // 브로드캐스팅 (나를 제외한 모두에게 전송)
-        for (User user : channel.getUsers()) {
-            if (!user.equals(sender)) {
-                user.sendMessage(fullMessage);
+        // 채널별 필터 동작 적용 (패턴 수와 무관하게 본문 한 번 순회)
+        String filtered = contentFilter.apply(text, channel.getFilterAction());
+        if (filtered == null) {
+            if (repliesWithErrors()) {
+                sender.sendMessage(":server 404 " + sender.getNickname() + " " + channelName + " :Message blocked by content filter\r\n");
             }
+            return;
         }
 
-        logger.info("[Chat] {} -> {}: {}", sender.getNickname(), channelName, text);
+        // IRC 표준 응답 포맷: 보낸사람명!user@host PRIVMSG #방이름 :할말
+        // 여기서는 간단히 :닉네임 PRIVMSG ... 으로 구현
+        // 수신자의 capability 조합별로 한 번씩만 직렬화됩니다. (server-time, message-tags)
+        OutboundMessage fullMessage = OutboundMessage.of(
+                ":" + sender.getNickname() + " " + getCommand() + " " + channelName + " :" + filtered + "\r\n", message.tags())
+                .withEvent(new ServiceEvent.ChannelMessage(channel.getName(), sender.getNickname(), isNotice(), filtered));
+
+        // 브로드캐스팅 (나를 제외한 모두에게 전송, echo-message 를 켠 경우 나에게도)
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
+        int recipients = fullMessage.broadcast(channel.getUsers(), sender);
+        topTalkers.recordBroadcast(channel.getName(), fullMessage.length(), recipients);
+        if (event.shouldCommit()) {
+            event.channel = channelName;
+            event.command = getCommand();
+            event.members = channel.getUsers().size();
+            event.commit();
+        }
+
+        // 필터를 거친 본문을 기록 (검색 결과에 가려진 원문이 나오지 않도록)
+        channelHistory.append(channel.getName(), sender.getNickname(), filtered);
+
+        logger.debug("[Chat] {} -> {}: {}", sender.getNickname(), channelName, text);
     }
 }
@@ -1,10 +1,12 @@
 package com.ircproject.handler.commands;
 
-import com.ircproject.domain.Channel;
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.OutboundMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandHandler;
 import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -21,15 +23,19 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 10.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       서비스용 종료 이벤트
+ * 2026. 10. 19.       kobe       종료 알림은 먼저 쌓인 대화 뒤에
  */
 @Component
 public class QuitHandler implements CommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(QuitHandler.class);
     private final ChannelRepository channelRepository;
+    private final UserRepository userRepository;
 
-    public QuitHandler(ChannelRepository channelRepository) {
+    public QuitHandler(ChannelRepository channelRepository, UserRepository userRepository) {
         this.channelRepository = channelRepository;
+        this.userRepository = userRepository;
     }
 
     @Override
@@ -42,31 +48,24 @@ public class QuitHandler implements CommandHandler {
         // 종료 사유 (옵션)
         String reason = (message.parameters().isEmpty()) ? "Client Quit" : message.parameters().get(0);
 
-        // 1. 내가 속한 모든 채널에 QUIT 메시지 브로드캐스팅
+        // 1. 채널을 함께 쓰는 사람들에게 QUIT 메시지를 한 번씩만 전송 (여러 채널을 공유해도 중복 없음)
         // IRC 표준: :닉네입 QUIT :이유
-        String quitMessage = ":" + user.getNickname() + " QUIT :" + reason + "\r\n";
+        OutboundMessage quitMessage = OutboundMessage.of(":" + user.getNickname() + " QUIT :" + reason + "\r\n")
+                .withEvent(new ServiceEvent.Quit(user.getNickname(), reason));
+        channelRepository.forEachPeer(user, quitMessage::sendOrderedTo);
 
-        for (String channelName : user.getJoinedChannels()) {
-            Channel channel = channelRepository.get(channelName);
-            if (channel != null) {
-                // 방에 있는 다른 사람들에게 알림
-                for (User member : channel.getUsers()) {
-                    if (!member.equals(user)) {
-                        member.sendMessage(quitMessage);
-                    }
-                }
-            }
-        }
+        // 2. 채널/닉네임 정리 (이후 disconnect 에서 같은 알림이 다시 나가지 않도록 여기서 처리)
+        channelRepository.leaveAll(user);
+        userRepository.remove(user.getNickname(), user);
 
         logger.info("User {} is quitting: {}", user.getNickname(), reason);
 
-        // 2. 클라이언트에게 마지막 에러 메시지 전송 (표준 절차)
+        // 3. 클라이언트에게 마지막 에러 메시지 전송 (표준 절차)
         // 이메시지를 받고 클라이언트는 스스로 소켓을 닫거나, 서버가 닫기를 기다림
         user.sendMessage("ERROR :Closing Link: " + user.getNickname() + " (" + reason + ")\r\n");
 
-        // 3. 소켓 강제 종료
-        // 소켓을 닫으면 IrcServer.run() 루프에서 read()가 -1을 반환하거나 Exception이 발생하여
-        // IrcServer.disconnect()가 호출되고, 거기서 '채널 퇴장' 및 '메모리 정리'가 수행됩니다.
-        user.getSocketChannel().close();
+        // 4. 연결 종료 요청
+        // 서버가 이 명령 처리 직후 송신 큐(ERROR 메시지)를 비우고 소켓을 닫습니다.
+        user.requestClose();
     }
 }
@@ -0,0 +1,101 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.history.ChannelHistory;
+import com.ircproject.history.HistoryEntry;
+import com.ircproject.history.SearchResult;
+import com.ircproject.repository.ChannelRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : SearchHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : SEARCH <#채널명> <검색어...> - 채널 기록에서 모든 검색어를 포함한 메시지를 최신순으로 찾습니다. (채널 멤버 전용)
+ *                  검색은 백그라운드 스레드에서 실행되고, 결과는 나중에 이벤트 루프에서 NOTICE 로 전송됩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class SearchHandler implements CommandHandler {
+
+    static final int MAX_RESULTS = 10;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    private final ChannelRepository channelRepository;
+    private final ChannelHistory channelHistory;
+
+    public SearchHandler(ChannelRepository channelRepository, ChannelHistory channelHistory) {
+        this.channelRepository = channelRepository;
+        this.channelHistory = channelHistory;
+    }
+
+    @Override
+    public String getCommand() {
+        return "SEARCH";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        List<String> params = message.parameters();
+        if (params.size() < 2) {
+            // 461 ERR_NEEDMOREPARAMS
+            user.sendMessage(":server 461 " + user.getNickname() + " SEARCH :Not enough parameters\r\n");
+            return;
+        }
+
+        String channelName = params.get(0);
+        Channel channel = channelRepository.get(channelName);
+        if (channel == null) {
+            // 403 ERR_NOSUCHCHANNEL
+            user.sendMessage(":server 403 " + user.getNickname() + " " + channelName + " :No such channel\r\n");
+            return;
+        }
+        if (!channel.getUsers().contains(user)) {
+            // 442 ERR_NOTONCHANNEL (기록은 멤버에게만 공개)
+            user.sendMessage(":server 442 " + user.getNickname() + " " + channelName + " :You're not on that channel\r\n");
+            return;
+        }
+        if (!channelHistory.isEnabled()) {
+            sendNotice(user, "SEARCH " + channelName + ": channel history is disabled");
+            return;
+        }
+
+        // "SEARCH #dev foo bar" 와 "SEARCH #dev :foo bar" 를 같게 취급
+        String query = String.join(" ", params.subList(1, params.size()));
+        boolean accepted = channelHistory.search(channel.getName(), query, MAX_RESULTS,
+                result -> sendResults(user, channel.getName(), query, result));
+        if (!accepted) {
+            // 263 RPL_TRYAGAIN
+            user.sendMessage(":server 263 " + user.getNickname() + " SEARCH :Server busy, please try again later\r\n");
+        }
+    }
+
+    // 예: "[#dev] 2026-10-19 14:02 <alice> 배포 끝났습니다"
+    private void sendResults(User user, String channelName, String query, SearchResult result) {
+        for (HistoryEntry entry : result.hits()) {
+            sendNotice(user, "[" + channelName + "] " + TIME_FORMAT.format(Instant.ofEpochMilli(entry.timestampMillis()))
+                    + " <" + entry.sender() + "> " + entry.text());
+        }
+        sendNotice(user, "SEARCH " + channelName + " \"" + query + "\": " + result.hits().size() + " result(s) in "
+                + result.searched() + " message(s)" + (result.truncated() ? ", time limit reached" : ""));
+    }
+
+    private static void sendNotice(User user, String text) {
+        user.sendMessage(":server NOTICE " + user.getNickname() + " :" + text + "\r\n");
+    }
+}
@@ -0,0 +1,113 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.DeflateStream;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.monitor.LatencyHistogram;
+import com.ircproject.monitor.MessageTracer;
+import com.ircproject.repository.ChannelRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : StatsHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : STATS <latency|commands|compression|outbound|channels|reset> - 샘플링된 메시지 처리 지연 백분위 조회 (서버 운영자 전용)
+ *                  latency  : 구간별 (QUEUE, PARSE, HANDLE, FLUSH, TOTAL)
+ *                  commands : 명령어별 TOTAL
+ *                  compression : COMPRESS 연결 수와 송신 압축률
+ *                  outbound : 밀려서 버린 채널 대화 메시지 수
+ *                  channels : 살아 있는/영구 채널 수와 누적 생성/회수 수
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       compression 조회
+ * 2026. 10. 19.       kobe       channels 조회
+ * 2026. 10. 19.       kobe       outbound 조회
+ */
+@Component
+public class StatsHandler implements CommandHandler {
+
+    private final MessageTracer tracer;
+    private final ChannelRepository channelRepository;
+
+    public StatsHandler(MessageTracer tracer, ChannelRepository channelRepository) {
+        this.tracer = tracer;
+        this.channelRepository = channelRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "STATS";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (!user.isServerOperator()) {
+            // 481 ERR_NOPRIVILEGES
+            user.sendMessage(":server 481 " + user.getNickname() + " :Permission Denied- You're not an IRC operator\r\n");
+            return;
+        }
+
+        String query = message.parameters().isEmpty() ? "latency" : message.parameters().get(0).toLowerCase();
+        switch (query) {
+            case "latency" -> {
+                sendStats(user, "sampling 1/" + tracer.getSampleInterval() + (tracer.isEnabled() ? "" : " (disabled)")
+                        + ", values in microseconds");
+                for (MessageTracer.Stage stage : MessageTracer.Stage.values()) {
+                    sendStats(user, format(stage.name(), tracer.getStage(stage)));
+                }
+            }
+            case "commands" -> {
+                for (Map.Entry<String, LatencyHistogram> entry : tracer.getCommands().entrySet()) {
+                    sendStats(user, format(entry.getKey(), entry.getValue()));
+                }
+            }
+            case "compression" -> {
+                long raw = DeflateStream.getRawBytes();
+                long compressed = DeflateStream.getCompressedBytes();
+                sendStats(user, String.format("active=%d raw=%d compressed=%d ratio=%.2f", DeflateStream.getActiveCount(),
+                        raw, compressed, raw == 0 ? 1.0 : (double) compressed / raw));
+            }
+            case "outbound" -> sendStats(user, "bulk lane limit=" + User.MAX_BULK_BYTES + " shed messages="
+                    + User.getShedMessageCount() + " bytes=" + User.getShedByteCount());
+            case "channels" -> {
+                long persistent = channelRepository.findAll().stream().filter(Channel::isPersistent).count();
+                sendStats(user, "live=" + channelRepository.getLiveCount() + " persistent=" + persistent
+                        + " created=" + channelRepository.getCreatedCount()
+                        + " reclaimed=" + channelRepository.getReclaimedCount());
+            }
+            case "reset" -> {
+                tracer.reset();
+                sendStats(user, "latency histograms cleared");
+            }
+            default -> sendStats(user, "Usage: STATS <latency|commands|compression|outbound|channels|reset>");
+        }
+        // 219 RPL_ENDOFSTATS
+        user.sendMessage(":server 219 " + user.getNickname() + " " + query + " :End of /STATS report\r\n");
+    }
+
+    // 예: "TOTAL    n=1234 p50=85 p90=140 p99=910 p99.9=2300 max=4100"
+    private static String format(String name, LatencyHistogram histogram) {
+        return String.format("%-8s n=%d p50=%d p90=%d p99=%d p99.9=%d max=%d", name, histogram.getCount(),
+                micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(90)),
+                micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMax()));
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    // 249 RPL_STATSDEBUG
+    private static void sendStats(User user, String text) {
+        user.sendMessage(":server 249 " + user.getNickname() + " :" + text + "\r\n");
+    }
+}
@@ -0,0 +1,112 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.monitor.TopTalkers;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : TopHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : TOP [users|hosts|channels|reset] [messages|bytes] [개수] - 최근 윈도우의 상위 사용자/IP/채널 조회 (서버 운영자 전용)
+ *                  값은 근사치이며, 실제 값은 "추정치 - 오차" 이상 "추정치" 이하입니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class TopHandler implements CommandHandler {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+
+    private static final String USAGE = "Usage: TOP [users|hosts|channels|reset] [messages|bytes] [count]";
+
+    private final TopTalkers topTalkers;
+
+    public TopHandler(TopTalkers topTalkers) {
+        this.topTalkers = topTalkers;
+    }
+
+    @Override
+    public String getCommand() {
+        return "TOP";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        if (!user.isServerOperator()) {
+            // 481 ERR_NOPRIVILEGES
+            user.sendMessage(":server 481 " + user.getNickname() + " :Permission Denied- You're not an IRC operator\r\n");
+            return;
+        }
+
+        List<String> params = message.parameters();
+        String query = params.isEmpty() ? "users" : params.get(0).toLowerCase(Locale.ROOT);
+        if (query.equals("reset")) {
+            topTalkers.reset();
+            sendStats(user, "top talker counters cleared");
+        } else {
+            TopTalkers.Dimension dimension = dimension(query);
+            TopTalkers.Metric metric = params.size() < 2 ? TopTalkers.Metric.MESSAGES : metric(params.get(1));
+            int limit = params.size() < 3 ? DEFAULT_LIMIT : limit(params.get(2));
+            if (dimension == null || metric == null || limit <= 0) {
+                sendStats(user, USAGE);
+            } else if (!topTalkers.isEnabled()) {
+                sendStats(user, "top talker tracking is disabled");
+            } else {
+                sendTop(user, dimension, metric, limit);
+            }
+        }
+        // 219 RPL_ENDOFSTATS
+        user.sendMessage(":server 219 " + user.getNickname() + " " + query + " :End of /TOP report\r\n");
+    }
+
+    // 예: " 1. 10.0.0.7            count=48213 (+-120)"
+    private void sendTop(User user, TopTalkers.Dimension dimension, TopTalkers.Metric metric, int limit) {
+        sendStats(user, dimension.name().toLowerCase(Locale.ROOT) + " by " + metric.name().toLowerCase(Locale.ROOT)
+                + ", last " + topTalkers.getWindowSeconds() + "s");
+        int rank = 0;
+        for (TopTalkers.Entry entry : topTalkers.top(dimension, metric, limit)) {
+            sendStats(user, String.format("%2d. %-20s count=%d (+-%d)", ++rank, entry.key(), entry.count(), entry.error()));
+        }
+    }
+
+    private static TopTalkers.Dimension dimension(String name) {
+        return switch (name) {
+            case "users", "user" -> TopTalkers.Dimension.USER;
+            case "hosts", "host", "ips", "ip" -> TopTalkers.Dimension.HOST;
+            case "channels", "channel" -> TopTalkers.Dimension.CHANNEL;
+            default -> null;
+        };
+    }
+
+    private static TopTalkers.Metric metric(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "messages", "msgs" -> TopTalkers.Metric.MESSAGES;
+            case "bytes" -> TopTalkers.Metric.BYTES;
+            default -> null;
+        };
+    }
+
+    private static int limit(String value) {
+        try {
+            return Math.min(Integer.parseInt(value), MAX_LIMIT);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 249 RPL_STATSDEBUG
+    private static void sendStats(User user, String text) {
+        user.sendMessage(":server 249 " + user.getNickname() + " :" + text + "\r\n");
+    }
+}
@@ -0,0 +1,62 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : WhoHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : WHO #채널 | WHO 닉네임
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class WhoHandler implements CommandHandler {
+
+    private final ChannelRepository channelRepository;
+    private final UserRepository userRepository;
+
+    public WhoHandler(ChannelRepository channelRepository, UserRepository userRepository) {
+        this.channelRepository = channelRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "WHO";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        String mask = message.parameters().isEmpty() ? "*" : message.parameters().get(0);
+
+        if (mask.startsWith("#")) {
+            Channel channel = channelRepository.get(mask);
+            if (channel != null) {
+                // 채널에 캐시된 멤버별 352 라인 조각을 재사용
+                channel.sendWho(user);
+            }
+        } else {
+            User target = userRepository.findByNickname(mask);
+            if (target != null) {
+                // 형식 :server 352 <나> * <user> <host> server <nick> H :0 <realname>
+                user.sendMessage(":server 352 " + user.getNickname() + " * " + target.getNickname() + " "
+                        + target.getHost() + " server " + target.getNickname() + " H :0 " + target.getNickname() + "\r\n");
+            }
+        }
+
+        // 315 RPL_ENDOFWHO
+        user.sendMessage(":server 315 " + user.getNickname() + " " + mask + " :End of /WHO list.\r\n");
+    }
+}
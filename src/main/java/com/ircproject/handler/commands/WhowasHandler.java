@@ -0,0 +1,78 @@
+package com.ircproject.handler.commands;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandHandler;
+import com.ircproject.repository.WhowasRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.handler.commands
+ * fileName       : WhowasHandler
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : WHOWAS <닉네임> [개수] - 그 닉네임을 쓰다가 나간 사용자의 기록을 최신순으로 보여줍니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class WhowasHandler implements CommandHandler {
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final WhowasRepository whowasRepository;
+
+    public WhowasHandler(WhowasRepository whowasRepository) {
+        this.whowasRepository = whowasRepository;
+    }
+
+    @Override
+    public String getCommand() {
+        return "WHOWAS";
+    }
+
+    @Override
+    public void handle(User user, IrcMessage message) throws IOException {
+        List<String> params = message.parameters();
+        if (params.isEmpty() || params.get(0).isEmpty()) {
+            // 431 ERR_NONICKNAMEGIVEN
+            user.sendMessage(":server 431 " + user.getNickname() + " :No nickname given\r\n");
+            return;
+        }
+
+        String nickname = params.get(0);
+        int limit = 0;
+        if (params.size() > 1) {
+            try {
+                limit = Integer.parseInt(params.get(1));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 개수는 전부 보여주는 것으로 취급
+            }
+        }
+
+        List<WhowasRepository.Entry> entries = whowasRepository.find(nickname, limit);
+        if (entries.isEmpty()) {
+            // 406 ERR_WASNOSUCHNICK
+            user.sendMessage(":server 406 " + user.getNickname() + " " + nickname + " :There was no such nickname\r\n");
+        }
+        for (WhowasRepository.Entry entry : entries) {
+            // 314 RPL_WHOWASUSER <나> <nick> <user> <host> * :<realname> (USER 를 받지 않으므로 user/realname 에 닉네임)
+            user.sendMessage(":server 314 " + user.getNickname() + " " + entry.nickname() + " " + entry.nickname() + " "
+                    + entry.host() + " * :" + entry.nickname() + "\r\n");
+            // 312 RPL_WHOISSERVER <나> <nick> <server> :<나간 시각>
+            user.sendMessage(":server 312 " + user.getNickname() + " " + entry.nickname() + " server :"
+                    + TIME_FORMAT.format(Instant.ofEpochMilli(entry.signoffMillis())) + "\r\n");
+        }
+        // 369 RPL_ENDOFWHOWAS
+        user.sendMessage(":server 369 " + user.getNickname() + " " + nickname + " :End of WHOWAS\r\n");
+    }
+}
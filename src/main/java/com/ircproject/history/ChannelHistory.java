@@ -0,0 +1,159 @@
+package com.ircproject.history;
+
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.server.LoopExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : ChannelHistory
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널별 대화 기록과 전문 검색.
+ *                  기록은 이벤트 루프에서 추가하고, 조각 병합과 검색은 각각 전용 스레드에서 실행한 뒤 결과만 LoopExecutor 로 돌려받습니다.
+ *                  검색 대기열이 가득 차면 바로 거절하므로 검색이 몰려도 루프나 메모리가 밀리지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       회수된 채널의 기록 삭제
+ * 2026. 10. 19.       kobe       생성자에서 this 를 넘기지 않도록 회수 리스너 정리
+ */
+@Component
+public final class ChannelHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelHistory.class);
+
+    // 실행을 기다릴 수 있는 검색 요청 수
+    static final int SEARCH_QUEUE_CAPACITY = 64;
+
+    // 채널 이름 -> 기록 (이벤트 루프 스레드 전용, 검색 스레드에는 HistoryIndex 만 넘김)
+    private final Map<String, HistoryIndex> indexes = new HashMap<>();
+
+    private final int maxMessages; // 0 이면 끔
+    private final long searchTimeoutNanos;
+    private final LoopExecutor loopExecutor;
+    private final ThreadPoolExecutor searchExecutor;
+    private final ExecutorService mergeExecutor;
+
+    /**
+     * @param maxMessages         채널마다 보관할 메시지 수
+     * @param searchThreads       검색 스레드 수
+     * @param searchTimeoutMillis 검색 한 번의 제한 시간 (넘으면 그때까지 찾은 결과만 반환)
+     */
+    public ChannelHistory(@Value("${irc.history.max-messages:10000}") int maxMessages,
+                          @Value("${irc.history.search-threads:2}") int searchThreads,
+                          @Value("${irc.history.search-timeout-ms:200}") int searchTimeoutMillis,
+                          LoopExecutor loopExecutor,
+                          ChannelRepository channelRepository) {
+        this.maxMessages = maxMessages;
+        this.searchTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(searchTimeoutMillis);
+        this.loopExecutor = loopExecutor;
+        int threads = Math.max(1, searchThreads);
+        this.searchExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SEARCH_QUEUE_CAPACITY), daemonThreads("history-search"));
+        this.mergeExecutor = Executors.newSingleThreadExecutor(daemonThreads("history-merge"));
+
+        // 마지막 멤버가 나가 회수된 채널의 기록은 함께 버림 (+P 채널은 회수되지 않으므로 유지)
+        // 생성 중인 this 대신 이미 만들어진 맵만 넘김 (drop 과 같은 동작)
+        Map<String, HistoryIndex> channelIndexes = indexes;
+        channelRepository.addReclaimListener(channelIndexes::remove);
+    }
+
+    public boolean isEnabled() {
+        return maxMessages > 0;
+    }
+
+    /**
+     * 채널 메시지를 기록합니다. (이벤트 루프 스레드)
+     */
+    public void append(String channel, String sender, String text) {
+        if (maxMessages <= 0) {
+            return;
+        }
+        HistoryIndex index = indexes.computeIfAbsent(channel, ignored -> new HistoryIndex(maxMessages));
+        if (index.append(sender, text, System.currentTimeMillis()) && index.requestMerge()) {
+            mergeExecutor.execute(() -> {
+                try {
+                    index.runMerges();
+                } catch (RuntimeException e) {
+                    logger.error("History merge failed for {}", channel, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 검색을 백그라운드에서 실행하고, 결과를 이벤트 루프에서 onResult 로 전달합니다. (이벤트 루프 스레드에서 호출)
+     *
+     * @param query 공백 등으로 구분한 검색어 (모두 포함한 메시지만)
+     * @return 검색 대기열이 가득 차서 거절했으면 false (onResult 는 호출되지 않음)
+     */
+    public boolean search(String channel, String query, int limit, Consumer<SearchResult> onResult) {
+        HistoryIndex index = indexes.get(channel);
+        Set<String> terms = Tokenizer.terms(query);
+        if (index == null || terms.isEmpty()) {
+            onResult.accept(new SearchResult(List.of(), 0, false));
+            return true;
+        }
+
+        long deadline = System.nanoTime() + searchTimeoutNanos;
+        try {
+            searchExecutor.execute(() -> {
+                SearchResult result;
+                try {
+                    result = index.search(terms, limit, deadline);
+                } catch (RuntimeException e) {
+                    logger.error("History search failed for {}", channel, e);
+                    result = new SearchResult(List.of(), 0, true);
+                }
+                SearchResult finished = result;
+                loopExecutor.execute(() -> onResult.accept(finished));
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 채널 기록을 버립니다. 진행 중인 검색과 병합은 이미 넘겨받은 기록으로 끝까지 실행됩니다. (이벤트 루프 스레드)
+     */
+    public void drop(String channel) {
+        indexes.remove(channel);
+    }
+
+    /**
+     * 채널에 보관 중인 메시지 수 (이벤트 루프 스레드)
+     */
+    public long size(String channel) {
+        HistoryIndex index = indexes.get(channel);
+        return index == null ? 0 : index.size();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
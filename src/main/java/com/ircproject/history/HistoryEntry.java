@@ -0,0 +1,15 @@
+package com.ircproject.history;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : HistoryEntry
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널 기록 한 줄 (id 는 채널 안에서 단조 증가)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public record HistoryEntry(long id, long timestampMillis, String sender, String text) {
+}
@@ -0,0 +1,223 @@
+package com.ircproject.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : HistoryIndex
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널 하나의 기록과 역색인.
+ *                  새 메시지는 꼬리(tail) 배열에 쌓이고, SEGMENT_SIZE 개가 차면 불변 Segment 로 봉인됩니다.
+ *                  같은 크기의 조각 두 개는 백그라운드에서 하나로 병합되어(256 -> 512 -> ... -> MAX_SEGMENT_SIZE) 조각 수가 로그 수준으로 유지됩니다.
+ *                  조각 목록과 꼬리는 한 번에 교체되는 State 로 묶여 있어서, 검색 스레드는 잠금 없이 일관된 스냅샷을 봅니다.
+ *                  append 는 이벤트 루프 스레드, 병합은 병합 스레드, search 는 검색 스레드에서 호출합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class HistoryIndex {
+
+    static final int SEGMENT_SIZE = 256;
+    static final int MAX_SEGMENT_SIZE = 8192;
+
+    // 봉인 전의 최근 메시지. 루프 스레드만 쓰고, count 를 volatile 로 써서 그 앞의 문서를 검색 스레드에 공개함
+    private static final class Tail {
+        final HistoryEntry[] docs = new HistoryEntry[SEGMENT_SIZE];
+        volatile int count;
+    }
+
+    // 오래된 조각부터, 그리고 아직 봉인되지 않은 꼬리
+    private record State(List<Segment> segments, Tail tail) {
+    }
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(List.of(), new Tail()));
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+    private final int maxMessages;
+    private long nextId;
+
+    /**
+     * @param maxMessages 보관할 메시지 수 (넘으면 가장 오래된 조각부터 버림)
+     */
+    HistoryIndex(int maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * 메시지를 추가합니다. (이벤트 루프 스레드)
+     *
+     * @return 조각을 봉인했으면 true (병합이 필요할 수 있음)
+     */
+    boolean append(String sender, String text, long timestampMillis) {
+        Tail tail = state.get().tail();
+        int count = tail.count;
+        tail.docs[count] = new HistoryEntry(nextId++, timestampMillis, sender, text);
+        tail.count = count + 1;
+        if (count + 1 < SEGMENT_SIZE) {
+            return false;
+        }
+
+        // 색인 생성은 조각 하나(SEGMENT_SIZE 개) 분량이라 루프에서 바로 해도 짧음
+        Segment sealed = Segment.build(tail.docs, SEGMENT_SIZE);
+        state.updateAndGet(current -> {
+            List<Segment> segments = new ArrayList<>(current.segments());
+            segments.add(sealed);
+            trim(segments);
+            return new State(List.copyOf(segments), new Tail());
+        });
+        return true;
+    }
+
+    /**
+     * 병합할 조각이 있고 아직 예약되지 않았으면 예약 권한을 얻습니다.
+     *
+     * @return true 면 호출한 쪽이 runMerges() 를 실행해야 함
+     */
+    boolean requestMerge() {
+        return mergeCandidate(state.get().segments()) >= 0 && mergeScheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 병합할 조각이 없어질 때까지 병합합니다. (병합 스레드)
+     */
+    void runMerges() {
+        do {
+            while (mergeOnce()) {
+                // 더 이상 같은 크기의 이웃이 없을 때까지
+            }
+            mergeScheduled.set(false);
+            // 예약 해제 직전에 봉인된 조각이 있으면 이어서 처리
+        } while (requestMerge());
+    }
+
+    /**
+     * 최신 메시지부터 모든 검색어를 포함한 메시지를 찾습니다. (검색 스레드)
+     * 조각 하나를 볼 때마다 deadline 을 확인하므로, 기록이 아무리 많아도 (deadline + 조각 하나) 안에 끝납니다.
+     *
+     * @param terms         Tokenizer 로 나눈 검색어 (AND)
+     * @param deadlineNanos System.nanoTime 기준 마감 시각
+     */
+    SearchResult search(Set<String> terms, int limit, long deadlineNanos) {
+        List<HistoryEntry> hits = new ArrayList<>();
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(hits, 0, false);
+        }
+
+        State snapshot = state.get();
+        Tail tail = snapshot.tail();
+        int tailCount = tail.count;
+        long searched = tailCount;
+        // 꼬리는 색인이 없으므로 직접 훑음 (최대 SEGMENT_SIZE 개)
+        for (int i = tailCount - 1; i >= 0 && hits.size() < limit; i--) {
+            if (Tokenizer.terms(tail.docs[i].text()).containsAll(terms)) {
+                hits.add(tail.docs[i]);
+            }
+        }
+
+        List<Segment> segments = snapshot.segments();
+        for (int k = segments.size() - 1; k >= 0 && hits.size() < limit; k--) {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                return new SearchResult(hits, searched, true);
+            }
+            Segment segment = segments.get(k);
+            collect(segment, terms, limit, hits);
+            searched += segment.size();
+        }
+        return new SearchResult(hits, searched, false);
+    }
+
+    /**
+     * 보관 중인 메시지 수 (근삿값)
+     */
+    long size() {
+        State current = state.get();
+        long total = current.tail().count;
+        for (Segment segment : current.segments()) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    int segmentCount() {
+        return state.get().segments().size();
+    }
+
+    // 같은 크기의 이웃 두 조각을 하나로 합쳐서 교체 (그 사이에 오래된 조각이 버려졌으면 결과를 버림)
+    private boolean mergeOnce() {
+        List<Segment> segments = state.get().segments();
+        int index = mergeCandidate(segments);
+        if (index < 0) {
+            return false;
+        }
+        Segment older = segments.get(index);
+        Segment newer = segments.get(index + 1);
+        Segment merged = Segment.merge(older, newer);
+
+        state.updateAndGet(current -> {
+            List<Segment> latest = current.segments();
+            int position = latest.indexOf(older); // Segment 는 equals 를 재정의하지 않으므로 동일성 비교
+            if (position < 0 || position + 1 >= latest.size() || latest.get(position + 1) != newer) {
+                return current;
+            }
+            List<Segment> replaced = new ArrayList<>(latest);
+            replaced.set(position, merged);
+            replaced.remove(position + 1);
+            return new State(List.copyOf(replaced), current.tail());
+        });
+        return true;
+    }
+
+    // 최신 쪽부터 같은 크기의 이웃을 찾음, 없으면 -1
+    private static int mergeCandidate(List<Segment> segments) {
+        for (int i = segments.size() - 2; i >= 0; i--) {
+            int size = segments.get(i).size();
+            if (size == segments.get(i + 1).size() && size * 2 <= MAX_SEGMENT_SIZE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void trim(List<Segment> segments) {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.size();
+        }
+        while (segments.size() > 1 && total - segments.get(0).size() >= maxMessages) {
+            total -= segments.remove(0).size();
+        }
+    }
+
+    // 가장 짧은 postings 를 기준으로 최신 문서부터 나머지 postings 에 있는지 이진 탐색
+    private static void collect(Segment segment, Set<String> terms, int limit, List<HistoryEntry> hits) {
+        int[][] lists = new int[terms.size()][];
+        int n = 0;
+        for (String term : terms) {
+            int[] postings = segment.postings(term);
+            if (postings.length == 0) {
+                return;
+            }
+            lists[n++] = postings;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        int[] shortest = lists[0];
+        for (int i = shortest.length - 1; i >= 0 && hits.size() < limit; i--) {
+            int doc = shortest[i];
+            boolean all = true;
+            for (int k = 1; k < lists.length && all; k++) {
+                all = Arrays.binarySearch(lists[k], doc) >= 0;
+            }
+            if (all) {
+                hits.add(segment.doc(doc));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ircproject.history;
+
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : SearchResult
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널 기록 검색 결과
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ *
+ * @param hits      최신순 결과 (최대 limit 개)
+ * @param searched  검색한 메시지 수
+ * @param truncated 제한 시간 안에 전체 기록을 다 보지 못했으면 true
+ */
+public record SearchResult(List<HistoryEntry> hits, long searched, boolean truncated) {
+}
@@ -0,0 +1,120 @@
+package com.ircproject.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : Segment
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 채널 기록의 불변 색인 조각.
+ *                  정렬된 단어 사전과 단어별 postings(조각 안의 문서 번호, 오름차순)를 가지며, 만든 뒤에는 바뀌지 않으므로
+ *                  검색 스레드와 병합 스레드가 잠금 없이 읽을 수 있습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class Segment {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final HistoryEntry[] docs; // id 오름차순
+    private final String[] terms;      // 정렬됨
+    private final int[][] postings;    // terms[i] 가 나오는 docs 번호
+
+    private Segment(HistoryEntry[] docs, String[] terms, int[][] postings) {
+        this.docs = docs;
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    /**
+     * 문서 배열(id 오름차순)의 앞 count 개로 조각을 만듭니다.
+     */
+    static Segment build(HistoryEntry[] source, int count) {
+        HistoryEntry[] docs = Arrays.copyOf(source, count);
+        Map<String, int[]> building = new HashMap<>(); // [0] 길이, 나머지 postings (모자라면 늘림)
+        for (int doc = 0; doc < count; doc++) {
+            for (String term : Tokenizer.terms(docs[doc].text())) {
+                int[] list = building.get(term);
+                if (list == null) {
+                    list = new int[4];
+                    building.put(term, list);
+                } else if (list[0] + 1 == list.length) {
+                    list = Arrays.copyOf(list, list.length * 2);
+                    building.put(term, list);
+                }
+                list[++list[0]] = doc;
+            }
+        }
+
+        String[] terms = building.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        int[][] postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            int[] list = building.get(terms[i]);
+            postings[i] = Arrays.copyOfRange(list, 1, list[0] + 1);
+        }
+        return new Segment(docs, terms, postings);
+    }
+
+    /**
+     * 오래된 조각과 최신 조각을 하나로 합칩니다. 두 사전이 정렬되어 있으므로 한 번의 병합 순회로 끝납니다.
+     */
+    static Segment merge(Segment older, Segment newer) {
+        HistoryEntry[] docs = Arrays.copyOf(older.docs, older.docs.length + newer.docs.length);
+        System.arraycopy(newer.docs, 0, docs, older.docs.length, newer.docs.length);
+        int offset = older.docs.length;
+
+        List<String> terms = new ArrayList<>(Math.max(older.terms.length, newer.terms.length));
+        List<int[]> postings = new ArrayList<>(Math.max(older.terms.length, newer.terms.length));
+        int i = 0;
+        int j = 0;
+        while (i < older.terms.length || j < newer.terms.length) {
+            int compare = i == older.terms.length ? 1
+                    : j == newer.terms.length ? -1
+                    : older.terms[i].compareTo(newer.terms[j]);
+            if (compare < 0) {
+                terms.add(older.terms[i]);
+                postings.add(older.postings[i++]);
+            } else if (compare > 0) {
+                terms.add(newer.terms[j]);
+                postings.add(shift(newer.postings[j++], offset, NO_POSTINGS));
+            } else {
+                terms.add(older.terms[i]);
+                postings.add(shift(newer.postings[j++], offset, older.postings[i++]));
+            }
+        }
+        return new Segment(docs, terms.toArray(new String[0]), postings.toArray(new int[0][]));
+    }
+
+    int size() {
+        return docs.length;
+    }
+
+    HistoryEntry doc(int index) {
+        return docs[index];
+    }
+
+    /**
+     * @return 단어가 나오는 문서 번호 (오름차순), 없으면 빈 배열
+     */
+    int[] postings(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 ? postings[index] : NO_POSTINGS;
+    }
+
+    // prefix 뒤에 list 의 각 값에 offset 을 더해 붙인 새 배열
+    private static int[] shift(int[] list, int offset, int[] prefix) {
+        int[] shifted = Arrays.copyOf(prefix, prefix.length + list.length);
+        for (int k = 0; k < list.length; k++) {
+            shifted[prefix.length + k] = list[k] + offset;
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ircproject.history;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : Tokenizer
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 본문과 검색어를 같은 규칙으로 단어로 나눕니다. (문자/숫자 연속 구간, 소문자화, 중복 제거)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class Tokenizer {
+
+    // 이보다 긴 단어는 잘라서 색인 (URL 조각 등으로 사전이 커지지 않도록)
+    static final int MAX_TERM_LENGTH = 32;
+
+    private Tokenizer() {
+    }
+
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int end = Math.min(i, start + MAX_TERM_LENGTH);
+                terms.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
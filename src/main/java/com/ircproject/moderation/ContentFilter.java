@@ -0,0 +1,162 @@
+package com.ircproject.moderation;
+
+import com.ircproject.domain.FilterAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * packageName    : com.ircproject.moderation
+ * fileName       : ContentFilter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : PRIVMSG/NOTICE 본문의 금칙어/URL 패턴 필터.
+ *                  패턴 목록이 바뀌면 새 오토마톤을 컴파일해서 원자적으로 교체하므로, 검사하는 쪽은 잠금 없이 현재 버전을 읽기만 합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class ContentFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentFilter.class);
+
+    // 패턴 목록과 그 목록으로 컴파일한 오토마톤을 한 쌍으로 교체
+    private record Rules(List<String> patterns, PatternAutomaton automaton) {
+        static final Rules EMPTY = new Rules(List.of(), PatternAutomaton.EMPTY);
+    }
+
+    private final AtomicReference<Rules> rules = new AtomicReference<>(Rules.EMPTY);
+    private final FilterAction defaultAction;
+
+    private final LongAdder blockedCount = new LongAdder();
+    private final LongAdder censoredCount = new LongAdder();
+
+    /**
+     * @param patterns      기동 시 적용할 패턴 (쉼표로 구분)
+     * @param defaultAction 채널에 따로 지정하지 않았을 때와 귓속말에 적용할 동작
+     */
+    public ContentFilter(@Value("${irc.filter.patterns:}") String patterns,
+                         @Value("${irc.filter.default-action:block}") String defaultAction) {
+        FilterAction action = FilterAction.fromName(defaultAction);
+        if (action == null) {
+            throw new IllegalArgumentException("Unknown filter action: " + defaultAction);
+        }
+        this.defaultAction = action;
+
+        List<String> initial = new ArrayList<>();
+        for (String pattern : patterns.split(",")) {
+            if (!pattern.isBlank() && !containsIgnoreCase(initial, pattern.trim())) {
+                initial.add(pattern.trim());
+            }
+        }
+        if (!initial.isEmpty()) {
+            rules.set(new Rules(List.copyOf(initial), PatternAutomaton.compile(initial)));
+        }
+    }
+
+    public FilterAction getDefaultAction() {
+        return defaultAction;
+    }
+
+    public List<String> getPatterns() {
+        return rules.get().patterns();
+    }
+
+    /**
+     * @return 새로 추가되었으면 true (대소문자만 다른 패턴이 이미 있으면 false)
+     */
+    public boolean addPattern(String pattern) {
+        if (pattern.isEmpty() || containsIgnoreCase(getPatterns(), pattern)) {
+            return false;
+        }
+        swap(patterns -> {
+            List<String> updated = new ArrayList<>(patterns);
+            updated.add(pattern);
+            return updated;
+        });
+        logger.info("Filter pattern added: {} ({} total)", pattern, getPatterns().size());
+        return true;
+    }
+
+    /**
+     * @return 제거되었으면 true
+     */
+    public boolean removePattern(String pattern) {
+        if (!containsIgnoreCase(getPatterns(), pattern)) {
+            return false;
+        }
+        swap(patterns -> {
+            List<String> updated = new ArrayList<>(patterns);
+            updated.removeIf(existing -> existing.equalsIgnoreCase(pattern));
+            return updated;
+        });
+        logger.info("Filter pattern removed: {} ({} total)", pattern, getPatterns().size());
+        return true;
+    }
+
+    /**
+     * 본문을 한 번 훑어서 필터 동작을 적용합니다.
+     *
+     * @param action 적용할 동작 (null 이면 서버 기본값)
+     * @return 전달할 본문 (걸리지 않았으면 같은 인스턴스, CENSOR 면 가린 본문), BLOCK 으로 막혔으면 null
+     */
+    public String apply(String text, FilterAction action) {
+        FilterAction effective = action != null ? action : defaultAction;
+        PatternAutomaton automaton = rules.get().automaton();
+        switch (effective) {
+            case BLOCK -> {
+                if (automaton.matches(text)) {
+                    blockedCount.increment();
+                    return null;
+                }
+                return text;
+            }
+            case CENSOR -> {
+                String censored = automaton.censor(text);
+                if (censored != text) {
+                    censoredCount.increment();
+                }
+                return censored;
+            }
+            default -> {
+                return text;
+            }
+        }
+    }
+
+    public long getBlockedCount() {
+        return blockedCount.sum();
+    }
+
+    public long getCensoredCount() {
+        return censoredCount.sum();
+    }
+
+    // 새 목록을 만들고 컴파일한 뒤 한 번에 교체 (경합 시 다시 시도)
+    private void swap(UnaryOperator<List<String>> change) {
+        rules.updateAndGet(current -> {
+            List<String> updated = List.copyOf(change.apply(current.patterns()));
+            return new Rules(updated, PatternAutomaton.compile(updated));
+        });
+    }
+
+    private static boolean containsIgnoreCase(List<String> patterns, String pattern) {
+        String lower = pattern.toLowerCase(Locale.ROOT);
+        for (String existing : patterns) {
+            if (existing.toLowerCase(Locale.ROOT).equals(lower)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ircproject.moderation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName    : com.ircproject.moderation
+ * fileName       : DuplicateSpamDetector
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 같은 본문이 (사용자/채널과 무관하게) 일정 시간 안에 N 번 넘게 반복되면 스팸으로 판정합니다.
+ *                  시간 버킷으로 나눈 count-min sketch 를 사용하므로 메모리는 고정이고,
+ *                  메시지마다 본문을 한 번만 훑어 해시하며 객체를 할당하지 않습니다. (이벤트 루프 스레드 전용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class DuplicateSpamDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateSpamDetector.class);
+
+    // sketch 크기: DEPTH 개의 해시 행 x WIDTH 칸, 윈도우를 BUCKETS 개의 시간 조각으로 나눠서 오래된 조각부터 버림
+    static final int DEPTH = 4;
+    static final int WIDTH = 8192; // 2의 거듭제곱 (마스크로 인덱스 계산)
+    static final int BUCKETS = 6;
+
+    // 이보다 짧은 본문("ㅋㅋ", "hi" 등)은 누구나 반복하므로 세지 않음
+    static final int MIN_LENGTH = 12;
+
+    public enum Action {
+        DROP, // 전달하지 않음
+        FLAG  // 전달은 하고 로그만 남김
+    }
+
+    private final int threshold;
+    private final Action action;
+    private final long bucketNanos;
+    private final LongSupplier clock;
+
+    // 버킷별 카운터와, 살아 있는 버킷들의 합 (조회 시 버킷을 더하지 않도록 유지)
+    private final int[][] buckets = new int[BUCKETS][DEPTH * WIDTH];
+    private final int[] window = new int[DEPTH * WIDTH];
+    private long currentSlot;
+    private int currentBucket;
+
+    private final LongAdder flaggedCount = new LongAdder();
+
+    @Autowired
+    public DuplicateSpamDetector(@Value("${irc.spam.threshold:20}") int threshold,
+                                 @Value("${irc.spam.window-seconds:60}") int windowSeconds,
+                                 @Value("${irc.spam.action:drop}") String action) {
+        this(threshold, windowSeconds, Action.valueOf(action.toUpperCase()), System::nanoTime);
+    }
+
+    DuplicateSpamDetector(int threshold, int windowSeconds, Action action, LongSupplier clock) {
+        this.threshold = threshold;
+        this.action = action;
+        this.bucketNanos = Math.max(1, TimeUnit.SECONDS.toNanos(windowSeconds) / BUCKETS);
+        this.clock = clock;
+        this.currentSlot = clock.getAsLong() / bucketNanos;
+    }
+
+    /**
+     * 본문 하나를 기록하고 전달해도 되는지 판단합니다.
+     *
+     * @return 전달하면 true, 스팸으로 판정되어 버려야 하면 false
+     */
+    public boolean admit(String text) {
+        if (threshold <= 0) {
+            return true; // 비활성화
+        }
+
+        // 한 번의 순회로 64비트 해시와 (공백 제외) 길이를 함께 계산
+        // 대소문자/공백만 바꾼 변형도 같은 본문으로 봄
+        long hash = 0xcbf29ce484222325L;
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c <= ' ') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c += 32;
+            }
+            hash = (hash ^ c) * 0x100000001b3L;
+            length++;
+        }
+        if (length < MIN_LENGTH) {
+            return true;
+        }
+
+        rotate();
+
+        // 두 해시로 DEPTH 개의 인덱스를 만듦 (h1 + i * h2)
+        hash = mix(hash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int[] bucket = buckets[currentBucket];
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * WIDTH + ((h1 + row * h2) & (WIDTH - 1));
+            bucket[index]++;
+            estimate = Math.min(estimate, ++window[index]);
+        }
+
+        if (estimate <= threshold) {
+            return true;
+        }
+
+        flaggedCount.increment();
+        if (estimate == threshold + 1) {
+            // 반복마다 찍지 않고 임계값을 처음 넘을 때 한 번만
+            logger.warn("Repeated message exceeded {} copies in window: {}", threshold, abbreviate(text));
+        }
+        return action == Action.FLAG;
+    }
+
+    /**
+     * 지금까지 스팸으로 판정된 메시지 수 (모니터링용)
+     */
+    public long getFlaggedCount() {
+        return flaggedCount.sum();
+    }
+
+    // 시간이 지난 만큼 오래된 버킷을 윈도우 합에서 빼고 비움
+    private void rotate() {
+        long slot = clock.getAsLong() / bucketNanos;
+        long steps = Math.min(slot - currentSlot, BUCKETS);
+        for (long i = 0; i < steps; i++) {
+            currentBucket = (currentBucket + 1) % BUCKETS;
+            int[] expired = buckets[currentBucket];
+            for (int j = 0; j < expired.length; j++) {
+                window[j] -= expired[j];
+            }
+            Arrays.fill(expired, 0);
+        }
+        if (slot > currentSlot) {
+            currentSlot = slot;
+        }
+    }
+
+    // FNV 해시의 하위 비트 편향을 줄이기 위한 마무리 (SplitMix64)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= 64 ? text : text.substring(0, 64) + "...";
+    }
+}
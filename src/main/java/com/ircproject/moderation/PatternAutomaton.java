@@ -0,0 +1,207 @@
+package com.ircproject.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.moderation
+ * fileName       : PatternAutomaton
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 금칙어/URL 패턴 목록을 Aho-Corasick 오토마톤으로 컴파일합니다.
+ *                  패턴 수와 무관하게 본문을 한 번만 훑어서 모든 일치 위치를 찾습니다. 컴파일 후에는 불변입니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class PatternAutomaton {
+
+    static final PatternAutomaton EMPTY = compile(List.of());
+
+    // 상태별 goto 간선 (정렬된 문자 + 도착 상태), 실패 링크, 이 상태에서 끝나는 가장 긴 패턴 길이(없으면 0)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] matchLength;
+    private final int patternCount;
+
+    private PatternAutomaton(char[][] labels, int[][] targets, int[] fail, int[] matchLength, int patternCount) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.matchLength = matchLength;
+        this.patternCount = patternCount;
+    }
+
+    /**
+     * 패턴들을 대소문자 구분 없이 컴파일합니다. 빈 패턴은 무시합니다.
+     */
+    static PatternAutomaton compile(List<String> patterns) {
+        // 1. 트라이 구성
+        List<StringBuilder> edgeLabels = new ArrayList<>();
+        List<List<Integer>> edgeTargets = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        edgeLabels.add(new StringBuilder());
+        edgeTargets.add(new ArrayList<>());
+        lengths.add(0);
+
+        int count = 0;
+        for (String pattern : patterns) {
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            count++;
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = fold(pattern.charAt(i));
+                int index = edgeLabels.get(state).indexOf(String.valueOf(c));
+                if (index >= 0) {
+                    state = edgeTargets.get(state).get(index);
+                } else {
+                    int created = edgeLabels.size();
+                    edgeLabels.add(new StringBuilder());
+                    edgeTargets.add(new ArrayList<>());
+                    lengths.add(0);
+                    edgeLabels.get(state).append(c);
+                    edgeTargets.get(state).add(created);
+                    state = created;
+                }
+            }
+            lengths.set(state, pattern.length());
+        }
+
+        int size = edgeLabels.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        int[] matchLength = new int[size];
+        for (int s = 0; s < size; s++) {
+            labels[s] = edgeLabels.get(s).toString().toCharArray();
+            targets[s] = edgeTargets.get(s).stream().mapToInt(Integer::intValue).toArray();
+            sortEdges(labels[s], targets[s]);
+            matchLength[s] = lengths.get(s);
+        }
+
+        // 2. BFS 로 실패 링크 계산, 실패 링크 쪽에서 끝나는 패턴 길이도 물려받음
+        int[] fail = new int[size];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = 0; e < labels[state].length; e++) {
+                char c = labels[state][e];
+                int child = targets[state][e];
+                int f = fail[state];
+                int next;
+                while ((next = step(labels, targets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 ? next : 0;
+                matchLength[child] = Math.max(matchLength[child], matchLength[fail[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new PatternAutomaton(labels, targets, fail, matchLength, count);
+    }
+
+    int size() {
+        return patternCount;
+    }
+
+    /**
+     * @return 패턴이 하나라도 나타나면 true
+     */
+    boolean matches(String text) {
+        if (patternCount == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = advance(state, fold(text.charAt(i)));
+            if (matchLength[state] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일치한 부분을 '*' 로 가립니다. 일치가 없으면 원래 문자열을 그대로 반환합니다. (할당 없음)
+     */
+    String censor(String text) {
+        if (patternCount == 0) {
+            return text;
+        }
+        char[] censored = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = advance(state, fold(text.charAt(i)));
+            int length = matchLength[state];
+            if (length > 0) {
+                if (censored == null) {
+                    censored = text.toCharArray();
+                }
+                Arrays.fill(censored, i - length + 1, i + 1, '*');
+            }
+        }
+        return censored == null ? text : new String(censored);
+    }
+
+    private int advance(int state, char c) {
+        while (true) {
+            int next = step(labels, targets, state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int step(char[][] labels, int[][] targets, int state, char c) {
+        char[] sorted = labels[state];
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < c) {
+                low = mid + 1;
+            } else if (sorted[mid] > c) {
+                high = mid - 1;
+            } else {
+                return targets[state][mid];
+            }
+        }
+        return -1;
+    }
+
+    private static void sortEdges(char[] sortedLabels, int[] sortedTargets) {
+        for (int i = 1; i < sortedLabels.length; i++) {
+            char label = sortedLabels[i];
+            int target = sortedTargets[i];
+            int j = i - 1;
+            while (j >= 0 && sortedLabels[j] > label) {
+                sortedLabels[j + 1] = sortedLabels[j];
+                sortedTargets[j + 1] = sortedTargets[j];
+                j--;
+            }
+            sortedLabels[j + 1] = label;
+            sortedTargets[j + 1] = target;
+        }
+    }
+
+    // 영문은 ASCII 범위에서 빠르게, 나머지는 Character 규칙으로 소문자화
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+}
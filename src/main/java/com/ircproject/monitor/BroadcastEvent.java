@@ -0,0 +1,36 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : BroadcastEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 채널 팬아웃 (수신자 큐에 쌓기까지, 기본 100µs 이상만 기록)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.Broadcast")
+@Label("IRC Channel Broadcast")
+@Category({"IRC", "Fan-out"})
+@Description("Fan-out of one message to the members of a channel")
+@Threshold("100 us")
+public class BroadcastEvent extends Event {
+
+    @Label("Channel")
+    public String channel;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Members")
+    public int members;
+}
@@ -0,0 +1,33 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : CommandDispatchEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 명령어 하나를 핸들러가 처리한 시간 (기본 100µs 이상만 기록)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.CommandDispatch")
+@Label("IRC Command Dispatch")
+@Category({"IRC", "Protocol"})
+@Description("Time spent in the command handler for one message")
+@Threshold("100 us")
+public class CommandDispatchEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Nickname")
+    public String nickname;
+}
@@ -0,0 +1,37 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : DisconnectEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 연결 종료와 이유
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.Disconnect")
+@Label("IRC Disconnect")
+@Category({"IRC", "Network"})
+@Description("A client connection was closed by the server or the peer")
+public class DisconnectEvent extends Event {
+
+    @Label("Connection Id")
+    public int connectionId;
+
+    @Label("Nickname")
+    public String nickname;
+
+    @Label("Host")
+    public String host;
+
+    @Label("Reason")
+    public String reason;
+}
@@ -0,0 +1,195 @@
+package com.ircproject.monitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : HeavyHitters
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 고정 크기 Space-Saving 요약으로 가중치 합이 큰 키 상위 K 개를 근사합니다.
+ *                  윈도우를 시간 조각(bucket)으로 나눠 조각마다 요약을 따로 두고, 오래된 조각은 통째로 비웁니다.
+ *                  기록은 O(log capacity), 메모리는 조각 수 x capacity 로 고정입니다. (이벤트 루프 스레드 전용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class HeavyHitters {
+
+    /**
+     * @param count 추정치 (실제 값 이상)
+     * @param error 추정치가 실제보다 클 수 있는 최대 양 (count - error 는 실제 값 이하)
+     */
+    record Entry(String key, long count, long error) {
+    }
+
+    private final Summary[] buckets;
+    private int current;
+
+    HeavyHitters(int capacity, int bucketCount) {
+        this.buckets = new Summary[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Summary(capacity);
+        }
+    }
+
+    void add(String key, long weight) {
+        buckets[current].add(key, weight);
+    }
+
+    /**
+     * 다음 시간 조각으로 넘어갑니다. 가장 오래된 조각이 비워져 새 조각이 됩니다.
+     */
+    void advance() {
+        current = (current + 1) % buckets.length;
+        buckets[current].clear();
+    }
+
+    void clear() {
+        for (Summary bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * 모든 조각을 합쳐서 추정치가 큰 순서로 limit 개를 돌려줍니다.
+     * 어떤 조각에 키가 없으면 그 조각에서 놓쳤을 수 있는 최대치(조각의 최솟값)를 추정치와 오차에 더합니다.
+     */
+    List<Entry> top(int limit) {
+        Map<String, long[]> merged = new HashMap<>();
+        long absentFloor = absentFloor();
+        for (Summary bucket : buckets) {
+            long floor = bucket.floor();
+            for (int slot = 0; slot < bucket.size; slot++) {
+                // [0] 추정치, [1] 오차 - 처음에는 "모든 조각에 없다" 고 가정한 값에서 시작
+                long[] sums = merged.computeIfAbsent(bucket.keys[slot], ignored -> new long[]{absentFloor, absentFloor});
+                sums[0] += bucket.counts[slot] - floor;
+                sums[1] += bucket.errors[slot] - floor;
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(merged.size());
+        merged.forEach((key, sums) -> entries.add(new Entry(key, sums[0], sums[1])));
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key));
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private long absentFloor() {
+        long sum = 0;
+        for (Summary bucket : buckets) {
+            sum += bucket.floor();
+        }
+        return sum;
+    }
+
+    /**
+     * 시간 조각 하나의 Space-Saving 요약.
+     * 칸(slot)은 자리를 옮기지 않고, 별도의 최소 힙이 칸 번호를 추정치 순으로 정렬합니다.
+     * 칸이 가득 찬 상태에서 새 키가 오면 추정치가 가장 작은 칸을 넘겨받고, 그 추정치를 오차로 물려받습니다.
+     */
+    private static final class Summary {
+        private final String[] keys;
+        private final long[] counts;
+        private final long[] errors;
+        private final int[] heap;        // 힙 위치 -> 칸
+        private final int[] heapIndex;   // 칸 -> 힙 위치
+        private final Map<String, Integer> slots;
+        private int size;
+
+        Summary(int capacity) {
+            this.keys = new String[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+            this.heap = new int[capacity];
+            this.heapIndex = new int[capacity];
+            this.slots = new HashMap<>(capacity * 2);
+        }
+
+        void add(String key, long weight) {
+            Integer existing = slots.get(key);
+            if (existing != null) {
+                counts[existing] += weight;
+                siftDown(heapIndex[existing]);
+                return;
+            }
+
+            if (size < keys.length) {
+                int slot = size++;
+                keys[slot] = key;
+                counts[slot] = weight;
+                errors[slot] = 0;
+                slots.put(key, slot);
+                heap[slot] = slot;
+                heapIndex[slot] = slot;
+                siftUp(slot);
+                return;
+            }
+
+            // 가장 작은 칸을 새 키가 넘겨받음
+            int slot = heap[0];
+            slots.remove(keys[slot]);
+            keys[slot] = key;
+            errors[slot] = counts[slot];
+            counts[slot] += weight;
+            slots.put(key, slot);
+            siftDown(0);
+        }
+
+        // 이 조각에 없는 키가 실제로는 최대 이만큼 있었을 수 있음 (칸이 남아 있으면 0)
+        long floor() {
+            return size < keys.length ? 0 : counts[heap[0]];
+        }
+
+        void clear() {
+            if (size == 0) {
+                return;
+            }
+            Arrays.fill(keys, 0, size, null);
+            slots.clear();
+            size = 0;
+        }
+
+        private void siftUp(int position) {
+            int slot = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (counts[heap[parent]] <= counts[slot]) {
+                    break;
+                }
+                place(position, heap[parent]);
+                position = parent;
+            }
+            place(position, slot);
+        }
+
+        private void siftDown(int position) {
+            int slot = heap[position];
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                    child++;
+                }
+                if (counts[slot] <= counts[heap[child]]) {
+                    break;
+                }
+                place(position, heap[child]);
+                position = child;
+            }
+            place(position, slot);
+        }
+
+        private void place(int position, int slot) {
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+    }
+}
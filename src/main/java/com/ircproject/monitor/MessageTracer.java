@@ -0,0 +1,166 @@
+package com.ircproject.monitor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : MessageTracer
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 수신 라인을 N 개 중 하나씩 샘플링해서 읽기 -> 파싱 -> 처리(팬아웃 큐잉) -> 마지막 flush 까지 구간별 지연을 기록합니다.
+ *                  샘플링되지 않은 라인은 카운터 증가만 하므로 부담이 거의 없습니다. (이벤트 루프 스레드 전용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       명령어별 집계는 등록된 명령어만, 나머지는 unknown 하나로
+ */
+@Component
+public class MessageTracer {
+
+    public enum Stage {
+        QUEUE,    // 소켓에서 읽음 -> 처리 시작 (처리 한도 때문에 대기열에서 기다린 시간 포함)
+        PARSE,    // 처리 시작 -> 파싱 완료
+        HANDLE,   // 파싱 완료 -> 핸들러 종료 (모든 수신자 큐에 쌓기까지)
+        FLUSH,    // 핸들러 종료 -> 마지막 수신자 소켓 write 완료
+        TOTAL     // 소켓에서 읽음 -> 마지막 write 완료
+    }
+
+    // 명령어별 히스토그램 수 상한 (키는 등록된 명령어와 unknown 뿐이라 넘을 일은 없지만 안전장치로 유지)
+    private static final int MAX_COMMANDS = 64;
+    private static final String OTHER_COMMANDS = "*";
+    private static final String UNKNOWN_COMMAND = "unknown";
+
+    // 한 번의 flush 를 기다리는 샘플 수 상한 (처리 한도 16 줄 / 샘플링 간격이면 충분)
+    private static final int MAX_IN_FLIGHT = 16;
+
+    private final int sampleInterval; // 0 이면 끔
+    private long sequence;
+
+    private final Map<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+    private final Map<String, LatencyHistogram> commands = new LinkedHashMap<>();
+
+    // 현재 처리 중인 샘플
+    private boolean active;
+    private long readAt;
+    private long startedAt;
+    private long parsedAt;
+
+    // 핸들러는 끝났고 flush 를 기다리는 샘플들
+    private final long[] inFlightReadAt = new long[MAX_IN_FLIGHT];
+    private final long[] inFlightHandledAt = new long[MAX_IN_FLIGHT];
+    private final LatencyHistogram[] inFlightCommand = new LatencyHistogram[MAX_IN_FLIGHT];
+    private int inFlight;
+
+    public MessageTracer(@Value("${irc.trace.sample-interval:64}") int sampleInterval) {
+        this.sampleInterval = sampleInterval;
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new LatencyHistogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return sampleInterval > 0;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * 라인 처리를 시작할 때 호출합니다.
+     *
+     * @param readAt 라인이 담긴 데이터를 소켓에서 읽은 시각 (System.nanoTime)
+     * @return 이 라인을 샘플링하면 true (이후 parsed / handled 를 호출)
+     */
+    public boolean begin(long readAt) {
+        if (sampleInterval <= 0 || ++sequence % sampleInterval != 0 || inFlight == MAX_IN_FLIGHT) {
+            return false;
+        }
+        this.active = true;
+        this.readAt = readAt;
+        this.startedAt = System.nanoTime();
+        return true;
+    }
+
+    public void parsed() {
+        if (active) {
+            parsedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * 핸들러가 끝났을 때 호출합니다. 마지막 구간은 다음 flushed() 에서 기록됩니다.
+     *
+     * @param command 처리한 핸들러의 명령어 상수 (CommandDispatcher.resolveCommand, 등록되지 않은 명령어는 null)
+     */
+    public void handled(String command) {
+        if (!active) {
+            return;
+        }
+        active = false;
+        long handledAt = System.nanoTime();
+        stages.get(Stage.QUEUE).record(startedAt - readAt);
+        stages.get(Stage.PARSE).record(parsedAt - startedAt);
+        stages.get(Stage.HANDLE).record(handledAt - parsedAt);
+
+        inFlightReadAt[inFlight] = readAt;
+        inFlightHandledAt[inFlight] = handledAt;
+        inFlightCommand[inFlight] = commandHistogram(command != null ? command : UNKNOWN_COMMAND);
+        inFlight++;
+    }
+
+    /**
+     * 파싱에 실패하는 등 핸들러까지 가지 못한 샘플을 버립니다.
+     */
+    public void abandon() {
+        active = false;
+    }
+
+    /**
+     * 쌓인 송신 데이터를 모두 write 한 직후 호출합니다.
+     */
+    public void flushed() {
+        if (inFlight == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < inFlight; i++) {
+            stages.get(Stage.FLUSH).record(now - inFlightHandledAt[i]);
+            stages.get(Stage.TOTAL).record(now - inFlightReadAt[i]);
+            inFlightCommand[i].record(now - inFlightReadAt[i]);
+            inFlightCommand[i] = null;
+        }
+        inFlight = 0;
+    }
+
+    public LatencyHistogram getStage(Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * 명령어별 전체 구간(TOTAL) 히스토그램
+     */
+    public Map<String, LatencyHistogram> getCommands() {
+        return commands;
+    }
+
+    public void reset() {
+        stages.values().forEach(LatencyHistogram::reset);
+        commands.clear();
+    }
+
+    private LatencyHistogram commandHistogram(String command) {
+        LatencyHistogram histogram = commands.get(command);
+        if (histogram == null) {
+            String key = commands.size() < MAX_COMMANDS ? command : OTHER_COMMANDS;
+            histogram = commands.computeIfAbsent(key, ignored -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : ParseFailureEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 파싱 실패한 라인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.ParseFailure")
+@Label("IRC Parse Failure")
+@Category({"IRC", "Protocol"})
+@Description("An inbound line that could not be parsed")
+public class ParseFailureEvent extends Event {
+
+    @Label("Connection Id")
+    public int connectionId;
+
+    @Label("Nickname")
+    public String nickname;
+
+    @Label("Reason")
+    public String reason;
+}
@@ -0,0 +1,37 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : SelectorIterationEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - select() 가 깨어난 뒤 한 바퀴 처리 (기본 꺼짐, 초당 수천 건 발생)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.SelectorIteration")
+@Label("Selector Iteration")
+@Category({"IRC", "Event Loop"})
+@Description("One pass of the NIO event loop after select() returned")
+@Enabled(false)
+public class SelectorIterationEvent extends Event {
+
+    @Label("Ready Keys")
+    public int readyKeys;
+
+    @Label("Queued Connections")
+    @Description("Connections waiting in the fairness ready queue")
+    public int queuedConnections;
+
+    @Label("Pending Cleanups")
+    public int pendingCleanups;
+}
@@ -0,0 +1,40 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : SlowWriteEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 느린 송신 (flush 가 오래 걸렸거나 소켓 버퍼가 가득 차서 다 못 보낸 경우)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.SlowWrite")
+@Label("IRC Slow Write")
+@Category({"IRC", "Network"})
+@Description("A flush that took at least 1 ms or left data queued because the client socket was full")
+public class SlowWriteEvent extends Event {
+
+    @Label("Connection Id")
+    public int connectionId;
+
+    @Label("Nickname")
+    public String nickname;
+
+    @Label("Drained")
+    @Description("False if the socket buffer filled up and data is still queued")
+    public boolean drained;
+
+    @Label("Queued Bytes")
+    @DataAmount
+    public long queuedBytes;
+}
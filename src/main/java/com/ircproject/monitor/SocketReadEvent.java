@@ -0,0 +1,35 @@
+package com.ircproject.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : SocketReadEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : JFR 이벤트 - 소켓 읽기 한 번 (기본 꺼짐)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Name("com.ircproject.SocketRead")
+@Label("IRC Socket Read")
+@Category({"IRC", "Network"})
+@Description("Bytes read from one client connection")
+@Enabled(false)
+public class SocketReadEvent extends Event {
+
+    @Label("Connection Id")
+    public int connectionId;
+
+    @Label("Bytes")
+    @DataAmount
+    public int bytes;
+}
@@ -0,0 +1,153 @@
+package com.ircproject.monitor;
+
+import com.ircproject.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : TopTalkers
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 부하를 일으키는 사용자/IP/채널을 메시지 수와 바이트 기준으로 추적합니다.
+ *                  항목마다 정확한 카운터를 두지 않고 HeavyHitters(Space-Saving) 요약을 쓰므로 메모리는 고정이고,
+ *                  최근 window-seconds 동안의 상위 K 를 바로 조회할 수 있습니다. (이벤트 루프 스레드 전용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class TopTalkers {
+
+    // 윈도우를 나누는 시간 조각 수 (윈도우 60초면 10초 단위로 밀려남)
+    static final int BUCKETS = 6;
+
+    public enum Dimension {
+        USER,    // 닉네임별 수신 명령
+        HOST,    // 접속 IP 별 수신 명령
+        CHANNEL  // 채널별 팬아웃 (바이트는 수신자 수만큼 곱함)
+    }
+
+    public enum Metric {
+        MESSAGES,
+        BYTES
+    }
+
+    /**
+     * @param count 추정치 (실제 값 이상)
+     * @param error 추정치가 실제보다 클 수 있는 최대 양
+     */
+    public record Entry(String key, long count, long error) {
+    }
+
+    private final int capacity; // 0 이면 끔
+    private final int windowSeconds;
+    private final long bucketNanos;
+    private final LongSupplier clock;
+    private long currentSlot;
+
+    private final Map<Dimension, Map<Metric, HeavyHitters>> trackers = new EnumMap<>(Dimension.class);
+
+    /**
+     * @param capacity      차원/지표마다 시간 조각별로 추적하는 항목 수 (상위 K 보다 충분히 크게)
+     * @param windowSeconds 조회 대상 기간
+     */
+    @Autowired
+    public TopTalkers(@Value("${irc.top.capacity:256}") int capacity,
+                      @Value("${irc.top.window-seconds:60}") int windowSeconds) {
+        this(capacity, windowSeconds, System::nanoTime);
+    }
+
+    TopTalkers(int capacity, int windowSeconds, LongSupplier clock) {
+        this.capacity = capacity;
+        this.windowSeconds = windowSeconds;
+        this.bucketNanos = Math.max(1, TimeUnit.SECONDS.toNanos(windowSeconds) / BUCKETS);
+        this.clock = clock;
+        this.currentSlot = clock.getAsLong() / bucketNanos;
+        for (Dimension dimension : Dimension.values()) {
+            Map<Metric, HeavyHitters> byMetric = new EnumMap<>(Metric.class);
+            for (Metric metric : Metric.values()) {
+                byMetric.put(metric, new HeavyHitters(Math.max(1, capacity), BUCKETS));
+            }
+            trackers.put(dimension, byMetric);
+        }
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    /**
+     * 클라이언트가 보낸 명령 한 줄을 기록합니다. (CommandDispatcher)
+     */
+    public void recordCommand(User user, int bytes) {
+        if (capacity <= 0) {
+            return;
+        }
+        rotate();
+        record(Dimension.USER, user.getNickname(), bytes);
+        if (user.getHost() != null) {
+            record(Dimension.HOST, user.getHost(), bytes);
+        }
+    }
+
+    /**
+     * 채널 팬아웃 한 번을 기록합니다. 바이트는 실제로 내보내는 양(본문 x 수신자 수)입니다.
+     */
+    public void recordBroadcast(String channel, int bytes, int recipients) {
+        if (capacity <= 0) {
+            return;
+        }
+        rotate();
+        record(Dimension.CHANNEL, channel, (long) bytes * recipients);
+    }
+
+    /**
+     * 최근 윈도우의 상위 항목을 추정치가 큰 순서로 돌려줍니다.
+     */
+    public List<Entry> top(Dimension dimension, Metric metric, int limit) {
+        rotate();
+        return trackers.get(dimension).get(metric).top(limit).stream()
+                .map(entry -> new Entry(entry.key(), entry.count(), entry.error()))
+                .toList();
+    }
+
+    public void reset() {
+        trackers.values().forEach(byMetric -> byMetric.values().forEach(HeavyHitters::clear));
+    }
+
+    private void record(Dimension dimension, String key, long bytes) {
+        Map<Metric, HeavyHitters> byMetric = trackers.get(dimension);
+        byMetric.get(Metric.MESSAGES).add(key, 1);
+        byMetric.get(Metric.BYTES).add(key, bytes);
+    }
+
+    // 시간이 지난 만큼 오래된 조각을 비움 (한 윈도우 이상 지났으면 전부)
+    private void rotate() {
+        long slot = clock.getAsLong() / bucketNanos;
+        long steps = Math.min(slot - currentSlot, BUCKETS);
+        if (steps <= 0) {
+            return;
+        }
+        for (Map<Metric, HeavyHitters> byMetric : trackers.values()) {
+            for (HeavyHitters tracker : byMetric.values()) {
+                for (long i = 0; i < steps; i++) {
+                    tracker.advance();
+                }
+            }
+        }
+        currentSlot = slot;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ircproject.parser;
 
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.MessageTags;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -30,11 +31,25 @@ public class IrcParser {
             "^(?::(\\S+)\\s+)?([a-zA-Z]+|[0-9]{3})(?:\\s+(.*))?$"
     );
 
+    // IRCv3 message-tags: 태그 섹션 최대 길이 ('@' 와 공백 제외)
+    private static final int MAX_TAGS_LENGTH = 8191;
+
     public IrcMessage parse(String line) {
         if (line == null || line.isBlank()) {
             throw new IrcFormatException("Message cannot be empty");
         }
 
+        // 0. IRCv3 태그 섹션(@...)은 정규식 전에 잘라내고, 디코딩은 핸들러가 요청할 때까지 미룹니다.
+        MessageTags tags = MessageTags.EMPTY;
+        if (line.charAt(0) == '@') {
+            int tagsEnd = line.indexOf(' ');
+            if (tagsEnd <= 1 || tagsEnd - 1 > MAX_TAGS_LENGTH) {
+                throw new IrcFormatException("Invalid IRC message tags: " + line);
+            }
+            tags = MessageTags.ofRaw(line.substring(1, tagsEnd));
+            line = line.substring(tagsEnd + 1).stripLeading();
+        }
+
         // 1. 정규식 매칭 시도
         Matcher matcher = IRC_PATTERN.matcher(line);
         if (!matcher.matches()) {
@@ -49,7 +64,7 @@ public class IrcParser {
         // 3. 파라미터 세부 분리 로직 호출
         List<String> parameters = parseParameters(rawParams);
 
-        return new IrcMessage(prefix, command, parameters);
+        return new IrcMessage(tags, prefix, command, parameters);
     }
 
     /**
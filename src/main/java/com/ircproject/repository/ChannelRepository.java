@@ -1,11 +1,17 @@
 package com.ircproject.repository;
 
 import com.ircproject.domain.Channel;
+import com.ircproject.domain.User;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * packageName    : com.ircproject.repository
@@ -17,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       마지막 멤버가 나간 채널 자동 회수 (+P 제외)
  */
 @Component
 public class ChannelRepository {
@@ -24,11 +31,99 @@ public class ChannelRepository {
     // key: 채널이름 (예: "#lobby"), value: Channel 객체
     private final Map<String, Channel> channels = new ConcurrentHashMap<>();
 
+    // forEachPeer 호출마다 증가하는 방문 표시 번호 (방문 집합을 매번 만들지 않기 위함)
+    private final AtomicInteger peerEpoch = new AtomicInteger();
+
+    // 회수된 채널 이름을 받는 쪽 (채널별로 쌓아 둔 상태 정리용)
+    private final List<Consumer<String>> reclaimListeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder reclaimedCount = new LongAdder();
+
     /**
-     * 채널을 가져오거나, 없으면 새로 생성해서 반환합니다.
+     * 채널을 가져오거나, 없으면 새로 생성해서 반환합니다. (멤버 없이 만들어야 하는 스냅샷 복원용)
      */
     public Channel getOrCreate(String name) {
-        return channels.computeIfAbsent(name, Channel::new);
+        return channels.computeIfAbsent(name, this::create);
+    }
+
+    /**
+     * 채널에 입장시킵니다. 없으면 만들고, 생성과 입장을 한 번에 처리하므로 동시에 진행 중인 회수와 엇갈리지 않습니다.
+     */
+    public Channel join(String name, User user) {
+        return channels.compute(name, (key, channel) -> {
+            Channel target = channel != null ? channel : create(key);
+            target.join(user);
+            return target;
+        });
+    }
+
+    /**
+     * 채널에서 퇴장시키고, 마지막 멤버였으면 (+P 가 아닌 한) 채널을 회수합니다.
+     * 퇴장과 빈 채널 확인/삭제를 한 번에 처리하므로 그 사이에 들어온 JOIN 을 잃지 않습니다.
+     */
+    public void leave(String name, User user) {
+        boolean[] reclaimed = new boolean[1];
+        channels.computeIfPresent(name, (key, channel) -> {
+            channel.leave(user);
+            reclaimed[0] = isReclaimable(channel);
+            return reclaimed[0] ? null : channel;
+        });
+        if (reclaimed[0]) {
+            reclaimed(name);
+        }
+    }
+
+    /**
+     * 비어 있는 채널을 회수합니다. (-P 로 영구 설정이 풀린 빈 채널 등)
+     *
+     * @return 회수했으면 true
+     */
+    public boolean reclaimIfEmpty(String name) {
+        boolean[] reclaimed = new boolean[1];
+        channels.computeIfPresent(name, (key, channel) -> {
+            reclaimed[0] = isReclaimable(channel);
+            return reclaimed[0] ? null : channel;
+        });
+        if (reclaimed[0]) {
+            reclaimed(name);
+        }
+        return reclaimed[0];
+    }
+
+    /**
+     * 채널이 회수될 때마다 이름을 받을 리스너를 등록합니다. (compute 잠금 밖에서 호출됨)
+     */
+    public void addReclaimListener(Consumer<String> listener) {
+        reclaimListeners.add(listener);
+    }
+
+    public int getLiveCount() {
+        return channels.size();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    public long getReclaimedCount() {
+        return reclaimedCount.sum();
+    }
+
+    private Channel create(String name) {
+        createdCount.increment();
+        return new Channel(name);
+    }
+
+    private static boolean isReclaimable(Channel channel) {
+        return channel.isEmpty() && !channel.isPersistent();
+    }
+
+    private void reclaimed(String name) {
+        reclaimedCount.increment();
+        for (Consumer<String> listener : reclaimListeners) {
+            listener.accept(name);
+        }
     }
 
     /**
@@ -38,9 +133,8 @@ public class ChannelRepository {
         return channels.get(name);
     }
 
-    // 필요하다면 채널 삭제(remove) 등의 메서드 추가
     /**
-     * 특정 채널을 삭제합니다. (없으면 null)
+     * 특정 채널을 멤버와 상관없이 삭제합니다. (없으면 null)
      */
     public Channel remove(String name) {
         return channels.remove(name);
@@ -52,4 +146,40 @@ public class ChannelRepository {
     public Collection<Channel> findAll() {
         return channels.values();
     }
+
+    /**
+     * 사용자와 채널을 하나 이상 공유하는 다른 사용자(공통 채널 피어)마다 action 을 정확히 한 번 실행합니다.
+     * 여러 채널을 함께 쓰는 피어도 한 번만 방문하도록 epoch 표시를 사용합니다. (이벤트 루프 스레드 전용)
+     *
+     * @return 확인한 채널 멤버 수 (작업량 조절용)
+     */
+    public int forEachPeer(User user, Consumer<User> action) {
+        int epoch = peerEpoch.incrementAndGet();
+        user.markVisited(epoch); // 자기 자신은 제외
+        int visited = 0;
+
+        for (String channelName : user.getJoinedChannels()) {
+            Channel channel = channels.get(channelName);
+            if (channel == null) {
+                continue;
+            }
+            for (User member : channel.getUsers()) {
+                visited++;
+                if (member.markVisited(epoch)) {
+                    action.accept(member);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * 사용자를 입장해 있는 모든 채널에서 퇴장시킵니다. (양방향 삭제, 빈 채널은 회수)
+     */
+    public void leaveAll(User user) {
+        for (String channelName : user.getJoinedChannels()) {
+            leave(channelName, user);
+            user.removeChannel(channelName);
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package com.ircproject.repository;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.ChannelListMode;
+import com.ircproject.server.LoopExecutor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * packageName    : com.ircproject.repository
+ * fileName       : ServerSnapshotStore
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 서버 종료 시 채널 상태를 바이너리 스냅샷으로 저장하고, 시작 시 mmap 으로 복원합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       버전 2: 채널 모드와 마스크 목록(+b, +e, +I, +q) 저장
+ * 2026. 10. 19.       kobe       복원 시 목록 한도 적용, 채널마다 매처는 한 번만 컴파일
+ * 2026. 10. 19.       kobe       버전 3: 목록마다 모드 문자 저장, 읽은 개수를 남은 바이트로 검증
+ * 2026. 10. 19.       kobe       +P 가 아닌 채널은 복원하지 않음 (멤버 없이 남아 회수되지 않던 문제)
+ * 2026. 10. 19.       kobe       모든 채널을 다시 복원하고, 유예 시간 동안 아무도 들어오지 않은 채널만 회수
+ * 2026. 10. 19.       kobe       저장할 상태는 루프 스레드에서 뜨고, 종료 스레드는 파일 쓰기만 함
+ */
+@Component
+public class ServerSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerSnapshotStore.class);
+
+    // 파일 포맷
+    // [magic:int "IRCS"][version:short][channelCount:int]
+    // 채널마다 [nameLength:short][name:UTF-8 bytes]
+    //   (v2) [flagsLength:short][flags] 뒤에 ChannelListMode 선언 순서대로
+    //        [maskCount:int] 그리고 마스크마다 [mask:short+bytes][setBy:short+bytes][setAt:long]
+    //   (v3) [flagsLength:short][flags][listCount:byte] 뒤에 목록마다
+    //        [letter:byte][maskCount:int] 그리고 마스크는 v2 와 같음 (모르는 모드 문자의 목록은 읽고 버림)
+    // 토픽 등이 추가되면 version 을 올리고 채널 레코드 뒤에 필드를 덧붙입니다. (이전 버전도 계속 읽음)
+    static final int MAGIC = 0x49524353; // "IRCS"
+    static final short VERSION = 3;
+
+    // 개수 필드 검증용 최소 레코드 크기 (손상된 파일의 큰 개수로 먼저 메모리를 잡지 않도록)
+    private static final int MIN_CHANNEL_BYTES = Short.BYTES;
+    private static final int MIN_MASK_BYTES = Short.BYTES + Short.BYTES + Long.BYTES;
+
+    // 종료 시 루프 스레드가 상태를 떠 줄 때까지 기다리는 시간 (넘기면 이전 스냅샷을 그대로 둠)
+    private static final long CAPTURE_TIMEOUT_SECONDS = 5;
+
+    // v2 파일의 목록 순서 (모드 문자 없이 당시 ChannelListMode 선언 순서로 저장됨)
+    private static final char[] V2_LIST_ORDER = {'b', 'e', 'I', 'q'};
+
+    /**
+     * 스냅샷에 저장되는 채널 하나의 상태
+     */
+    record ChannelState(String name, String flags, Map<ChannelListMode, List<Channel.MaskEntry>> masks) {
+
+        static ChannelState of(Channel channel) {
+            Map<ChannelListMode, List<Channel.MaskEntry>> masks = new EnumMap<>(ChannelListMode.class);
+            for (ChannelListMode mode : ChannelListMode.values()) {
+                masks.put(mode, channel.getMasks(mode));
+            }
+            return new ChannelState(channel.getName(), channel.getFlags(), masks);
+        }
+
+        void applyTo(Channel channel) {
+            for (char letter : flags.toCharArray()) {
+                if (Channel.FLAG_MODES.indexOf(letter) >= 0) {
+                    channel.setFlag(letter, true);
+                }
+            }
+            for (Map.Entry<ChannelListMode, List<Channel.MaskEntry>> entry : masks.entrySet()) {
+                for (Channel.MaskEntry mask : entry.getValue()) {
+                    if (channel.getMaskCount(entry.getKey()) >= Channel.MAX_LIST_ENTRIES) {
+                        break; // MODE 와 같은 한도 (손으로 고친 스냅샷으로 목록을 키울 수 없도록)
+                    }
+                    channel.addMask(entry.getKey(), mask.mask(), mask.setBy(), mask.setAt());
+                }
+            }
+            channel.compileMasks();
+        }
+    }
+
+    private final ChannelRepository channelRepository;
+    private final LoopExecutor loopExecutor;
+    private final Path snapshotPath;
+    private final boolean enabled;
+    private final long reclaimGraceSeconds;
+
+    public ServerSnapshotStore(ChannelRepository channelRepository,
+                               LoopExecutor loopExecutor,
+                               @Value("${irc.snapshot.path:irc-state.snapshot}") String snapshotPath,
+                               @Value("${irc.snapshot.enabled:true}") boolean enabled,
+                               @Value("${irc.snapshot.reclaim-grace-seconds:300}") long reclaimGraceSeconds) {
+        this.channelRepository = channelRepository;
+        this.loopExecutor = loopExecutor;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.enabled = enabled;
+        this.reclaimGraceSeconds = reclaimGraceSeconds;
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑해서 채널 상태를 복원합니다.
+     * 파일이 없거나 손상된 경우에는 빈 상태로 시작합니다.
+     * 복원한 채널은 멤버 없이 만들어지므로, 유예 시간 안에 아무도 들어오지 않은 채널은 (+P 가 아닌 한) 회수합니다.
+     *
+     * @return 복원된 채널 수
+     */
+    public int restore() {
+        if (!enabled || !Files.isRegularFile(snapshotPath)) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        try (FileChannel fileChannel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            List<ChannelState> states = decode(mapped);
+
+            List<String> restored = new ArrayList<>(states.size());
+            for (ChannelState state : states) {
+                state.applyTo(channelRepository.getOrCreate(state.name()));
+                restored.add(state.name());
+            }
+            scheduleReclaim(restored);
+
+            logger.info("Restored {} channels from snapshot {} in {} µs",
+                    restored.size(), snapshotPath, (System.nanoTime() - startedAt) / 1_000);
+            return restored.size();
+        } catch (IOException | RuntimeException e) {
+            // 스냅샷은 최적화일 뿐이므로 실패해도 서버 기동은 계속합니다.
+            logger.warn("Ignoring unreadable snapshot {}: {}", snapshotPath, e.getMessage());
+            return 0;
+        }
+    }
+
+    // 유예 시간이 지나면 루프 스레드에서 아직 비어 있는 복원 채널을 회수
+    // (그 전에 누가 들어왔다 나가면 ChannelRepository.leave 가 마지막 멤버 퇴장 때 평소처럼 회수함)
+    private void scheduleReclaim(List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(reclaimGraceSeconds, TimeUnit.SECONDS, loopExecutor).execute(() -> {
+            int reclaimed = 0;
+            for (String name : names) {
+                if (channelRepository.reclaimIfEmpty(name)) {
+                    reclaimed++;
+                }
+            }
+            if (reclaimed > 0) {
+                logger.info("Reclaimed {} restored channels nobody joined within {} s", reclaimed, reclaimGraceSeconds);
+            }
+        });
+    }
+
+    /**
+     * 현재 채널 상태를 스냅샷 파일로 저장합니다.
+     * 임시 파일에 먼저 쓰고 원자적으로 교체하므로, 저장 도중 종료되어도 이전 스냅샷은 보존됩니다.
+     * 종료 훅이 도는 동안에도 이벤트 루프는 채널을 계속 바꾸므로, 상태는 루프 스레드에서 뜨고 여기서는 파일만 씁니다.
+     */
+    @PreDestroy
+    public void save() {
+        if (!enabled) {
+            return;
+        }
+
+        List<ChannelState> states;
+        try {
+            states = capture();
+        } catch (TimeoutException | ExecutionException e) {
+            logger.error("Failed to capture channel state, keeping previous snapshot {}", snapshotPath, e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while capturing channel state, keeping previous snapshot {}", snapshotPath);
+            return;
+        }
+
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel fileChannel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer encoded = encode(states);
+            while (encoded.hasRemaining()) {
+                fileChannel.write(encoded);
+            }
+            fileChannel.force(true);
+        } catch (IOException e) {
+            logger.error("Failed to write snapshot {}", tempPath, e);
+            return;
+        }
+
+        try {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved {} channels to snapshot {}", states.size(), snapshotPath);
+        } catch (IOException e) {
+            logger.error("Failed to replace snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private List<ChannelState> capture() throws InterruptedException, ExecutionException, TimeoutException {
+        if (!loopExecutor.isBound()) {
+            return captureStates(); // 루프가 뜨기 전이면 채널을 바꾸는 다른 스레드가 없음
+        }
+        return CompletableFuture.supplyAsync(this::captureStates, loopExecutor)
+                .get(CAPTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private List<ChannelState> captureStates() {
+        List<ChannelState> states = new ArrayList<>();
+        for (Channel channel : channelRepository.findAll()) {
+            states.add(ChannelState.of(channel));
+        }
+        return states;
+    }
+
+    static ByteBuffer encode(List<ChannelState> channels) {
+        // DataOutputStream 도 ByteBuffer 와 같은 빅엔디언으로 씁니다.
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(channels.size());
+            for (ChannelState channel : channels) {
+                putString(out, channel.name());
+                putString(out, channel.flags());
+                out.writeByte(ChannelListMode.values().length);
+                for (ChannelListMode mode : ChannelListMode.values()) {
+                    List<Channel.MaskEntry> masks = channel.masks().getOrDefault(mode, List.of());
+                    out.writeByte(mode.letter());
+                    out.writeInt(masks.size());
+                    for (Channel.MaskEntry mask : masks) {
+                        putString(out, mask.mask());
+                        putString(out, mask.setBy());
+                        out.writeLong(mask.setAt());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    static List<ChannelState> decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES + Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Not an IRC snapshot");
+        }
+
+        short version = buffer.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalStateException("Unsupported snapshot version " + version);
+        }
+
+        int count = checkCount(buffer, buffer.getInt(), MIN_CHANNEL_BYTES);
+        List<ChannelState> channels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = getString(buffer);
+            if (version == 1) {
+                channels.add(new ChannelState(name, "", Map.of()));
+                continue;
+            }
+
+            String flags = getString(buffer);
+            Map<ChannelListMode, List<Channel.MaskEntry>> masks = new EnumMap<>(ChannelListMode.class);
+            if (version == 2) {
+                for (char letter : V2_LIST_ORDER) {
+                    masks.put(ChannelListMode.fromLetter(letter), getMasks(buffer));
+                }
+            } else {
+                int lists = Byte.toUnsignedInt(buffer.get());
+                for (int j = 0; j < lists; j++) {
+                    ChannelListMode mode = ChannelListMode.fromLetter((char) Byte.toUnsignedInt(buffer.get()));
+                    List<Channel.MaskEntry> entries = getMasks(buffer);
+                    if (mode != null) {
+                        masks.put(mode, entries);
+                    }
+                }
+            }
+            channels.add(new ChannelState(name, flags, masks));
+        }
+        return channels;
+    }
+
+    private static List<Channel.MaskEntry> getMasks(ByteBuffer buffer) {
+        int maskCount = checkCount(buffer, buffer.getInt(), MIN_MASK_BYTES);
+        List<Channel.MaskEntry> entries = new ArrayList<>(maskCount);
+        for (int i = 0; i < maskCount; i++) {
+            entries.add(new Channel.MaskEntry(getString(buffer), getString(buffer), buffer.getLong()));
+        }
+        return entries;
+    }
+
+    // 남은 바이트로 만들 수 없는 개수면 손상된 파일
+    private static int checkCount(ByteBuffer buffer, int count, int minBytes) {
+        if (count < 0 || count > buffer.remaining() / minBytes) {
+            throw new IllegalStateException("Corrupt snapshot: count " + count + " exceeds remaining " + buffer.remaining() + " bytes");
+        }
+        return count;
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -16,11 +16,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 7.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       닉네임을 놓을 때 WHOWAS 기록 남김
  */
 @Component
 public class UserRepository {
     // Key: 닉네임, Value: User 객체
     private final Map<String, User> usersByNickname = new ConcurrentHashMap<>();
+    private final WhowasRepository whowasRepository;
+
+    public UserRepository(WhowasRepository whowasRepository) {
+        this.whowasRepository = whowasRepository;
+    }
 
     public void save(User user) {
         usersByNickname.put(user.getNickname(), user);
@@ -30,6 +36,17 @@ public class UserRepository {
         usersByNickname.remove(nickname);
     }
 
+    /**
+     * 닉네임이 아직 해당 사용자에게 묶여 있을 때만 삭제하고, 삭제했으면 WHOWAS 기록을 남깁니다.
+     * (그 사이 다른 사용자가 가져간 닉네임은 보존, QUIT 후 연결 종료처럼 두 번 불려도 기록은 한 번)
+     * 닉네임을 바꾸기 전에 불러야 당시 닉네임이 기록됩니다.
+     */
+    public void remove(String nickname, User user) {
+        if (usersByNickname.remove(nickname, user)) {
+            whowasRepository.record(user);
+        }
+    }
+
     public User findByNickname(String nickname) {
         return usersByNickname.get(nickname);
     }
@@ -0,0 +1,188 @@
+package com.ircproject.repository;
+
+import com.ircproject.domain.MaskMatcher;
+import com.ircproject.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName    : com.ircproject.repository
+ * fileName       : WhowasRepository
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 닉네임을 놓은 사용자(QUIT, 연결 종료, NICK 변경)의 기록을 WHOWAS 조회용으로 보관합니다.
+ *                  전체 기록 순서와 닉네임별 순서를 함께 잇는 연결 리스트로, 기록/조회/제거가 모두 O(1) 입니다.
+ *                  전체 개수, 닉네임당 개수, 보관 기간 중 하나라도 넘으면 가장 오래 쓰이지 않은(먼저 놓인) 기록부터 버립니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class WhowasRepository {
+
+    /**
+     * @param nickname      당시 닉네임 (원래 대소문자)
+     * @param signoffMillis 닉네임을 놓은 시각 (epoch millis)
+     */
+    public record Entry(String nickname, String host, long signoffMillis) {
+    }
+
+    private static final class Node {
+        final String key;
+        final Entry entry;
+        Node previous; // 전체 기록 순서 (head 가 가장 오래됨)
+        Node next;
+        Node older;    // 같은 닉네임 안에서의 순서
+        Node newer;
+
+        Node(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    private final int maxEntries; // 0 이면 끔
+    private final int maxPerNickname;
+    private final long maxAgeMillis; // 0 이하면 기간 제한 없음
+    private final LongSupplier clock;
+
+    // 접은 닉네임 -> 그 닉네임의 가장 최근 기록
+    private final Map<String, Node> newestByNickname = new HashMap<>();
+    private Node head;
+    private Node tail;
+    private int size;
+
+    /**
+     * @param maxEntries       전체 기록 수 상한 (기록 하나는 닉네임/호스트 길이 제한 덕분에 수백 바이트 이내)
+     * @param maxPerNickname   닉네임 하나에 남기는 기록 수
+     * @param maxAgeSeconds    이보다 오래된 기록은 버림
+     */
+    @Autowired
+    public WhowasRepository(@Value("${irc.whowas.max-entries:2048}") int maxEntries,
+                            @Value("${irc.whowas.max-per-nickname:8}") int maxPerNickname,
+                            @Value("${irc.whowas.max-age-seconds:86400}") long maxAgeSeconds) {
+        this(maxEntries, maxPerNickname, maxAgeSeconds, System::currentTimeMillis);
+    }
+
+    WhowasRepository(int maxEntries, int maxPerNickname, long maxAgeSeconds, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxPerNickname = Math.max(1, maxPerNickname);
+        this.maxAgeMillis = TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * 사용자가 지금 닉네임을 놓는 것으로 기록합니다. 아직 닉네임이 없는 사용자("*")는 무시합니다.
+     */
+    public synchronized void record(User user) {
+        String nickname = user.getNickname();
+        if (maxEntries <= 0 || nickname == null || nickname.equals("*")) {
+            return;
+        }
+        long now = clock.getAsLong();
+        expire(now);
+
+        Node node = new Node(fold(nickname), new Entry(nickname, user.getHost(), now));
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+            node.previous = tail;
+        }
+        tail = node;
+        Node newest = newestByNickname.put(node.key, node);
+        if (newest != null) {
+            node.older = newest;
+            newest.newer = node;
+        }
+        size++;
+
+        // 닉네임당 상한: 그 닉네임의 가장 오래된 기록을 버림 (상한만큼만 따라감)
+        Node oldest = node;
+        for (int i = 1; i < maxPerNickname && oldest != null; i++) {
+            oldest = oldest.older;
+        }
+        if (oldest != null && oldest.older != null) {
+            unlink(oldest.older);
+        }
+        while (size > maxEntries) {
+            unlink(head);
+        }
+    }
+
+    /**
+     * @param limit 최대 개수 (0 이하면 남아 있는 전부)
+     * @return 대소문자 구분 없이 같은 닉네임의 기록, 최신순
+     */
+    public synchronized List<Entry> find(String nickname, int limit) {
+        expire(clock.getAsLong());
+        List<Entry> entries = new ArrayList<>();
+        for (Node node = newestByNickname.get(fold(nickname)); node != null; node = node.older) {
+            if (limit > 0 && entries.size() == limit) {
+                break;
+            }
+            entries.add(node.entry);
+        }
+        return entries;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 보관 기간이 지난 기록을 오래된 것부터 버림
+    private void expire(long now) {
+        if (maxAgeMillis <= 0) {
+            return;
+        }
+        while (head != null && now - head.entry.signoffMillis() > maxAgeMillis) {
+            unlink(head);
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.previous != null) {
+            node.previous.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.previous = node.previous;
+        } else {
+            tail = node.previous;
+        }
+
+        if (node.older != null) {
+            node.older.newer = node.newer;
+        }
+        if (node.newer != null) {
+            node.newer.older = node.older;
+        } else if (node.older != null) {
+            newestByNickname.put(node.key, node.older);
+        } else {
+            newestByNickname.remove(node.key);
+        }
+        size--;
+    }
+
+    private static String fold(String nickname) {
+        char[] chars = nickname.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = MaskMatcher.fold(chars[i]);
+        }
+        return new String(chars);
+    }
+}
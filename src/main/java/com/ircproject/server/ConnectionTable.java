@@ -0,0 +1,94 @@
+package com.ircproject.server;
+
+import com.ircproject.domain.User;
+
+import java.nio.channels.SelectionKey;
+import java.util.Arrays;
+
+/**
+ * packageName    : com.ircproject.server
+ * fileName       : ConnectionTable
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 연결마다 촘촘한 정수 id 를 발급하고, id 로 사용자와 SelectionKey 를 배열에서 바로 찾습니다.
+ *                  끊긴 연결의 id 는 스택에 돌려받아 다음 접속에 재사용하므로 배열은 동시 접속 최대치만큼만 자랍니다.
+ *                  (이벤트 루프 스레드 전용 - 동기화하지 않음)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class ConnectionTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private User[] users = new User[INITIAL_CAPACITY];
+    private SelectionKey[] keys = new SelectionKey[INITIAL_CAPACITY];
+
+    // 반납된 id 스택 (최근에 반납된 id 부터 재사용 - 캐시에 남아 있을 가능성이 높음)
+    private int[] freeIds = new int[64];
+    private int freeCount;
+
+    private int nextId;   // 한 번도 쓰지 않은 가장 작은 id
+    private int size;     // 현재 연결 수
+
+    /**
+     * 새 연결을 등록하고 id 를 발급합니다. 발급한 id 는 사용자에게도 기록됩니다.
+     */
+    int register(User user, SelectionKey key) {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            id = nextId++;
+            if (id == users.length) {
+                users = Arrays.copyOf(users, id * 2);
+                keys = Arrays.copyOf(keys, id * 2);
+            }
+        }
+        users[id] = user;
+        keys[id] = key;
+        user.setConnectionId(id);
+        size++;
+        return id;
+    }
+
+    /**
+     * @return id 에 등록된 사용자, 없으면 null
+     */
+    User get(int id) {
+        return id >= 0 && id < nextId ? users[id] : null;
+    }
+
+    /**
+     * @return id 에 등록된 SelectionKey, 없으면 null
+     */
+    SelectionKey keyOf(int id) {
+        return id >= 0 && id < nextId ? keys[id] : null;
+    }
+
+    /**
+     * 사용자의 연결을 해제하고 id 를 반납합니다.
+     *
+     * @return 실제로 해제했으면 true (이미 해제된 경우 false)
+     */
+    boolean release(User user) {
+        int id = user.getConnectionId();
+        if (get(id) != user) {
+            return false;
+        }
+        users[id] = null;
+        keys[id] = null;
+        user.setConnectionId(User.NO_CONNECTION);
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ircproject.server;
+
+import com.ircproject.domain.OutboundMessage;
+import com.ircproject.domain.User;
+import com.ircproject.repository.ChannelRepository;
+import com.ircproject.repository.UserRepository;
+import com.ircproject.service.ServiceEvent;
+
+import java.util.ArrayDeque;
+
+/**
+ * packageName    : com.ircproject.server
+ * fileName       : DisconnectCleanup
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 소켓이 닫힌 사용자의 채널 퇴장, QUIT 알림, 닉네임 반납을 여러 바퀴에 나눠 처리합니다.
+ *                  닉네임은 QUIT 을 보내고 채널에서 뺀 뒤에 반납하므로, 같은 닉네임으로 재접속한 사용자가
+ *                  정리 전에 다시 들어와서 옛 연결의 QUIT 을 뒤늦게 받거나 NAMES 에 두 번 보이는 일이 없습니다.
+ *                  (이벤트 루프 스레드 전용 - 동기화하지 않음)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class DisconnectCleanup {
+
+    private final ArrayDeque<User> pending = new ArrayDeque<>();
+    private final ChannelRepository channelRepository;
+    private final UserRepository userRepository;
+
+    DisconnectCleanup(ChannelRepository channelRepository, UserRepository userRepository) {
+        this.channelRepository = channelRepository;
+        this.userRepository = userRepository;
+    }
+
+    void add(User user) {
+        pending.add(user);
+    }
+
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 사용자를 maxUsers 명, 또는 확인한 채널 멤버가 maxVisits 에 이를 때까지 정리합니다.
+     */
+    void process(int maxUsers, int maxVisits) {
+        int users = 0;
+        int visits = 0;
+        User user;
+        while (users < maxUsers && visits < maxVisits && (user = pending.poll()) != null) {
+            // 유령 유저 방지: 채널을 함께 쓰던 사람들에게 QUIT 을 한 번씩만 알리고 모든 채널에서 퇴장 처리
+            // (QUIT 명령으로 나간 경우에는 이미 정리되어 있어 아무것도 보내지 않음)
+            OutboundMessage quitMessage = OutboundMessage.of(":" + user.getNickname() + " QUIT :Connection closed\r\n")
+                .withEvent(new ServiceEvent.Quit(user.getNickname(), "Connection closed"));
+            visits += channelRepository.forEachPeer(user, quitMessage::sendOrderedTo);
+            channelRepository.leaveAll(user);
+            userRepository.remove(user.getNickname(), user);
+            users++;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.ircproject.server;
 
-import com.ircproject.domain.Channel;
+import com.ircproject.capture.TrafficRecorder;
 import com.ircproject.domain.IrcMessage;
 import com.ircproject.domain.User;
 import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.monitor.DisconnectEvent;
+import com.ircproject.monitor.MessageTracer;
+import com.ircproject.monitor.ParseFailureEvent;
+import com.ircproject.monitor.SelectorIterationEvent;
+import com.ircproject.monitor.SlowWriteEvent;
+import com.ircproject.monitor.SocketReadEvent;
 import com.ircproject.parser.IrcFormatException;
 import com.ircproject.parser.IrcParser;
 import com.ircproject.repository.ChannelRepository;
@@ -20,10 +26,10 @@ import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * packageName    : com.ircproject.server
@@ -35,6 +41,19 @@ import java.util.concurrent.ConcurrentHashMap;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 6.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       연결 id 테이블 + SelectionKey attachment 로 사용자 조회
+ * 2026. 10. 19.       kobe       연결별 처리 한도(라인/바이트)와 라운드로빈 대기열
+ * 2026. 10. 19.       kobe       샘플링 지연 추적 (읽기 -> 파싱 -> 처리 -> flush)
+ * 2026. 10. 19.       kobe       JFR 이벤트 (루프, 읽기, 파싱 실패, 느린 송신, 연결 종료)
+ * 2026. 10. 19.       kobe       백그라운드 작업 결과를 루프에서 실행하는 LoopExecutor
+ * 2026. 10. 19.       kobe       종료 시 압축 스트림 반납
+ * 2026. 10. 19.       kobe       재생용 수신 트래픽 캡처 (TrafficRecorder)
+ * 2026. 10. 19.       kobe       서비스용 종료 이벤트
+ * 2026. 10. 19.       kobe       파싱 오류 응답도 송신 대기열로 (압축 연결 보호)
+ * 2026. 10. 19.       kobe       종료 알림은 먼저 쌓인 대화 뒤에
+ * 2026. 10. 19.       kobe       끊긴 사용자의 닉네임은 QUIT 알림과 채널 퇴장을 마친 뒤에 반납 (DisconnectCleanup)
+ * 2026. 10. 19.       kobe       지연 추적은 등록된 명령어 이름으로 집계
+ * 2026. 10. 19.       kobe       연결별 바이트 한도는 실제 수신 바이트로 계산
  */
 
 @Component
@@ -42,13 +61,55 @@ public class IrcServer implements Runnable {
 
     private static final Logger logger = LoggerFactory.getLogger(IrcServer.class);
     private static final int PORT = 6667; // IRC 표준 포트
-    private static final int BUFFER_SIZE = 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    // 환영 메시지 (테스트용)
+    private static final byte[] WELCOME_MESSAGE = ("""
+                 _       __     __                             __                                 \s
+                | |     / /__  / /________  ____ ___  ___     / /_____                            \s
+                | | /| / / _ \\/ / ___/ __ \\/ __ `__ \\/ _ \\   / __/ __ \\                           \s
+                | |/ |/ /  __/ / /__/ /_/ / / / / / /  __/  / /_/ /_/ /                           \s
+                |__/|__/\\___/_/\\___/\\____/_/ /_/_/_/\\___/___\\__/\\____/__________ _    ____________\s
+                   / //_/___  / /_  ___     /  _/ __ \\/ ____/  / ___// ____/ __ \\ |  / / ____/ __ \\
+                  / ,< / __ \\/ __ \\/ _ \\    / // /_/ / /       \\__ \\/ __/ / /_/ / | / / __/ / /_/ /
+                 / /| / /_/ / /_/ /  __/  _/ // _, _/ /___    ___/ / /___/ _, _/| |/ / /___/ _, _/\s
+                /_/ |_\\____/_.___/\\___/  /___/_/ |_|\\____/   /____/_____/_/ |_| |___/_____/_/ |_| \s
+    \r\n"""
+            + "PLZ MAKE OWN YOUR NICKNAME :)\r\n"
+            + "[EXAMPLE] NIKC $Own_your_nickname\r\n"
+            + "IF YOU WANT TO MORE INFO PLZ USE 'HELP' COMMAND\r\n").getBytes(StandardCharsets.UTF_8);
+
+    // 한 연결이 한 차례에 처리할 수 있는 최대 라인 수/바이트 수 (넘으면 대기열 뒤로 보내서 다른 연결에 순서를 넘김)
+    static final int LINES_PER_TURN = 16;
+    static final int BYTES_PER_TURN = 8 * 1024;
+
+    // 연결 종료 후속 처리(채널 퇴장 + QUIT 팬아웃)를 루프 한 바퀴에 최대 얼마나 할지
+    private static final int CLEANUP_BATCH_USERS = 256;
+    private static final int CLEANUP_BATCH_VISITS = 65_536;
+
+    // 이보다 오래 걸린 flush 는 SlowWriteEvent 로 기록 (다 못 보낸 경우는 항상 기록)
+    private static final long SLOW_WRITE_NANOS = 1_000_000;
 
     private final IrcParser parser; // Parser
     private final CommandDispatcher dispatcher;
-    private final Map<SocketChannel, User> userRegistry = new ConcurrentHashMap<>(); // 사용자 관리
-    private final ChannelRepository channelRepository;
-    private final UserRepository userRepository;
+    // 사용자 관리: 연결 id -> 사용자/SelectionKey (읽기 이벤트에서는 key.attachment() 로 바로 찾음)
+    private final ConnectionTable connections = new ConnectionTable();
+    private final MessageTracer tracer;
+    private final LoopExecutor loopExecutor;
+    private final TrafficRecorder recorder;
+
+    // 이번 이벤트 처리 중에 보낼 데이터가 생긴 사용자들 (처리 직후 한 번씩 flush)
+    private final ArrayDeque<User> pendingFlush = new ArrayDeque<>();
+    private final Consumer<User> scheduleFlush = pendingFlush::add; // 모든 연결이 공유하는 리스너
+
+    // 모든 연결이 함께 쓰는 수신 버퍼 (이벤트 루프 스레드 전용, 읽은 즉시 사용자 버퍼로 복사)
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    // 처리 한도를 넘겨 라인이 남은 사용자들 (라운드로빈, 남은 동안에는 소켓 읽기를 멈춰서 수신 버퍼가 넘치지 않게 함)
+    private final ArrayDeque<User> readyQueue = new ArrayDeque<>();
+
+    // 소켓은 이미 닫혔지만 채널 정리와 QUIT 알림이 남은 사용자들 (대량 끊김 시 여러 바퀴에 나눠 처리)
+    private final DisconnectCleanup pendingCleanup;
 
     private Selector selector;
     private ServerSocketChannel serverSocketChannel;
@@ -58,11 +119,16 @@ public class IrcServer implements Runnable {
     public IrcServer(IrcParser parser,
                      CommandDispatcher dispatcher,
                      ChannelRepository channelRepository,
-                     UserRepository userRepository) {
+                     UserRepository userRepository,
+                     MessageTracer tracer,
+                     LoopExecutor loopExecutor,
+                     TrafficRecorder recorder) {
         this.parser = parser;
         this.dispatcher = dispatcher;
-        this.channelRepository = channelRepository;
-        this.userRepository = userRepository;
+        this.pendingCleanup = new DisconnectCleanup(channelRepository, userRepository);
+        this.tracer = tracer;
+        this.loopExecutor = loopExecutor;
+        this.recorder = recorder;
     }
 
     // 서버 시작 메서드 (Spring Boot가 시작되면 호출됨)
@@ -70,6 +136,7 @@ public class IrcServer implements Runnable {
         try {
             // 1. Selector(이벤트 감지자) 생성
             selector = Selector.open();
+            loopExecutor.bind(selector);
 
             // 2. ServerSocketChannel(서버 소켓) 생성 및 설정
             serverSocketChannel = ServerSocketChannel.open();
@@ -95,7 +162,19 @@ public class IrcServer implements Runnable {
         while (running) {
             try {
                 // 5. 이벤트 발생 대기 (이벤트가 없으면 여기서 블로킹됨 - CPU 낭비 방지)
-                if (selector.select() == 0) {
+                // 단, 남은 라인이나 연결 종료 처리가 있으면 기다리지 않고 바로 확인만 함
+                boolean pendingWork = !readyQueue.isEmpty() || !pendingCleanup.isEmpty() || loopExecutor.hasPending();
+                int readyCount = pendingWork ? selector.selectNow() : selector.select();
+
+                SelectorIterationEvent iteration = new SelectorIterationEvent();
+                iteration.begin();
+
+                // 다른 스레드가 넘긴 작업(검색 결과 전송 등)을 먼저 실행 (wakeup 으로 깨어난 경우 readyCount 는 0)
+                runLoopTasks();
+                if (readyCount == 0) {
+                    processReadyQueue();
+                    processPendingCleanups();
+                    commitIteration(iteration, 0);
                     continue;
                 }
 
@@ -114,16 +193,54 @@ public class IrcServer implements Runnable {
                     // 7. 이벤트 종류에 따른 분기 처리
                     if (key.isAcceptable()) {
                         handleAccept(key);
-                    } else if (key.isReadable()) {
-                        handleRead(key);
+                    } else {
+                        if (key.isReadable()) {
+                            handleRead(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            handleWrite(key);
+                        }
                     }
+
+                    // 8. 이번 이벤트로 쌓인 송신 데이터를 사용자별로 한 번의 write 로 전송
+                    flushPendingWrites();
                 }
+
+                // 9. 한도를 넘겨 밀린 연결들에게 한 차례씩 순서를 줌
+                processReadyQueue();
+
+                // 10. 살아있는 사용자 처리 후, 끊긴 사용자의 정리를 정해진 양만큼 진행
+                processPendingCleanups();
+                commitIteration(iteration, readyCount);
             } catch (IOException e) {
                 logger.error("Error in server loop", e);
             }
         }
     }
 
+    /**
+     * 현재 연결 수 (이벤트 루프 밖에서 읽으면 근삿값)
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    private void runLoopTasks() {
+        if (loopExecutor.hasPending()) {
+            loopExecutor.runPending();
+            flushPendingWrites();
+        }
+    }
+
+    private void commitIteration(SelectorIterationEvent iteration, int readyCount) {
+        if (iteration.shouldCommit()) {
+            iteration.readyKeys = readyCount;
+            iteration.queuedConnections = readyQueue.size();
+            iteration.pendingCleanups = pendingCleanup.size();
+            iteration.commit();
+        }
+    }
+
     // [연결 처리] 새로운 클라이언트가 접속했을 때
     private void handleAccept(SelectionKey key) throws IOException {
         ServerSocketChannel serverChannel = (ServerSocketChannel) key.channel();
@@ -131,147 +248,247 @@ public class IrcServer implements Runnable {
 
         clientChannel.configureBlocking(false); // 클라이언트 소켓도 Non-blocking 설정
 
-        // 클라이언트가 "데이터를 보낼 때(READ)"를 감시하도록 Selector에 등록
-        clientChannel.register(selector, SelectionKey.OP_READ);
-
-        // 접속 시 User 객체 생성 및 등록
+        // 접속 시 User 객체 생성
         User newUser = new User(clientChannel);
-        userRegistry.put(clientChannel, newUser);
+        newUser.setWriteListener(scheduleFlush);
+        if (clientChannel.getRemoteAddress() instanceof InetSocketAddress remoteAddress) {
+            newUser.setHost(remoteAddress.getAddress().getHostAddress());
+        }
 
-        logger.info("New Client Connected: {}", clientChannel.getRemoteAddress());
+        // 클라이언트가 "데이터를 보낼 때(READ)"를 감시하도록 Selector에 등록하면서 사용자를 key 에 붙여둠
+        SelectionKey clientKey = clientChannel.register(selector, SelectionKey.OP_READ, newUser);
+        connections.register(newUser, clientKey);
+        recorder.recordConnect(newUser.getConnectionId(), newUser.getHost());
 
-        // 환영 메시지 전송 (테스트용)
-        sendMessage(clientChannel, """
-                 _       __     __                             __                                 \s
-                | |     / /__  / /________  ____ ___  ___     / /_____                            \s
-                | | /| / / _ \\/ / ___/ __ \\/ __ `__ \\/ _ \\   / __/ __ \\                           \s
-                | |/ |/ /  __/ / /__/ /_/ / / / / / /  __/  / /_/ /_/ /                           \s
-                |__/|__/\\___/_/\\___/\\____/_/ /_/_/_/\\___/___\\__/\\____/__________ _    ____________\s
-                   / //_/___  / /_  ___     /  _/ __ \\/ ____/  / ___// ____/ __ \\ |  / / ____/ __ \\
-                  / ,< / __ \\/ __ \\/ _ \\    / // /_/ / /       \\__ \\/ __/ / /_/ / | / / __/ / /_/ /
-                 / /| / /_/ / /_/ /  __/  _/ // _, _/ /___    ___/ / /___/ _, _/| |/ / /___/ _, _/\s
-                /_/ |_\\____/_.___/\\___/  /___/_/ |_|\\____/   /____/_____/_/ |_| |___/_____/_/ |_| \s
-    \r\n""");
+        logger.info("New Client Connected: {} (id {})", newUser.getHost(), newUser.getConnectionId());
 
-        // 닉네임 설정 메시지 전송
-        sendMessage(clientChannel, "PLZ MAKE OWN YOUR NICKNAME :)\r\n");
-        sendMessage(clientChannel, "[EXAMPLE] NIKC $Own_your_nickname\r\n");
-        sendMessage(clientChannel, "IF YOU WANT TO MORE INFO PLZ USE 'HELP' COMMAND\r\n");
+        // 환영 메시지 + 닉네임 설정 안내 전송 (접속마다 인코딩하지 않도록 미리 만들어 둔 바이트)
+        clientChannel.write(ByteBuffer.wrap(WELCOME_MESSAGE));
     }
 
     // [데이터 수신] 클라이언트가 메시지를 보냈을 때
     private void handleRead(SelectionKey key) {
         SocketChannel clientChannel = (SocketChannel) key.channel();
-        // 레지스트리에서 현재 사용자 찾기
-        User user = userRegistry.get(clientChannel);
+        // 등록할 때 붙여둔 사용자 (해시 조회 없음)
+        User user = (User) key.attachment();
         if (user == null) {
             return; // 예외 상황
         }
 
-        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer buffer = readBuffer;
+        buffer.clear();
 
         try {
             int bytesRead = clientChannel.read(buffer);
 
             if (bytesRead == -1) {
                 // -1은 클라이언트가 연결을 끊었다는 신호
-                disconnect(key, clientChannel);
+                disconnect(key, clientChannel, "closed by peer");
                 return;
             }
 
             if (bytesRead > 0) {
+                SocketReadEvent readEvent = new SocketReadEvent();
+                if (readEvent.shouldCommit()) {
+                    readEvent.connectionId = user.getConnectionId();
+                    readEvent.bytes = bytesRead;
+                    readEvent.commit();
+                }
+
+                if (tracer.isEnabled()) {
+                    user.setLastReadNanos(System.nanoTime());
+                }
+
                 // 읽기 모드로 전환 (Write -> Read)
                 buffer.flip();
-                // 바이트를 문자열로 변환
-                String data = StandardCharsets.UTF_8.decode(buffer).toString();
 
-                // [핵심] 1. 데이터를 유저 버퍼에 쌓음
-                user.appendData(data);
+                // 재생용 캡처 (버퍼 위치는 그대로 둠)
+                recorder.recordData(user.getConnectionId(), buffer);
 
-                // [핵심] 2. 완성된 문장이 있는지 확인 (여러 문장이 한 번에 올 수도 있음 - while)
-                String line;
-                while ((line = user.nextLine()) != null) {
-                    processMessage(user, line);
+                // [핵심] 1. 데이터를 유저 버퍼에 쌓음 (문자열 변환은 완성된 라인 단위로)
+                if (!user.appendData(buffer)) {
+                    // 개행 없이 한도 이상을 보내는 클라이언트는 정상이 아님
+                    user.sendMessage("ERROR :Line too long\r\n");
+                    user.flush();
+                    disconnect(key, clientChannel, "line too long");
+                    return;
                 }
-                logger.info("Received {}", data.trim());
+
+                // [핵심] 2. 완성된 문장을 한도만큼 처리 (남으면 대기열에서 차례를 기다림)
+                processTurn(key, user);
             }
         } catch (IOException e) {
             logger.warn("Connection reset by peer");
-            disconnect(key, clientChannel);
+            disconnect(key, clientChannel, "connection reset");
+        }
+    }
+
+    /**
+     * 한 연결의 라인을 LINES_PER_TURN / BYTES_PER_TURN 한도까지 처리합니다.
+     * 파이프라이닝으로 수천 줄을 보낸 클라이언트가 루프를 독차지하지 않도록, 남은 라인은 다음 차례로 미룹니다.
+     */
+    private void processTurn(SelectionKey key, User user) throws IOException {
+        int lines = 0;
+        int bytes = 0;
+        String line;
+        while (lines < LINES_PER_TURN && bytes < BYTES_PER_TURN && (line = user.nextLine()) != null) {
+            processMessage(user, line);
+            lines++;
+            bytes += user.getLastLineBytes(); // 문자 수가 아닌 수신 바이트 (멀티바이트 본문도 한도대로)
+            if (user.isCloseRequested()) {
+                break; // QUIT 이후에 온 명령은 무시
+            }
+        }
+
+        if (user.isCloseRequested()) {
+            user.flush(); // ERROR 등 마지막 메시지를 내보내고 종료
+            disconnect(key, (SocketChannel) key.channel(), "quit");
+            return;
+        }
+
+        boolean more = lines == LINES_PER_TURN || bytes >= BYTES_PER_TURN;
+        if (more && user.hasBufferedInput()) {
+            if (!user.isReadQueued()) {
+                // 밀린 라인을 다 처리할 때까지 소켓 읽기를 멈춤 (TCP 흐름 제어로 클라이언트가 자연히 기다림)
+                user.setReadQueued(true);
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+            readyQueue.add(user);
+        } else if (user.isReadQueued()) {
+            user.setReadQueued(false);
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+    }
+
+    // 대기열에 있는 연결마다 한 차례씩만 처리 (이번에 다시 들어온 연결은 다음 바퀴에)
+    private void processReadyQueue() {
+        for (int turns = readyQueue.size(); turns > 0; turns--) {
+            User user = readyQueue.poll();
+            SelectionKey key = connections.keyOf(user.getConnectionId());
+            if (key == null || !key.isValid()) {
+                continue; // 그사이 끊긴 연결
+            }
+            try {
+                processTurn(key, user);
+            } catch (IOException e) {
+                logger.warn("Connection reset by peer");
+                disconnect(key, (SocketChannel) key.channel(), "connection reset");
+            }
+            flushPendingWrites();
+        }
+    }
+
+    // [송신 가능] 소켓 버퍼가 비어서 남은 데이터를 보낼 수 있을 때
+    private void handleWrite(SelectionKey key) {
+        User user = (User) key.attachment();
+        if (user != null) {
+            flush(user);
+        }
+    }
+
+    private void flushPendingWrites() {
+        User user;
+        while ((user = pendingFlush.poll()) != null) {
+            flush(user);
+        }
+        tracer.flushed(); // 샘플링된 메시지의 마지막 수신자까지 write 완료
+    }
+
+    private void flush(User user) {
+        SelectionKey key = connections.keyOf(user.getConnectionId());
+        SlowWriteEvent slowWrite = new SlowWriteEvent();
+        slowWrite.begin();
+        long startedAt = System.nanoTime();
+        try {
+            boolean drained = user.flush();
+            if ((!drained || System.nanoTime() - startedAt >= SLOW_WRITE_NANOS) && slowWrite.shouldCommit()) {
+                slowWrite.connectionId = user.getConnectionId();
+                slowWrite.nickname = user.getNickname();
+                slowWrite.drained = drained;
+                slowWrite.queuedBytes = user.getPendingWriteBytes();
+                slowWrite.commit();
+            }
+            if (key != null && key.isValid()) {
+                // 다 못 보냈으면 소켓이 쓰기 가능해질 때 이어서 전송 (처리할 라인이 밀려 있으면 읽기는 계속 멈춤)
+                int readInterest = user.isReadQueued() ? 0 : SelectionKey.OP_READ;
+                key.interestOps(drained ? readInterest : readInterest | SelectionKey.OP_WRITE);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write to {}", user.getNickname());
+            if (key != null) {
+                disconnect(key, user.getSocketChannel(), "write failed");
+            }
         }
     }
 
     // 메시지 처리 로직
     private void processMessage(User user, String line) {
         try {
-            logger.info("[RAW] Client says: {}", line);
+            logger.debug("[RAW] Client says: {}", line);
+
+            boolean sampled = tracer.begin(user.getLastReadNanos());
 
             // 1. 파싱
             IrcMessage message = parser.parse(line);
+            tracer.parsed();
 
             // 2. 디스패처에게 위임 (이제 서버는 구제척인 명령어를 몰라도 됩니다.)
-            dispatcher.dispatch(user, message);
+            dispatcher.dispatch(user, message, user.getLastLineBytes());
+            if (sampled) {
+                tracer.handled(dispatcher.resolveCommand(message.command()));
+            }
 
         } catch (IrcFormatException e) {
+            tracer.abandon();
+            ParseFailureEvent event = new ParseFailureEvent();
+            if (event.shouldCommit()) {
+                event.connectionId = user.getConnectionId();
+                event.nickname = user.getNickname();
+                event.reason = e.getMessage();
+                event.commit();
+            }
             logger.warn("Parsing Failed: {}", e.getMessage());
             // 파싱 에러 시 클라이언트에게 알려주는 것이 관례
-            try {
-                sendMessage(user.getSocketChannel(), "ERROR :Invalid Message Format\r\n");
-            } catch (IOException ignored) {}
+            // (소켓에 직접 쓰면 압축 스트림이나 대기 중인 응답 사이에 끼어들므로 송신 대기열을 거침)
+            user.sendMessage("ERROR :Invalid Message Format\r\n");
         }
     }
 
-    // 메시지 전송 헬퍼 메서드
-    private void sendMessage(SocketChannel client, String message) throws IOException {
-        client.write(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
-    }
-
     // 연결 종료 처리
-    private void disconnect(SelectionKey key, SocketChannel clientChannel) {
+    // 소켓 정리만 즉시 하고, 채널 퇴장과 QUIT 팬아웃은 processPendingCleanups() 에서 나눠서 처리합니다.
+    private void disconnect(SelectionKey key, SocketChannel clientChannel, String reason) {
+        key.cancel(); // Selector 감시 취소
         try {
-            User user = userRegistry.get(clientChannel);
-            if (user != null) {
-                logger.info("Client Disconnected: {} ({})", clientChannel.getRemoteAddress(), user.getNickname());
-
-                // 닉네임 저장소에서 삭제
-                userRepository.remove(user.getNickname());
-
-                userRegistry.remove(clientChannel);
-
-                // 유령 유저 방지: 가입된 모든 채널에서 퇴장 처리
-                for (String channelName : user.getJoinedChannels()) {
-                    Channel channel = channelRepository.get(channelName);
-                    if (channel != null) {
-                        channel.leave(user); // 채널에서 유저 삭제
-                        logger.info("Cleaned up user {} from channel {}", user.getNickname(), channelName);
-
-                        // 방에 남은 사람들에게 "누가 나갔다"고 알려주기 (PART 메시지 전송)
-                        broadcastPartMessage(channel, user);
-                    }
-                }
-                userRegistry.remove(clientChannel);
-            }
-            key.cancel(); // Selector 감시 취소
             clientChannel.close(); // 소켓 닫기
         } catch (IOException e) {
             logger.error("Error closing channel", e);
         }
-    }
 
-    // PART 메세지 전송 메서드
-    private void broadcastPartMessage(Channel channel, User leaver) {
-        // 1. IRC 표준 프로토콜 메시지 생성
-        // 형식: :닉네임 PART #채널명 :메시지
-        String partMessage = ":" + leaver.getNickname() + " PART " + channel.getName() + "\r\n";
-        String leaveMessage = leaver.getNickname() + " " + "leave this channel : " + channel.getName() + "\r\n";
-
-        // 2. 채널에 남아있는 모든 유저에게 전송 (Loop)
-        for (User member : channel.getUsers()) {
-            // 떠나는 본인이 아닌 경우에만 전송
-            if (!member.equals(leaver)) {
-                member.sendMessage(partMessage);
-                member.sendMessage(leaveMessage);
-            }
+        User user = (User) key.attach(null);
+        int connectionId = user != null ? user.getConnectionId() : User.NO_CONNECTION;
+        if (user == null || !connections.release(user)) {
+            return; // 이미 처리됨
+        }
+        recorder.recordDisconnect(connectionId);
+        user.releaseCompression();
+        logger.info("Client Disconnected: {} ({}, {})", user.getHost(), user.getNickname(), reason);
+
+        DisconnectEvent event = new DisconnectEvent();
+        if (event.shouldCommit()) {
+            event.connectionId = connectionId;
+            event.nickname = user.getNickname();
+            event.host = user.getHost();
+            event.reason = reason;
+            event.commit();
         }
+
+        // 닉네임은 QUIT 알림과 채널 퇴장을 마칠 때까지 묶어 둠 (정리 전에 같은 닉네임으로 다시 들어와 유령이 겹치지 않도록)
+        pendingCleanup.add(user);
+    }
+
+    // 끊긴 사용자의 채널 퇴장 + QUIT 알림을 한 바퀴에 정해진 양만큼만 처리 (대량 끊김 시 루프 정체 방지)
+    private void processPendingCleanups() {
+        pendingCleanup.process(CLEANUP_BATCH_USERS, CLEANUP_BATCH_VISITS);
+        flushPendingWrites();
     }
 }
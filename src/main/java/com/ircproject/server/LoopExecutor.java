@@ -0,0 +1,75 @@
+package com.ircproject.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.channels.Selector;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * packageName    : com.ircproject.server
+ * fileName       : LoopExecutor
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 다른 스레드에서 이벤트 루프 스레드로 작업을 넘기는 Executor.
+ *                  User 와 채널 상태는 루프 스레드 전용이므로, 백그라운드 작업(검색 등)의 결과 전송은 반드시 이곳을 거칩니다.
+ *                  작업을 넣으면 selector 를 깨워서 다음 바퀴에 바로 실행됩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       루프 기동 여부 확인 (종료 시 스냅샷을 루프에서 뜨기 위함)
+ */
+@Component
+public class LoopExecutor implements Executor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoopExecutor.class);
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile Selector selector;
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    /**
+     * 이벤트 루프가 떠 있어서 넣은 작업이 실행될지 여부 (아직 기동 전이면 채널 상태를 건드리는 다른 스레드도 없음)
+     */
+    public boolean isBound() {
+        return selector != null;
+    }
+
+    // 서버가 selector 를 연 뒤 연결 (그 전에 들어온 작업은 첫 바퀴에 실행됨)
+    void bind(Selector selector) {
+        this.selector = selector;
+    }
+
+    boolean hasPending() {
+        return !tasks.isEmpty();
+    }
+
+    /**
+     * 지금까지 들어온 작업만 실행합니다. 실행 중에 추가된 작업은 다음 바퀴로 미뤄서 루프를 독차지하지 않게 합니다.
+     */
+    void runPending() {
+        for (int remaining = tasks.size(); remaining > 0; remaining--) {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Loop task failed", e);
+            }
+        }
+    }
+}
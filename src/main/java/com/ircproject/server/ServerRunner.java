@@ -1,5 +1,7 @@
 package com.ircproject.server;
 
+import com.ircproject.repository.ServerSnapshotStore;
+import com.ircproject.service.ServiceRegistry;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -13,18 +15,29 @@ import org.springframework.stereotype.Component;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 6.        kobe       최초 생성
+ * 2026. 10. 19.       kobe       내장 서비스(봇) 등록
  */
 @Component
 public class ServerRunner implements CommandLineRunner {
 
     private final IrcServer ircServer;
+    private final ServerSnapshotStore snapshotStore;
+    private final ServiceRegistry serviceRegistry;
 
-    public ServerRunner(IrcServer ircServer) {
+    public ServerRunner(IrcServer ircServer, ServerSnapshotStore snapshotStore, ServiceRegistry serviceRegistry) {
         this.ircServer = ircServer;
+        this.snapshotStore = snapshotStore;
+        this.serviceRegistry = serviceRegistry;
     }
 
     @Override
     public void run(String... args) throws Exception {
+        // 이전 프로세스가 남긴 스냅샷으로 채널 상태를 먼저 복원 (재접속 폭주 완화)
+        snapshotStore.restore();
+
+        // 내장 서비스 등록은 루프에 예약되므로 서버가 뜨자마자 첫 작업으로 처리됨
+        serviceRegistry.start();
+
         // Spring Boot 구동 완료 시점에 IRC 서버 시작
         ircServer.start();
     }
@@ -0,0 +1,43 @@
+package com.ircproject.service;
+
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : IrcService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 소켓 없이 서버 안에서 동작하는 서비스/봇 (NickServ, ChanServ, 로깅 봇 등) 의 확장 지점.
+ *                  Spring 모드에서는 이 인터페이스를 구현한 빈을, 경량 기동에서는 ServiceLoader 로 찾은 구현을 등록합니다.
+ *                  서비스는 의사 사용자(pseudo-user)로 닉네임을 잡고 채널에 들어가며, 팬아웃 경로에서 이벤트를 객체로 받습니다.
+ *                  모든 콜백은 서비스마다 하나씩 있는 전용 스레드에서 순서대로 호출되므로 느려도 이벤트 루프를 막지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public interface IrcService {
+
+    /**
+     * 서비스가 쓸 닉네임 (이미 쓰는 사람이 있으면 서비스는 등록되지 않음)
+     */
+    String getNickname();
+
+    /**
+     * 등록하면서 입장할 채널들
+     */
+    default List<String> getChannels() {
+        return List.of();
+    }
+
+    /**
+     * 닉네임을 잡고 채널에 들어간 뒤 한 번 호출됩니다. context 로 메시지를 보내거나 채널을 드나듭니다.
+     */
+    default void onStart(ServiceContext context) {
+    }
+
+    /**
+     * 입장한 채널의 대화/입퇴장과 서비스에게 온 귓속말을 받습니다.
+     */
+    void onEvent(ServiceEvent event);
+}
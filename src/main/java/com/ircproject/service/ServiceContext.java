@@ -0,0 +1,67 @@
+package com.ircproject.service;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.server.LoopExecutor;
+
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : ServiceContext
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 서비스가 서버에 명령을 보내는 창구. 어느 스레드에서 불러도 되며, 명령은 이벤트 루프에서 실행됩니다.
+ *                  IrcMessage 를 직접 만들어 CommandDispatcher 로 넘기므로 직렬화/파싱 없이 일반 사용자와 같은 검사(+m, +b, 필터 등)를 거칩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class ServiceContext {
+
+    private final User user;
+    private final CommandDispatcher dispatcher;
+    private final LoopExecutor loopExecutor;
+
+    ServiceContext(User user, CommandDispatcher dispatcher, LoopExecutor loopExecutor) {
+        this.user = user;
+        this.dispatcher = dispatcher;
+        this.loopExecutor = loopExecutor;
+    }
+
+    /**
+     * 서비스의 현재 닉네임 (이벤트 루프에서 바뀔 수 있으므로 참고용)
+     */
+    public String getNickname() {
+        return user.getNickname();
+    }
+
+    /**
+     * @param target 채널(#...) 또는 닉네임
+     */
+    public void privmsg(String target, String text) {
+        send("PRIVMSG", target, text);
+    }
+
+    public void notice(String target, String text) {
+        send("NOTICE", target, text);
+    }
+
+    public void join(String channel) {
+        send("JOIN", channel);
+    }
+
+    public void part(String channel, String reason) {
+        send("PART", channel, reason);
+    }
+
+    /**
+     * 임의의 명령을 실행합니다. (예: send("MODE", "#ops", "+o", "alice"))
+     */
+    public void send(String command, String... parameters) {
+        IrcMessage message = new IrcMessage(null, command, List.of(parameters));
+        loopExecutor.execute(() -> dispatcher.dispatch(user, message));
+    }
+}
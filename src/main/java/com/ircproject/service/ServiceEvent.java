@@ -0,0 +1,37 @@
+package com.ircproject.service;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : ServiceEvent
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 서비스가 받는 이벤트. 와이어 포맷을 다시 파싱하지 않도록 팬아웃하는 쪽에서 한 번 만들어 모든 서비스가 공유합니다.
+ *                  본문(text)은 금칙어 필터를 거친, 실제로 전달된 내용입니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public sealed interface ServiceEvent {
+
+    /**
+     * @param notice NOTICE 면 true (자동 응답 금지), PRIVMSG 면 false
+     */
+    record ChannelMessage(String channel, String sender, boolean notice, String text) implements ServiceEvent {
+    }
+
+    record PrivateMessage(String sender, boolean notice, String text) implements ServiceEvent {
+    }
+
+    record Join(String channel, String nickname) implements ServiceEvent {
+    }
+
+    record Part(String channel, String nickname, String reason) implements ServiceEvent {
+    }
+
+    record Quit(String nickname, String reason) implements ServiceEvent {
+    }
+
+    record NickChange(String oldNickname, String newNickname) implements ServiceEvent {
+    }
+}
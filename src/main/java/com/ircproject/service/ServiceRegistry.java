@@ -0,0 +1,116 @@
+package com.ircproject.service;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.repository.UserRepository;
+import com.ircproject.server.LoopExecutor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : ServiceRegistry
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : IrcService 구현들을 의사 사용자로 등록합니다. 등록(NICK, JOIN)은 일반 명령과 같은 핸들러를 거치도록
+ *                  이벤트 루프에서 CommandDispatcher 로 실행하고, 서비스마다 전용 단일 스레드와 한정된 이벤트 대기열을 둡니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+public class ServiceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRegistry.class);
+
+    private final List<IrcService> services;
+    private final UserRepository userRepository;
+    private final CommandDispatcher dispatcher;
+    private final LoopExecutor loopExecutor;
+    private final int queueCapacity;
+
+    private final List<ServiceUser> registered = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param services      등록할 서비스 (없으면 빈 목록)
+     * @param queueCapacity 서비스마다 처리를 기다릴 수 있는 이벤트 수 (넘으면 버림)
+     */
+    public ServiceRegistry(List<IrcService> services,
+                           UserRepository userRepository,
+                           CommandDispatcher dispatcher,
+                           LoopExecutor loopExecutor,
+                           @Value("${irc.service.queue-capacity:1024}") int queueCapacity) {
+        this.services = List.copyOf(services);
+        this.userRepository = userRepository;
+        this.dispatcher = dispatcher;
+        this.loopExecutor = loopExecutor;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 서비스 등록을 이벤트 루프에 맡깁니다. (서버 기동 전에 불러도 루프가 돌기 시작하면 첫 바퀴에 실행됨)
+     */
+    public void start() {
+        for (IrcService service : services) {
+            loopExecutor.execute(() -> register(service));
+        }
+    }
+
+    /**
+     * 등록된 서비스 수
+     */
+    public int getServiceCount() {
+        return registered.size();
+    }
+
+    /**
+     * 대기열이 가득 차서 서비스에 전달하지 못한 이벤트 수 (전체 합계)
+     */
+    public long getDroppedEvents() {
+        long dropped = 0;
+        for (ServiceUser user : registered) {
+            dropped += user.getDroppedEvents();
+        }
+        return dropped;
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ServiceUser user : registered) {
+            user.shutdown();
+        }
+    }
+
+    // 이벤트 루프 스레드
+    private void register(IrcService service) {
+        String nickname = service.getNickname();
+        if (userRepository.exists(nickname)) {
+            logger.error("Service nickname {} is already in use, service not registered", nickname);
+            return;
+        }
+
+        ServiceUser user = new ServiceUser(service, queueCapacity);
+        dispatcher.dispatch(user, new IrcMessage(null, "NICK", List.of(nickname)));
+        if (!nickname.equals(user.getNickname())) {
+            logger.error("Service nickname {} was rejected, service not registered", nickname);
+            user.shutdown();
+            return;
+        }
+        for (String channel : service.getChannels()) {
+            dispatcher.dispatch(user, new IrcMessage(null, "JOIN", List.of(channel)));
+        }
+        registered.add(user);
+        user.activate();
+
+        ServiceContext context = new ServiceContext(user, dispatcher, loopExecutor);
+        user.run(() -> service.onStart(context));
+        logger.info("Service {} registered in {}", nickname, user.getJoinedChannels());
+    }
+}
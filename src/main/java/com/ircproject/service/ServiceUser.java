@@ -0,0 +1,96 @@
+package com.ircproject.service;
+
+import com.ircproject.domain.OutboundMessage;
+import com.ircproject.domain.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : ServiceUser
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 서비스를 대신해 채널과 닉네임 저장소에 들어가는 의사 사용자. 소켓이 없으므로 와이어 포맷 응답은 버려지고,
+ *                  팬아웃 메시지에 붙은 이벤트만 서비스 전용 스레드로 넘깁니다. 대기열이 가득 차면 루프를 막지 않고 버린 뒤 셉니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+final class ServiceUser extends User {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceUser.class);
+
+    private final IrcService service;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder droppedEvents = new LongAdder();
+
+    // 등록(NICK, JOIN) 중에 자기 자신에게 돌아오는 메시지는 이벤트로 넘기지 않음 (이벤트 루프 스레드 전용)
+    private boolean active;
+
+    ServiceUser(IrcService service, int queueCapacity) {
+        super(null);
+        this.service = service;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "service-" + service.getNickname());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        setHost("services");
+    }
+
+    IrcService getService() {
+        return service;
+    }
+
+    @Override
+    public void deliver(OutboundMessage message, Lane lane) {
+        if (active && message.getEvent() != null) {
+            post(message.getEvent());
+        }
+    }
+
+    /**
+     * 서비스 스레드에서 실행합니다. (대기열이 가득 차면 버림)
+     */
+    void run(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Service {} failed", service.getNickname(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            droppedEvents.increment();
+            if (droppedEvents.sum() == 1) {
+                // 버릴 때마다 찍지 않고 처음 한 번만
+                logger.warn("Service {} is falling behind, events are dropped", service.getNickname());
+            }
+        }
+    }
+
+    void activate() {
+        active = true;
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void post(ServiceEvent event) {
+        run(() -> service.onEvent(event));
+    }
+}
@@ -0,0 +1,118 @@
+package com.ircproject.bench;
+
+import com.ircproject.domain.DeflateStream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * packageName    : com.ircproject.bench
+ * fileName       : CompressionBenchmark
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : COMPRESS DEFLATE 의 CPU 비용과 절약되는 바이트를 압축 레벨별로 비교합니다.
+ *                  채팅과 비슷한 트래픽(닉네임/채널 반복, Zipf 분포 어휘, 한글 섞인 본문, 가끔 JOIN/PART/QUIT)을 만들어
+ *                  수신자 한 명의 송신 스트림처럼 flush 묶음(bench.batch 줄)마다 SYNC_FLUSH 합니다.
+ *                  실행: ./gradlew benchmark -Pbench=CompressionBenchmark [-Dbench.batch=2 -Dbench.lines=200000]
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public class CompressionBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "to", "is", "it", "and", "a", "i", "you", "that", "of", "in", "for", "on", "this", "deploy", "build",
+            "server", "test", "ok", "yes", "no", "lol", "thanks", "merge", "branch", "error", "log", "restart", "prod",
+            "staging", "review", "PR", "ticket", "bug", "fix", "java", "gradle", "https://example.com/issues/",
+            "안녕하세요", "네", "감사합니다", "확인했습니다", "배포", "완료", "잠시만요", "회의", "점심", "ㅋㅋㅋ", "좋아요"
+    };
+
+    public static void main(String[] args) {
+        int batch = Integer.getInteger("bench.batch", 2);
+        int lineCount = Integer.getInteger("bench.lines", 200_000);
+        List<byte[]> lines = generate(lineCount, new Random(42));
+        long rawBytes = 0;
+        for (byte[] line : lines) {
+            rawBytes += line.length;
+        }
+
+        System.out.printf("%d lines, %d KiB raw, %d line(s) per flush%n", lineCount, rawBytes / 1024, batch);
+        System.out.println("level  compressed  ratio  saved/KiB  ns/flush  us/KiB raw");
+        for (int level : new int[]{1, 3, 6, 9}) {
+            run(lines, batch, level); // 워밍업
+            long start = System.nanoTime();
+            long compressed = run(lines, batch, level);
+            long elapsed = System.nanoTime() - start;
+
+            long flushes = (lines.size() + batch - 1) / batch;
+            System.out.printf("%5d  %8d KiB  %5.2f  %6.0f B  %8d  %10.2f%n", level, compressed / 1024,
+                    (double) compressed / rawBytes, 1024.0 * (rawBytes - compressed) / rawBytes,
+                    elapsed / flushes, elapsed / 1_000.0 / (rawBytes / 1024.0));
+        }
+    }
+
+    // 묶음마다 SYNC_FLUSH 하고 나온 바이트를 바로 "보낸" 것으로 처리
+    private static long run(List<byte[]> lines, int batch, int level) {
+        DeflateStream stream = new DeflateStream(level);
+        long compressed = 0;
+        try {
+            for (int i = 0; i < lines.size(); i += batch) {
+                for (int j = i; j < Math.min(i + batch, lines.size()); j++) {
+                    stream.write(ByteBuffer.wrap(lines.get(j)));
+                }
+                stream.syncFlush();
+                int pending = stream.getPendingOutputBytes();
+                compressed += pending;
+                stream.consume(pending);
+            }
+        } finally {
+            stream.end();
+        }
+        return compressed;
+    }
+
+    private static List<byte[]> generate(int count, Random random) {
+        String[] nicks = new String[200];
+        for (int i = 0; i < nicks.length; i++) {
+            nicks[i] = (i % 3 == 0 ? "dev" : i % 3 == 1 ? "ops_" : "user") + i;
+        }
+        String[] channels = {"#lobby", "#dev", "#ops", "#random", "#release", "#support"};
+
+        List<byte[]> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String nick = nicks[zipf(random, nicks.length)];
+            String channel = channels[zipf(random, channels.length)];
+            int kind = random.nextInt(100);
+            String line;
+            if (kind < 3) {
+                line = ":" + nick + " JOIN " + channel;
+            } else if (kind < 5) {
+                line = ":" + nick + " PART " + channel + " :Leaving";
+            } else if (kind < 6) {
+                line = ":" + nick + " QUIT :Connection closed";
+            } else {
+                StringBuilder text = new StringBuilder();
+                int words = 2 + random.nextInt(14);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[zipf(random, WORDS.length)];
+                    text.append(w == 0 ? "" : " ").append(word);
+                    if (word.startsWith("https://")) {
+                        text.append(10_000 + random.nextInt(90_000));
+                    }
+                }
+                line = ":" + nick + " PRIVMSG " + channel + " :" + text;
+            }
+            lines.add((line + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    // 앞쪽 항목일수록 자주 나오는 근사 Zipf 분포
+    private static int zipf(Random random, int size) {
+        return (int) Math.min(size - 1, Math.floor(Math.pow(size + 1, random.nextDouble()) - 1));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ircproject.bench;
+
+import com.ircproject.domain.User;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.ircproject.bench
+ * fileName       : IdleConnectionFootprintBenchmark
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 유휴 연결 하나가 힙에서 차지하는 바이트 수를 측정합니다. (User + 레지스트리 엔트리)
+ *                  SocketChannel/SelectionKey 같은 JDK 객체와 커널 소켓 버퍼는 제외됩니다.
+ *                  실행: ./gradlew benchmark -Pbench=IdleConnectionFootprintBenchmark
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public class IdleConnectionFootprintBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int connections = Integer.getInteger("bench.connections", 100_000);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        // 서버가 접속마다 하는 일을 흉내냄: User 생성, 호스트 기록, 쓰기 리스너 등록, 레지스트리 등록
+        ArrayDeque<User> pendingFlush = new ArrayDeque<>();
+        Consumer<User> writeListener = pendingFlush::add;
+        ConcurrentHashMap<Object, User> registry = new ConcurrentHashMap<>(connections * 2);
+        Object[] keys = new Object[connections];
+        for (int i = 0; i < connections; i++) {
+            keys[i] = new Object(); // SocketChannel 자리 (측정에서 제외하기 위해 미리 생성)
+        }
+
+        long before = usedHeap(memory);
+        for (int i = 0; i < connections; i++) {
+            User user = new User(null);
+            user.setHost("10.0." + (i >> 8 & 0xFF) + "." + (i & 0xFF));
+            user.setNickname("lurker" + i);
+            user.setWriteListener(writeListener);
+            registry.put(keys[i], user);
+        }
+        long after = usedHeap(memory);
+
+        System.out.printf("%,d idle connections: %,d bytes total, %,d bytes per connection%n",
+                connections, after - before, (after - before) / connections);
+
+        // 측정이 끝날 때까지 객체가 수거되지 않도록 유지
+        if (registry.size() != connections) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ircproject.bench;
+
+import com.ircproject.domain.MaskMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * packageName    : com.ircproject.bench
+ * fileName       : MaskMatcherBenchmark
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 큰 밴 목록에서 컴파일된 매처와 마스크를 하나씩 비교하는 방식의 JOIN 검사 비용을 비교합니다.
+ *                  실행: ./gradlew benchmark -Pbench=MaskMatcherBenchmark [-Dbench.masks=10000]
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public class MaskMatcherBenchmark {
+
+    public static void main(String[] args) {
+        int maskCount = Integer.getInteger("bench.masks", 10_000);
+        int lookups = Integer.getInteger("bench.lookups", 200_000);
+        Random random = new Random(7);
+
+        // 실제 밴 목록과 비슷한 분포: IP 밴, 호스트 접미어 밴, 닉네임 접두어 밴
+        List<String> masks = new ArrayList<>(maskCount);
+        for (int i = 0; i < maskCount; i++) {
+            masks.add(switch (i % 3) {
+                case 0 -> "*!*@10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+                case 1 -> "*!*@*.isp" + random.nextInt(100_000) + ".example.net";
+                default -> "spam" + random.nextInt(1_000_000) + "*!*@*";
+            });
+        }
+
+        String[] hostmasks = new String[1024];
+        for (int i = 0; i < hostmasks.length; i++) {
+            hostmasks[i] = "user" + i + "!user" + i + "@" + (i % 2 == 0
+                    ? "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256)
+                    : "host" + i + ".isp" + random.nextInt(100_000) + ".example.net");
+        }
+
+        // 목록이 바뀔 때마다 다시 컴파일하므로 컴파일 비용도 측정 (워밍업 후)
+        MaskMatcher matcher = MaskMatcher.compile(masks);
+        for (int i = 0; i < 20; i++) {
+            matcher = MaskMatcher.compile(masks);
+        }
+        long compileStart = System.nanoTime();
+        matcher = MaskMatcher.compile(masks);
+        long compileNanos = System.nanoTime() - compileStart;
+
+        // 워밍업
+        int sink = run(matcher, masks, hostmasks, lookups / 10, true) + run(matcher, masks, hostmasks, 200, false);
+
+        long start = System.nanoTime();
+        sink += run(matcher, masks, hostmasks, lookups, true);
+        long compiledNanos = (System.nanoTime() - start) / lookups;
+
+        int naiveLookups = Math.max(100, lookups / 100);
+        start = System.nanoTime();
+        sink += run(matcher, masks, hostmasks, naiveLookups, false);
+        long naiveNanos = (System.nanoTime() - start) / naiveLookups;
+
+        System.out.printf("%,d masks: compile %,d us, compiled %,d ns/check, linear %,d ns/check (matches=%d)%n",
+                maskCount, compileNanos / 1_000, compiledNanos, naiveNanos, sink);
+    }
+
+    private static int run(MaskMatcher matcher, List<String> masks, String[] hostmasks, int lookups, boolean compiled) {
+        int matched = 0;
+        for (int i = 0; i < lookups; i++) {
+            String hostmask = hostmasks[i & (hostmasks.length - 1)];
+            boolean hit;
+            if (compiled) {
+                hit = matcher.matches(hostmask);
+            } else {
+                hit = false;
+                for (String mask : masks) {
+                    if (MaskMatcher.matchesOne(mask, hostmask)) {
+                        hit = true;
+                        break;
+                    }
+                }
+            }
+            if (hit) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
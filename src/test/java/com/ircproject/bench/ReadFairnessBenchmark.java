@@ -0,0 +1,106 @@
+package com.ircproject.bench;
+
+import com.ircproject.config.LeanBootstrap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * packageName    : com.ircproject.bench
+ * fileName       : ReadFairnessBenchmark
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 한 클라이언트가 PING 을 대량으로 파이프라이닝하는 동안, 일반 클라이언트의 PING 왕복 지연(p50/p99/max)을 측정합니다.
+ *                  서버는 경량 부트스트랩으로 같은 JVM 에서 6667 포트에 띄웁니다.
+ *                  실행: ./gradlew benchmark -Pbench=ReadFairnessBenchmark
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public class ReadFairnessBenchmark {
+
+    private static final int PROBES = 300;
+
+    private static volatile boolean flooding = true;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("irc.snapshot.enabled", "false");
+        new LeanBootstrap().start();
+        Thread.sleep(300);
+
+        System.out.println("idle   : " + probe("quiet"));
+
+        Thread blaster = new Thread(ReadFairnessBenchmark::blast, "blaster");
+        blaster.start();
+        Thread.sleep(200);
+        System.out.println("flooded: " + probe("victim"));
+        flooding = false;
+        blaster.join();
+
+        System.exit(0);
+    }
+
+    // 일반 사용자: PING 을 하나 보내고 PONG 을 받을 때까지의 시간을 PROBES 번 측정
+    private static String probe(String nickname) throws IOException, InterruptedException {
+        try (Socket socket = connect(nickname)) {
+            OutputStream out = socket.getOutputStream();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            long[] micros = new long[PROBES];
+            for (int i = 0; i < PROBES; i++) {
+                String token = "probe" + i;
+                long start = System.nanoTime();
+                out.write(("PING " + token + "\r\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                String line;
+                while ((line = in.readLine()) != null && !line.endsWith(token)) {
+                    // 환영 메시지 등은 건너뜀
+                }
+                micros[i] = (System.nanoTime() - start) / 1_000;
+                Thread.sleep(2);
+            }
+            Arrays.sort(micros);
+            return String.format("p50 %,d us, p99 %,d us, max %,d us",
+                    micros[PROBES / 2], micros[PROBES * 99 / 100], micros[PROBES - 1]);
+        }
+    }
+
+    // 무거운 클라이언트: 측정이 끝날 때까지 PING 을 쉬지 않고 파이프라이닝, 응답은 다른 스레드가 버림
+    private static void blast() {
+        try (Socket socket = connect("blaster")) {
+            Thread drain = new Thread(() -> {
+                byte[] sink = new byte[64 * 1024];
+                try {
+                    while (socket.getInputStream().read(sink) >= 0) {
+                        // 버림
+                    }
+                } catch (IOException ignored) {
+                    // 종료
+                }
+            }, "blaster-drain");
+            drain.setDaemon(true);
+            drain.start();
+
+            OutputStream out = socket.getOutputStream();
+            byte[] batch = "PING flood\r\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+            while (flooding) {
+                out.write(batch);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Socket connect(String nickname) throws IOException {
+        Socket socket = new Socket("127.0.0.1", 6667);
+        socket.setTcpNoDelay(true);
+        socket.getOutputStream().write(("NICK " + nickname + "\r\n").getBytes(StandardCharsets.UTF_8));
+        return socket;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ircproject.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.ircproject.bench
+ * fileName       : StartupBenchmark
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 프로세스 실행부터 첫 연결 수락(환영 메시지 첫 바이트 수신)까지의 시간을 기동 모드별로 측정합니다.
+ *                  실행: ./gradlew benchmark -Pbench=StartupBenchmark
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public class StartupBenchmark {
+
+    private static final int PORT = 6667;
+    private static final long TIMEOUT_NANOS = 60_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("bench.runs", 5);
+        String springClasspath = System.getProperty("bench.springClasspath");
+        String leanClasspath = System.getProperty("bench.leanClasspath");
+        Path cdsArchive = Path.of(System.getProperty("bench.cdsArchive", "build/cds/irc-lean.jsa"));
+
+        measure("spring", springClasspath, List.of(), List.of(), runs);
+        measure("lean", leanClasspath, List.of(), List.of("--lean"), runs);
+        if (Files.isRegularFile(cdsArchive)) {
+            measure("lean+appcds", leanClasspath, List.of("-XX:SharedArchiveFile=" + cdsArchive), List.of("--lean"), runs);
+        } else {
+            System.out.println("lean+appcds: skipped (run ./gradlew leanCdsArchive first)");
+        }
+    }
+
+    private static void measure(String mode, String classpath, List<String> jvmArgs, List<String> appArgs, int runs)
+            throws Exception {
+        // 첫 실행은 OS 페이지 캐시 워밍업용으로 버림
+        timeToFirstAccept(classpath, jvmArgs, appArgs);
+
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            samples[i] = timeToFirstAccept(classpath, jvmArgs, appArgs);
+        }
+        Arrays.sort(samples);
+        System.out.printf("%-12s time-to-first-accept  min %6.1f ms  median %6.1f ms  max %6.1f ms  (n=%d)%n",
+                mode, samples[0] / 1e6, samples[runs / 2] / 1e6, samples[runs - 1] / 1e6, runs);
+    }
+
+    private static long timeToFirstAccept(String classpath, List<String> jvmArgs, List<String> appArgs)
+            throws Exception {
+        awaitPortFree();
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-Dirc.snapshot.enabled=false");
+        command.add("-cp");
+        command.add(classpath);
+        command.add("com.ircproject.IrcProjectApplication");
+        command.addAll(appArgs);
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - startedAt < TIMEOUT_NANOS) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server exited with code " + process.exitValue());
+                }
+                try (Socket socket = new Socket()) {
+                    socket.connect(new InetSocketAddress("127.0.0.1", PORT), 100);
+                    InputStream in = socket.getInputStream();
+                    if (in.read() != -1) {
+                        return System.nanoTime() - startedAt;
+                    }
+                } catch (IOException notYetListening) {
+                    Thread.sleep(1);
+                }
+            }
+            throw new IllegalStateException("Server did not accept within timeout");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void awaitPortFree() throws InterruptedException {
+        while (true) {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("127.0.0.1", PORT), 100);
+            } catch (IOException free) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ircproject.capture;
+
+import com.ircproject.config.LeanBootstrap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.capture
+ * fileName       : TrafficCaptureTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class TrafficCaptureTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("1. [Format] 기록한 연결/데이터/종료 레코드를 순서와 내용 그대로 읽는다")
+    void readsBackRecords() throws Exception {
+        Path path = dir.resolve("roundtrip.cap");
+        TrafficRecorder recorder = new TrafficRecorder(path.toString(), Long.MAX_VALUE);
+        ByteBuffer data = bytes("NICK alice\r\n");
+
+        recorder.recordConnect(3, "10.0.0.1");
+        recorder.recordData(3, data);
+        recorder.recordDisconnect(3);
+        recorder.close();
+
+        assertThat(data.position()).isZero(); // 서버 수신 버퍼는 건드리지 않음
+
+        List<CaptureReader.Record> records = new ArrayList<>();
+        try (CaptureReader reader = new CaptureReader(path)) {
+            assertThat(reader.getStartEpochMillis()).isPositive();
+            CaptureReader.Record record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+
+        assertThat(records).extracting(CaptureReader.Record::type)
+                .containsExactly(CaptureReader.CONNECT, CaptureReader.DATA, CaptureReader.DISCONNECT);
+        assertThat(records).extracting(CaptureReader.Record::connectionId).containsOnly(3);
+        assertThat(records.get(0).host()).isEqualTo("10.0.0.1");
+        assertThat(new String(records.get(1).payload(), StandardCharsets.UTF_8)).isEqualTo("NICK alice\r\n");
+        assertThat(records).extracting(CaptureReader.Record::timeNanos).isSorted();
+    }
+
+    @Test
+    @DisplayName("2. [Replay] 라인이 여러 레코드에 걸쳐 있어도 서버와 같은 경로로 처리하고 팬아웃을 센다")
+    void replaysThroughDispatcher() throws Exception {
+        Path path = dir.resolve("session.cap");
+        TrafficRecorder recorder = new TrafficRecorder(path.toString(), Long.MAX_VALUE);
+        recorder.recordConnect(0, "10.0.0.1");
+        recorder.recordConnect(1, "10.0.0.2");
+        recorder.recordData(0, bytes("NICK alice\r\nJOIN #chat\r\n"));
+        recorder.recordData(1, bytes("NICK bob\r\nJO"));
+        recorder.recordData(1, bytes("IN #chat\r\n"));
+        recorder.recordData(0, bytes("PRIVMSG #chat :hello bob\r\n"));
+        recorder.recordDisconnect(0);
+        recorder.recordDisconnect(1);
+        recorder.close();
+
+        TrafficReplay.Result result;
+        try (CaptureReader reader = new CaptureReader(path)) {
+            result = new TrafficReplay(new LeanBootstrap()).replay(reader, 0);
+        }
+
+        assertThat(result.records()).isEqualTo(8);
+        assertThat(result.connections()).isEqualTo(2);
+        assertThat(result.lines()).isEqualTo(5);
+        assertThat(result.parseErrors()).isZero();
+        assertThat(result.lostRecords()).isZero();
+        assertThat(result.messagesOut()).isPositive();
+        assertThat(result.bytesOut()).isPositive();
+    }
+
+    @Test
+    @DisplayName("3. [Replay] 잘린 파일은 온전한 레코드까지만 읽는다")
+    void stopsAtTruncatedTail() throws Exception {
+        Path path = dir.resolve("truncated.cap");
+        TrafficRecorder recorder = new TrafficRecorder(path.toString(), Long.MAX_VALUE);
+        recorder.recordConnect(0, "10.0.0.1");
+        recorder.recordData(0, bytes("NICK alice\r\n"));
+        recorder.close();
+
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 3));
+
+        try (CaptureReader reader = new CaptureReader(path)) {
+            assertThat(reader.next().type()).isEqualTo(CaptureReader.CONNECT);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
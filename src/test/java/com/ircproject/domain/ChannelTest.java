@@ -0,0 +1,160 @@
+package com.ircproject.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : ChannelTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ChannelTest {
+
+    @Test
+    @DisplayName("1. [NAMES] 큰 채널의 멤버 목록은 512 바이트 이하의 353 라인들로 나뉜다")
+    void namesRepliesAreChunked() {
+        // Given
+        Channel channel = new Channel("#big");
+        for (int i = 0; i < 300; i++) {
+            channel.join(member("member" + i));
+        }
+        RecordingUser requester = new RecordingUser("requester_with_a_thirty_chars_");
+
+        // When
+        channel.sendNames(requester);
+
+        // Then
+        List<String> lines = requester.lines();
+        List<String> names = new ArrayList<>();
+        for (String line : lines.subList(0, lines.size() - 1)) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(512);
+            assertThat(line).startsWith(":server 353 requester_with_a_thirty_chars_ = #big :");
+            names.addAll(Arrays.asList(line.substring(line.lastIndexOf(':') + 1).trim().split(" ")));
+        }
+        assertThat(names).hasSize(300).doesNotHaveDuplicates();
+        assertThat(lines.get(lines.size() - 1)).startsWith(":server 366 ");
+    }
+
+    @Test
+    @DisplayName("2. [NAMES] 퇴장과 닉네임 변경이 캐시에 반영된다")
+    void namesReflectLeaveAndRename() {
+        // Given
+        Channel channel = new Channel("#lobby");
+        User alice = member("alice");
+        User bob = member("bob");
+        channel.join(alice);
+        channel.join(bob);
+        RecordingUser requester = new RecordingUser("carol");
+        channel.sendNames(requester); // 캐시 생성
+
+        // When
+        channel.leave(alice);
+        bob.setNickname("robert");
+        channel.refreshMember(bob);
+        requester.received.setLength(0);
+        channel.sendNames(requester);
+
+        // Then
+        assertThat(requester.lines().get(0)).isEqualTo(":server 353 carol = #lobby :robert\r\n");
+    }
+
+    @Test
+    @DisplayName("3. [NAMES] 입장/퇴장/닉네임 변경이 반복돼도 353 라인 수는 꽉 채운 경우와 같다")
+    void namesStayPackedUnderChurn() {
+        // Given - 닉네임 길이를 같게 맞춰서 최적 라인 수가 ceil(멤버 수 / 라인당 인원)이 되도록
+        Channel channel = new Channel("#churn");
+        List<User> all = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            all.add(member(String.format("m%03d", i)));
+        }
+        for (User user : all.subList(0, 400)) {
+            channel.join(user);
+        }
+        channel.leave(all.get(0)); // 처음 들어온 운영자(@)가 나가서 모든 표시 길이가 같아짐
+
+        // When
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            User user = all.get(1 + random.nextInt(all.size() - 1));
+            int action = random.nextInt(10);
+            if (action < 4) {
+                channel.leave(user);
+            } else if (action < 8) {
+                channel.join(user);
+            } else if (channel.getUsers().contains(user)) {
+                user.setNickname(String.format("r%03d", i % 1000));
+                channel.refreshMember(user);
+            }
+        }
+        RecordingUser requester = new RecordingUser("requester_with_a_thirty_chars_");
+        channel.sendNames(requester);
+
+        // Then
+        List<String> lines = requester.lines().subList(0, requester.lines().size() - 1);
+        int perLine = lines.get(0).substring(lines.get(0).lastIndexOf(':') + 1).trim().split(" ").length;
+        int members = channel.getUsers().size();
+        assertThat(lines).hasSize((members + perLine - 1) / perLine);
+    }
+
+    @Test
+    @DisplayName("4. [Mask] 목록 변경은 모아 두었다가 compileMasks() 한 번으로 매처에 반영된다")
+    void maskChangesApplyOnCompile() {
+        // Given
+        Channel channel = new Channel("#ops");
+        User bob = member("bob");
+        bob.setHost("example.org");
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            channel.addMask(ChannelListMode.BAN, "spam" + i + "!*@*", "alice", 0);
+        }
+        channel.addMask(ChannelListMode.BAN, "*!*@example.org", "alice", 0);
+
+        // Then
+        assertThat(channel.getMaskCount(ChannelListMode.BAN)).isEqualTo(101); // 한도 검사는 컴파일 전에도 정확
+        assertThat(channel.isBanned(bob)).isFalse();
+        channel.compileMasks();
+        assertThat(channel.isBanned(bob)).isTrue();
+
+        channel.removeMask(ChannelListMode.BAN, "*!*@EXAMPLE.ORG");
+        channel.compileMasks();
+        assertThat(channel.isBanned(bob)).isFalse();
+    }
+
+    private User member(String nickname) {
+        return new RecordingUser(nickname);
+    }
+
+    // 소켓 대신 전송된 바이트를 모아두는 테스트용 사용자
+    private static class RecordingUser extends User {
+        private final StringBuilder received = new StringBuilder();
+
+        RecordingUser(String nickname) {
+            super(null);
+            setNickname(nickname);
+        }
+
+        @Override
+        public void sendMessage(byte[] message) {
+            received.append(new String(message, StandardCharsets.UTF_8));
+        }
+
+        List<String> lines() {
+            return Arrays.asList(received.toString().split("(?<=\r\n)"));
+        }
+    }
+}
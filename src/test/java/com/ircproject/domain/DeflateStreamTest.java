@@ -0,0 +1,118 @@
+package com.ircproject.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : DeflateStreamTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class DeflateStreamTest {
+
+    private final User user = new User(null);
+
+    @AfterEach
+    void release() {
+        user.releaseCompression();
+    }
+
+    @Test
+    @DisplayName("1. [SyncFlush] 송신 묶음은 다음 데이터 없이 상대가 바로 전부 풀 수 있다")
+    void syncFlushedBatchIsComplete() throws Exception {
+        DeflateStream stream = new DeflateStream(6);
+        Inflater client = new Inflater(true);
+        try {
+            for (int batch = 0; batch < 3; batch++) {
+                String lines = ":alice PRIVMSG #dev :batch " + batch + "\r\n:bob PRIVMSG #dev :안녕하세요\r\n";
+                stream.write(ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8)));
+                stream.syncFlush();
+
+                ByteBuffer output = stream.pendingOutput();
+                byte[] compressed = Arrays.copyOfRange(output.array(), output.position(), output.limit());
+                stream.consume(compressed.length);
+
+                client.setInput(compressed);
+                byte[] inflated = new byte[1024];
+                int length = client.inflate(inflated);
+                assertThat(new String(inflated, 0, length, StandardCharsets.UTF_8)).isEqualTo(lines);
+            }
+        } finally {
+            stream.end();
+            client.end();
+        }
+    }
+
+    @Test
+    @DisplayName("2. [Inbound] 협상 명령 뒤에 붙어 온 데이터부터 압축으로 풀고, 조각난 블록도 라인으로 이어 붙인다")
+    void inflatesFragmentedInput() throws IOException {
+        byte[] compressed = compress("PRIVMSG #dev :hello\r\nJOIN #ops\r\n");
+        byte[] first = ("COMPRESS DEFLATE\r\n").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer head = ByteBuffer.allocate(first.length + 3).put(first).put(compressed, 0, 3).flip();
+
+        assertThat(user.appendData(head)).isTrue();
+        assertThat(user.nextLine()).isEqualTo("COMPRESS DEFLATE");
+        user.enableCompression(6);
+
+        assertThat(user.nextLine()).isNull();
+        for (int i = 3; i < compressed.length; i++) {
+            assertThat(user.appendData(ByteBuffer.wrap(compressed, i, 1))).isTrue();
+        }
+        assertThat(user.nextLine()).isEqualTo("PRIVMSG #dev :hello");
+        assertThat(user.nextLine()).isEqualTo("JOIN #ops");
+        assertThat(user.nextLine()).isNull();
+        assertThat(user.hasBufferedInput()).isFalse();
+    }
+
+    @Test
+    @DisplayName("3. [Bomb] 크게 부풀어도 수신 버퍼 상한까지만 풀고, 개행이 없으면 거부한다")
+    void boundsInflatedInput() throws IOException {
+        user.enableCompression(6);
+        byte[] bomb = compress("a".repeat(1_000_000));
+        assertThat(bomb.length).isLessThan(User.MAX_INBOUND_BYTES);
+
+        assertThat(user.appendData(ByteBuffer.wrap(bomb))).isFalse();
+    }
+
+    @Test
+    @DisplayName("4. [Bomb] 라인이 많으면 소비하는 만큼만 이어서 풀어 모두 꺼낼 수 있다")
+    void inflatesLazilyAsLinesAreConsumed() throws IOException {
+        user.enableCompression(6);
+        int count = 20_000;
+        byte[] compressed = compress("PING :x\r\n".repeat(count));
+        assertThat(user.appendData(ByteBuffer.wrap(compressed))).isTrue();
+
+        int lines = 0;
+        while (user.nextLine() != null) {
+            lines++;
+        }
+        assertThat(lines).isEqualTo(count);
+        assertThat(user.hasBufferedInput()).isFalse();
+    }
+
+    // 클라이언트 쪽 압축 (raw deflate + SYNC_FLUSH)
+    private static byte[] compress(String text) {
+        Deflater deflater = new Deflater(6, true);
+        deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[64 * 1024];
+        int length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ircproject.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : MaskMatcherTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class MaskMatcherTest {
+
+    @Test
+    @DisplayName("1. [Glob] *, ? 와 rfc1459 대소문자 규칙으로 매칭된다")
+    void matchesGlobMasks() {
+        MaskMatcher matcher = MaskMatcher.compile(List.of(
+                "*!*@10.0.0.?", "Troll*!*@*", "*!*@*.EVIL.example", "exact!exact@host"));
+
+        assertThat(matcher.matches("alice!alice@10.0.0.7")).isTrue();
+        assertThat(matcher.matches("alice!alice@10.0.0.77")).isFalse();
+        assertThat(matcher.matches("trolly!x@anywhere")).isTrue();
+        assertThat(matcher.matches("bob!bob@gw.evil.EXAMPLE")).isTrue();
+        assertThat(matcher.matches("bob!bob@evil.example")).isFalse();
+        assertThat(matcher.matches("EXACT!exact@host")).isTrue();
+        assertThat(matcher.matches("nick[a]!n@host")).isFalse();
+        assertThat(MaskMatcher.compile(List.of("nick{a}!*@*")).matches("NICK[A]!n@host")).isTrue();
+        assertThat(MaskMatcher.EMPTY.matches("anyone!a@b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("2. [Compiled] 컴파일된 매처는 마스크를 하나씩 비교한 결과와 같다")
+    void compiledMatchesNaive() {
+        Random random = new Random(42);
+        String alphabet = "ab.!@*?";
+        List<String> masks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            masks.add(randomString(random, alphabet, 1 + random.nextInt(8)));
+        }
+        MaskMatcher matcher = MaskMatcher.compile(masks);
+
+        for (int i = 0; i < 2000; i++) {
+            String hostmask = randomString(random, "ab.!@", random.nextInt(10));
+            boolean expected = masks.stream().anyMatch(mask -> MaskMatcher.matchesOne(mask, hostmask));
+            assertThat(matcher.matches(hostmask)).as(hostmask).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("3. [Scratch] 크기가 다른 매처를 한 스레드에서 번갈아 써도 공유 작업 공간 때문에 결과가 섞이지 않는다")
+    void matchersShareScratchSafely() {
+        MaskMatcher small = MaskMatcher.compile(List.of("*!*@a.example"));
+        List<String> masks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            masks.add("nick" + i + "!*@*.host" + i);
+        }
+        MaskMatcher large = MaskMatcher.compile(masks);
+
+        for (int round = 0; round < 3; round++) {
+            assertThat(small.matches("eve!u@a.example")).isTrue();
+            assertThat(large.matches("nick42!u@x.host42")).isTrue();
+            assertThat(small.matches("nick42!u@x.host42")).isFalse();
+            assertThat(large.matches("eve!u@a.example")).isFalse();
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
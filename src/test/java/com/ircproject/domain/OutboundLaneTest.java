@@ -0,0 +1,173 @@
+package com.ircproject.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.domain
+ * fileName       : OutboundLaneTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class OutboundLaneTest {
+
+    private ServerSocketChannel listener;
+    private SocketChannel client;
+    private SocketChannel serverSide;
+    private User user;
+
+    @BeforeEach
+    void connect() throws IOException {
+        listener = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open();
+        client.setOption(StandardSocketOptions.SO_RCVBUF, 4096); // 서버 쪽 송신이 빨리 막히도록
+        client.connect(listener.getLocalAddress());
+        serverSide = listener.accept();
+        serverSide.setOption(StandardSocketOptions.SO_SNDBUF, 4096);
+        serverSide.configureBlocking(false);
+
+        user = new User(serverSide);
+        user.setWriteListener(ignored -> {
+        });
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        client.close();
+        serverSide.close();
+        listener.close();
+    }
+
+    @Test
+    @DisplayName("1. [Priority] 같은 flush 안에서는 나중에 쌓인 제어 메시지가 먼저 쌓인 채널 대화보다 먼저 나간다")
+    void controlJumpsAheadOfBulk() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            user.sendBulk(line(":alice PRIVMSG #busy :chatter " + i));
+        }
+        user.sendMessage(":server PONG server :token\r\n");
+
+        assertThat(user.flush()).isTrue();
+        List<String> lines = readLines(11);
+        assertThat(lines.get(0)).isEqualTo(":server PONG server :token");
+        assertThat(lines.subList(1, 11)).allMatch(text -> text.startsWith(":alice PRIVMSG #busy :chatter "));
+    }
+
+    @Test
+    @DisplayName("2. [Partial] 소켓이 막혀 일부만 쓴 라인을 끝까지 보낸 뒤에 제어 메시지가 끼어든다")
+    void partiallyWrittenLineIsNeverSplit() throws IOException {
+        int bulkLines = 1500; // 약 150 KiB - 상한보다 작아서 버리지 않음
+        for (int i = 0; i < bulkLines; i++) {
+            user.sendBulk(line(String.format(":alice PRIVMSG #busy :chatter %05d %s", i, "x".repeat(60))));
+        }
+        assertThat(user.flush()).isFalse(); // 상대가 읽지 않아서 다 못 보냄
+
+        user.sendMessage(":server PONG server :token\r\n");
+        List<String> lines = drain(bulkLines + 1);
+
+        assertThat(lines).hasSize(bulkLines + 1);
+        int pong = lines.indexOf(":server PONG server :token");
+        assertThat(pong).isBetween(1, bulkLines - 1);
+        List<String> bulk = lines.stream().filter(text -> !text.contains("PONG")).toList();
+        for (int i = 0; i < bulkLines; i++) {
+            assertThat(bulk.get(i)).startsWith(String.format(":alice PRIVMSG #busy :chatter %05d ", i)).hasSize(96);
+        }
+    }
+
+    @Test
+    @DisplayName("3. [Shed] 대화 레인이 상한을 넘으면 가장 오래된 대화부터 버리고, 제어 레인은 버리지 않는다")
+    void shedsOldestBulkFirst() throws IOException {
+        long shedBefore = User.getShedMessageCount();
+        byte[] chatter = line(":alice PRIVMSG #busy :" + "y".repeat(990)); // 1 KiB
+        int sent = User.MAX_BULK_BYTES / chatter.length * 2;
+        for (int i = 0; i < sent; i++) {
+            user.sendBulk(chatter);
+        }
+        for (int i = 0; i < 400; i++) {
+            user.sendMessage(chatter);
+        }
+
+        assertThat(User.getShedMessageCount() - shedBefore).isEqualTo(sent - User.MAX_BULK_BYTES / chatter.length);
+        assertThat(user.getPendingWriteBytes()).isEqualTo((long) chatter.length * (400 + User.MAX_BULK_BYTES / chatter.length));
+    }
+
+    @Test
+    @DisplayName("4. [Order] 닉 변경 같은 채널 상태 알림은 먼저 쌓인 대화를 앞지르지 않고, 그 뒤의 대화보다는 먼저 나간다")
+    void stateChangesKeepChannelOrder() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            user.sendBulk(line(":old PRIVMSG #busy :before " + i));
+        }
+        user.sendOrdered(line(":old NICK new"));
+        user.sendBulk(line(":new PRIVMSG #busy :after"));
+        user.sendMessage(":server PONG server :token\r\n");
+
+        assertThat(user.flush()).isTrue();
+        List<String> lines = readLines(13);
+        for (int i = 0; i < 10; i++) {
+            assertThat(lines.get(i)).isEqualTo(":old PRIVMSG #busy :before " + i);
+        }
+        assertThat(lines.subList(10, 13))
+                .containsExactly(":old NICK new", ":server PONG server :token", ":new PRIVMSG #busy :after");
+    }
+
+    private static byte[] line(String text) {
+        return (text + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> readLines(int count) throws IOException {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        while (countLines(received) < count) {
+            buffer.clear();
+            int read = client.read(buffer);
+            received.write(buffer.array(), 0, read);
+        }
+        return received.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    // 읽기와 flush 를 번갈아 하며 모두 받음 (이벤트 루프의 OP_WRITE 대신)
+    private List<String> drain(int count) throws IOException {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        client.configureBlocking(false);
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (countLines(received) < count && System.nanoTime() < deadline) {
+            user.flush();
+            buffer.clear();
+            int read = client.read(buffer);
+            if (read > 0) {
+                received.write(buffer.array(), 0, read);
+            }
+        }
+        return received.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static int countLines(ByteArrayOutputStream received) {
+        int lines = 0;
+        for (byte b : received.toByteArray()) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
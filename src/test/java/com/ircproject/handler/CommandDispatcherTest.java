@@ -0,0 +1,83 @@
+package com.ircproject.handler;
+
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.monitor.TopTalkers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.handler
+ * fileName       : CommandDispatcherTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class CommandDispatcherTest {
+
+    private final List<String> handled = new ArrayList<>();
+
+    private final CommandDispatcher dispatcher = new CommandDispatcher(List.of(
+            handler("NICK"), handler("JOIN"), handler("PRIVMSG"), handler("PART"),
+            handler("PING"), handler("PONG"), handler("QUIT"), handler("LIST"), handler("HELP")
+    ), new TopTalkers(0, 60));
+
+    @Test
+    @DisplayName("1. [Case] 대소문자와 관계없이 같은 핸들러로 전달된다")
+    void dispatchIgnoresCase() {
+        User user = new User(null);
+
+        dispatcher.dispatch(user, new IrcMessage(null, "privmsg", List.of()));
+        dispatcher.dispatch(user, new IrcMessage(null, "PrivMsg", List.of()));
+        dispatcher.dispatch(user, new IrcMessage(null, "PRIVMSG", List.of()));
+
+        assertThat(handled).containsExactly("PRIVMSG", "PRIVMSG", "PRIVMSG");
+        assertThat(dispatcher.getUnknownCommandCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("2. [Unknown] 등록되지 않은 명령어는 핸들러 없이 카운트만 증가한다")
+    void unknownCommandIsCounted() {
+        User user = new User(null);
+
+        dispatcher.dispatch(user, new IrcMessage(null, "FOO", List.of()));
+        dispatcher.dispatch(user, new IrcMessage(null, "PRIVMS", List.of()));
+        dispatcher.dispatch(user, new IrcMessage(null, "001", List.of()));
+
+        assertThat(handled).isEmpty();
+        assertThat(dispatcher.getUnknownCommandCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("3. [Resolve] 집계 키는 클라이언트가 보낸 표기와 상관없이 핸들러의 명령어 상수이고, 모르는 명령어는 null 이다")
+    void resolvesToHandlerConstant() {
+        String resolved = dispatcher.resolveCommand("PrivMsg");
+
+        assertThat(resolved).isEqualTo("PRIVMSG");
+        assertThat(resolved).isSameAs(dispatcher.resolveCommand("privmsg"));
+        assertThat(dispatcher.resolveCommand("XYZZY")).isNull();
+    }
+
+    private CommandHandler handler(String command) {
+        return new CommandHandler() {
+            @Override
+            public String getCommand() {
+                return command;
+            }
+
+            @Override
+            public void handle(User user, IrcMessage message) {
+                handled.add(command);
+            }
+        };
+    }
+}
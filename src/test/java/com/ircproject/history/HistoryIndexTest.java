@@ -0,0 +1,91 @@
+package com.ircproject.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.history
+ * fileName       : HistoryIndexTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class HistoryIndexTest {
+
+    private static final long NO_DEADLINE = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("1. [Search] 봉인된 조각과 꼬리 모두에서 모든 검색어를 포함한 메시지를 최신순으로 찾는다")
+    void findsAcrossSegmentsAndTail() {
+        HistoryIndex index = new HistoryIndex(100_000);
+        int total = HistoryIndex.SEGMENT_SIZE * 3 + 10;
+        for (int i = 0; i < total; i++) {
+            index.append("alice", i % 100 == 0 ? "Deploy finished build " + i : "chatter " + i, i);
+        }
+
+        SearchResult result = index.search(Tokenizer.terms("deploy BUILD"), 100, deadline());
+        List<Long> ids = result.hits().stream().map(HistoryEntry::id).toList();
+        assertThat(ids).containsExactly(700L, 600L, 500L, 400L, 300L, 200L, 100L, 0L);
+        assertThat(result.truncated()).isFalse();
+        assertThat(result.searched()).isEqualTo(total);
+
+        assertThat(index.search(Tokenizer.terms("deploy"), 3, deadline()).hits()).hasSize(3);
+        assertThat(index.search(Tokenizer.terms("deploy missing"), 10, deadline()).hits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. [Merge] 병합 후에도 결과가 같고 조각 수가 줄어든다")
+    void mergeKeepsResults() {
+        HistoryIndex index = new HistoryIndex(100_000);
+        for (int i = 0; i < HistoryIndex.SEGMENT_SIZE * 8; i++) {
+            index.append(i % 2 == 0 ? "alice" : "bob", "message number " + i + (i % 7 == 0 ? " 릴리즈" : ""), i);
+        }
+        List<HistoryEntry> before = index.search(Tokenizer.terms("릴리즈 message"), 1_000, deadline()).hits();
+        assertThat(index.segmentCount()).isEqualTo(8);
+
+        assertThat(index.requestMerge()).isTrue();
+        index.runMerges();
+
+        assertThat(index.segmentCount()).isEqualTo(1);
+        assertThat(index.search(Tokenizer.terms("릴리즈 message"), 1_000, deadline()).hits()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("3. [Retention] 보관 한도를 넘으면 가장 오래된 조각부터 버린다")
+    void dropsOldestSegments() {
+        HistoryIndex index = new HistoryIndex(HistoryIndex.SEGMENT_SIZE * 2);
+        for (int i = 0; i < HistoryIndex.SEGMENT_SIZE * 5; i++) {
+            index.append("alice", "needle " + i, i);
+        }
+
+        assertThat(index.size()).isEqualTo(HistoryIndex.SEGMENT_SIZE * 2);
+        List<HistoryEntry> hits = index.search(Tokenizer.terms("needle"), Integer.MAX_VALUE, deadline()).hits();
+        assertThat(hits.get(hits.size() - 1).id()).isEqualTo(HistoryIndex.SEGMENT_SIZE * 3);
+    }
+
+    @Test
+    @DisplayName("4. [Deadline] 제한 시간이 지나면 꼬리만 보고 잘린 결과를 돌려준다")
+    void stopsAtDeadline() {
+        HistoryIndex index = new HistoryIndex(100_000);
+        for (int i = 0; i < HistoryIndex.SEGMENT_SIZE * 2 + 1; i++) {
+            index.append("alice", "needle", i);
+        }
+
+        SearchResult result = index.search(Tokenizer.terms("needle"), 1_000, System.nanoTime() - 1);
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.hits()).hasSize(1);
+    }
+
+    private static long deadline() {
+        return System.nanoTime() + NO_DEADLINE;
+    }
+}
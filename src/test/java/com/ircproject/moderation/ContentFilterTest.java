@@ -0,0 +1,51 @@
+package com.ircproject.moderation;
+
+import com.ircproject.domain.FilterAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.moderation
+ * fileName       : ContentFilterTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ContentFilterTest {
+
+    @Test
+    @DisplayName("1. [Action] BLOCK 은 막고, CENSOR 는 겹치는 패턴까지 가리고, 걸리지 않은 본문은 그대로 둔다")
+    void appliesActions() {
+        ContentFilter filter = new ContentFilter("spam.example, 바보, he, hers", "block");
+
+        assertThat(filter.apply("visit SPAM.example/now", null)).isNull();
+        assertThat(filter.apply("visit SPAM.example/now", FilterAction.OFF)).isEqualTo("visit SPAM.example/now");
+        assertThat(filter.apply("이 바보야 ushers", FilterAction.CENSOR)).isEqualTo("이 **야 us****");
+
+        String clean = "평범한 대화";
+        assertThat(filter.apply(clean, FilterAction.CENSOR)).isSameAs(clean);
+        assertThat(filter.getBlockedCount()).isEqualTo(1);
+        assertThat(filter.getCensoredCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. [Swap] 패턴을 추가/삭제하면 새 오토마톤으로 바로 교체된다")
+    void swapsAutomatonOnChange() {
+        ContentFilter filter = new ContentFilter("", "block");
+        assertThat(filter.apply("free coins here", null)).isNotNull();
+
+        assertThat(filter.addPattern("free coins")).isTrue();
+        assertThat(filter.addPattern("FREE COINS")).isFalse();
+        assertThat(filter.apply("free coins here", null)).isNull();
+
+        assertThat(filter.removePattern("Free Coins")).isTrue();
+        assertThat(filter.apply("free coins here", null)).isNotNull();
+        assertThat(filter.getPatterns()).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ircproject.moderation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.moderation
+ * fileName       : DuplicateSpamDetectorTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class DuplicateSpamDetectorTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final DuplicateSpamDetector detector =
+            new DuplicateSpamDetector(3, 60, DuplicateSpamDetector.Action.DROP, now::get);
+
+    @Test
+    @DisplayName("1. [Threshold] 임계값을 넘은 반복 본문만 차단되고, 대소문자/공백 변형도 같은 본문으로 본다")
+    void dropsRepeatsOverThreshold() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(detector.admit("JOIN #free-coins NOW http://spam.example")).isTrue();
+        }
+
+        assertThat(detector.admit("join #free-coins  now http://SPAM.example")).isFalse();
+        assertThat(detector.admit("완전히 다른 평범한 대화 메시지입니다")).isTrue();
+        assertThat(detector.admit("hi")).isTrue();
+        assertThat(detector.getFlaggedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. [Window] 윈도우가 지나면 오래된 카운트가 사라진다")
+    void countsExpireAfterWindow() {
+        for (int i = 0; i < 4; i++) {
+            detector.admit("buy cheap followers at spam.example");
+        }
+        assertThat(detector.admit("buy cheap followers at spam.example")).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        assertThat(detector.admit("buy cheap followers at spam.example")).isTrue();
+    }
+}
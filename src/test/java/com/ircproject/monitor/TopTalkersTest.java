@@ -0,0 +1,83 @@
+package com.ircproject.monitor;
+
+import com.ircproject.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.monitor
+ * fileName       : TopTalkersTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class TopTalkersTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("1. [Exact] 추적 용량 안에서는 정확한 값이 순서대로 조회된다")
+    void exactUnderCapacity() {
+        TopTalkers topTalkers = new TopTalkers(16, 60, now::get);
+        for (int i = 0; i < 5; i++) {
+            topTalkers.recordCommand(user("alice"), 100);
+        }
+        topTalkers.recordCommand(user("bob"), 1_000);
+
+        List<TopTalkers.Entry> byMessages = topTalkers.top(TopTalkers.Dimension.USER, TopTalkers.Metric.MESSAGES, 10);
+        assertThat(byMessages).containsExactly(new TopTalkers.Entry("alice", 5, 0), new TopTalkers.Entry("bob", 1, 0));
+
+        List<TopTalkers.Entry> byBytes = topTalkers.top(TopTalkers.Dimension.USER, TopTalkers.Metric.BYTES, 1);
+        assertThat(byBytes).containsExactly(new TopTalkers.Entry("bob", 1_000, 0));
+    }
+
+    @Test
+    @DisplayName("2. [HeavyHitter] 일회성 항목이 용량을 훨씬 넘어도 반복 송신자는 상위에 남는다")
+    void heavyHitterSurvivesNoise() {
+        TopTalkers topTalkers = new TopTalkers(32, 60, now::get);
+        for (int i = 0; i < 10_000; i++) {
+            topTalkers.recordCommand(user("noise" + i), 50);
+            if (i % 10 == 0) {
+                topTalkers.recordCommand(user("flooder"), 50);
+            }
+        }
+
+        TopTalkers.Entry top = topTalkers.top(TopTalkers.Dimension.USER, TopTalkers.Metric.MESSAGES, 1).get(0);
+        assertThat(top.key()).isEqualTo("flooder");
+        // 추정치는 실제 값(1000) 이상이고, 오차를 빼면 실제 값 이하
+        assertThat(top.count()).isGreaterThanOrEqualTo(1_000);
+        assertThat(top.count() - top.error()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("3. [Window] 윈도우가 지나면 오래된 기록은 빠진다")
+    void oldSlicesExpire() {
+        TopTalkers topTalkers = new TopTalkers(16, 60, now::get);
+        topTalkers.recordBroadcast("#old", 100, 10);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        topTalkers.recordBroadcast("#new", 100, 2);
+        assertThat(topTalkers.top(TopTalkers.Dimension.CHANNEL, TopTalkers.Metric.BYTES, 10))
+                .containsExactly(new TopTalkers.Entry("#old", 1_000, 0), new TopTalkers.Entry("#new", 200, 0));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(40));
+        assertThat(topTalkers.top(TopTalkers.Dimension.CHANNEL, TopTalkers.Metric.BYTES, 10))
+                .containsExactly(new TopTalkers.Entry("#new", 200, 0));
+    }
+
+    private static User user(String nickname) {
+        User user = new User(null);
+        user.setNickname(nickname);
+        return user;
+    }
+}
@@ -1,11 +1,14 @@
 package com.ircproject.parser;
 
 import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.MessageTags;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -119,4 +122,69 @@ class IrcParserTest {
                 .hasMessageContaining("cannot be empty");
     }
 
+    @Test
+    @DisplayName("8. [Tags] IRCv3 태그 섹션은 원본 그대로 보관되고, 요청 시 디코딩된다")
+    void parseMessageTags() {
+        // Given
+        String raw = "@time=2026-10-19T12:00:00.000Z;+draft/reply=abc;flag :dave!user@host PRIVMSG #channel :Hi";
+
+        // When
+        IrcMessage message = parser.parse(raw);
+
+        // Then
+        assertThat(message.tags().raw()).isEqualTo("time=2026-10-19T12:00:00.000Z;+draft/reply=abc;flag");
+        assertThat(message.tags().get("time")).isEqualTo("2026-10-19T12:00:00.000Z");
+        assertThat(message.tags().get("+draft/reply")).isEqualTo("abc");
+        assertThat(message.tags().get("flag")).isEmpty();
+        assertThat(message.prefix()).isEqualTo("dave!user@host");
+        assertThat(message.parameters()).containsExactly("#channel", "Hi");
+    }
+
+    @Test
+    @DisplayName("9. [Tags] 태그 값의 escape 문자열이 복원된다")
+    void parseEscapedTagValue() {
+        // When
+        IrcMessage message = parser.parse("@+note=a\\sb\\:c\\\\d PING token");
+
+        // Then
+        assertThat(message.tags().get("+note")).isEqualTo("a b;c\\d");
+        assertThat(message.command()).isEqualTo("PING");
+    }
+
+    @Test
+    @DisplayName("10. [Tags] 태그가 없으면 빈 태그 집합이어야 한다")
+    void parseWithoutTags() {
+        // When
+        IrcMessage message = parser.parse("PING token");
+
+        // Then
+        assertThat(message.tags().isEmpty()).isTrue();
+        assertThat(message.tags().asMap()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @DisplayName("11. [Tags] 태그 섹션 뒤에 명령어가 없으면 예외를 던져야 한다")
+    @ValueSource(strings = {"@", "@time=1", "@ PING", "@time=1 "})
+    void parseInvalidTags(String invalidInput) {
+        assertThatThrownBy(() -> parser.parse(invalidInput))
+                .isInstanceOf(IrcFormatException.class);
+    }
+
+    @Test
+    @DisplayName("12. [Outbound] 서버 태그는 한 번만 직렬화되어 라인 앞에 붙는다")
+    void serverTagsArePrependedOnce() {
+        // Given
+        MessageTags tags = MessageTags.builder()
+                .put("msgid", "m1")
+                .put("+note", "a b")
+                .build();
+
+        // When
+        byte[] tagged = tags.prependTo("PING x\r\n".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(new String(tagged, StandardCharsets.UTF_8)).isEqualTo("@msgid=m1;+note=a\\sb PING x\r\n");
+        assertThat(tags.wirePrefix()).isSameAs(tags.wirePrefix());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.ircproject.repository;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.repository
+ * fileName       : ChannelRepositoryTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ChannelRepositoryTest {
+
+    @Test
+    @DisplayName("1. [Reclaim] 마지막 멤버가 나가면 채널을 회수하고 리스너와 지표에 반영한다")
+    void reclaimsWhenLastMemberLeaves() {
+        // Given
+        ChannelRepository repository = new ChannelRepository();
+        List<String> reclaimed = new ArrayList<>();
+        repository.addReclaimListener(reclaimed::add);
+        User alice = user("alice");
+        User bob = user("bob");
+        repository.join("#junk", alice);
+        repository.join("#junk", bob);
+
+        // When
+        repository.leave("#junk", alice);
+
+        // Then
+        assertThat(repository.get("#junk")).isNotNull();
+        repository.leave("#junk", bob);
+        assertThat(repository.get("#junk")).isNull();
+        assertThat(reclaimed).containsExactly("#junk");
+        assertThat(repository.getLiveCount()).isZero();
+        assertThat(repository.getCreatedCount()).isEqualTo(1);
+        assertThat(repository.getReclaimedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. [Persistent] +P 채널은 비어도 남고, -P 후 회수할 수 있다")
+    void persistentChannelsAreExempt() {
+        // Given
+        ChannelRepository repository = new ChannelRepository();
+        User alice = user("alice");
+        Channel channel = repository.join("#home", alice);
+        alice.addChannel(channel.getName());
+        channel.setFlag(Channel.PERSISTENT_MODE, true);
+
+        // When
+        repository.leaveAll(alice);
+
+        // Then
+        assertThat(repository.get("#home")).isSameAs(channel);
+        assertThat(alice.getJoinedChannels()).isEmpty();
+        assertThat(repository.reclaimIfEmpty("#home")).isFalse();
+
+        channel.setFlag(Channel.PERSISTENT_MODE, false);
+        assertThat(repository.reclaimIfEmpty("#home")).isTrue();
+        assertThat(repository.get("#home")).isNull();
+    }
+
+    @Test
+    @DisplayName("3. [Race] 입장/퇴장이 동시에 몰려도 남아 있는 멤버는 항상 저장소의 채널에 있다")
+    void joinNeverLandsInReclaimedChannel() throws Exception {
+        ChannelRepository repository = new ChannelRepository();
+        int threads = 4;
+        int rounds = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        List<User> stayers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            User churner = user("churner" + t);
+            User stayer = user("stayer" + t);
+            stayers.add(stayer);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    repository.join("#hot", churner);
+                    repository.leave("#hot", churner);
+                }
+                // 마지막에 한 명씩 남김 - 다른 스레드의 회수에 휩쓸리면 안 됨
+                repository.join("#hot", stayer);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Channel channel = repository.get("#hot");
+        assertThat(channel).isNotNull();
+        assertThat(channel.getUsers()).containsExactlyInAnyOrderElementsOf(stayers);
+        assertThat(repository.getCreatedCount() - repository.getReclaimedCount()).isEqualTo(repository.getLiveCount());
+    }
+
+    private static User user(String nickname) {
+        User user = new User(null);
+        user.setNickname(nickname);
+        return user;
+    }
+}
@@ -0,0 +1,187 @@
+package com.ircproject.repository;
+
+import com.ircproject.domain.Channel;
+import com.ircproject.domain.ChannelListMode;
+import com.ircproject.domain.User;
+import com.ircproject.server.LoopExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName    : com.ircproject.repository
+ * fileName       : ServerSnapshotStoreTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ServerSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("1. [Format] 저장한 채널 모드와 마스크 목록을 그대로 복원한다")
+    void restoresSavedState() {
+        // Given
+        ChannelRepository saved = new ChannelRepository();
+        Channel channel = saved.getOrCreate("#ops");
+        channel.setFlag('m', true);
+        channel.setFlag(Channel.PERSISTENT_MODE, true);
+        channel.addMask(ChannelListMode.BAN, "*!*@spam.example", "alice", 1700000000L);
+        channel.addMask(ChannelListMode.QUIET, "noisy!*@*", "bob", 1700000001L);
+        channel.compileMasks();
+        String path = dir.resolve("state.snapshot").toString();
+        store(saved, path).save();
+
+        // When
+        ChannelRepository restored = new ChannelRepository();
+        int count = store(restored, path).restore();
+
+        // Then
+        assertThat(count).isEqualTo(1);
+        Channel copy = restored.get("#ops");
+        assertThat(copy.getFlags()).isEqualTo("mP");
+        assertThat(copy.getMasks(ChannelListMode.BAN))
+                .containsExactly(new Channel.MaskEntry("*!*@spam.example", "alice", 1700000000L));
+        assertThat(copy.getMasks(ChannelListMode.QUIET))
+                .containsExactly(new Channel.MaskEntry("noisy!*@*", "bob", 1700000001L));
+        assertThat(copy.getMasks(ChannelListMode.BAN_EXCEPTION)).isEmpty();
+
+        User spammer = new User(null);
+        spammer.setNickname("eve");
+        spammer.setHost("spam.example");
+        assertThat(copy.isBanned(spammer)).isTrue(); // 복원한 목록이 매처에도 반영됨
+    }
+
+    @Test
+    @DisplayName("2. [Compat] 이전 버전(v1: 이름만, v2: 모드 문자 없는 목록) 파일도 읽는다")
+    void decodesOlderVersions() throws IOException {
+        // Given
+        ByteArrayOutputStream v1 = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(v1)) {
+            out.writeInt(ServerSnapshotStore.MAGIC);
+            out.writeShort(1);
+            out.writeInt(1);
+            putString(out, "#legacy");
+        }
+        ByteArrayOutputStream v2 = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(v2)) {
+            out.writeInt(ServerSnapshotStore.MAGIC);
+            out.writeShort(2);
+            out.writeInt(1);
+            putString(out, "#old");
+            putString(out, "i");
+            for (String mask : new String[]{"ban!*@*", "except!*@*", "invite!*@*", "quiet!*@*"}) {
+                out.writeInt(1); // b, e, I, q 순서로 하나씩
+                putString(out, mask);
+                putString(out, "op");
+                out.writeLong(42L);
+            }
+        }
+
+        // When
+        List<ServerSnapshotStore.ChannelState> legacy = ServerSnapshotStore.decode(ByteBuffer.wrap(v1.toByteArray()));
+        List<ServerSnapshotStore.ChannelState> old = ServerSnapshotStore.decode(ByteBuffer.wrap(v2.toByteArray()));
+
+        // Then
+        assertThat(legacy).extracting(ServerSnapshotStore.ChannelState::name).containsExactly("#legacy");
+        assertThat(old.get(0).flags()).isEqualTo("i");
+        assertThat(old.get(0).masks().get(ChannelListMode.BAN)).extracting(Channel.MaskEntry::mask).containsExactly("ban!*@*");
+        assertThat(old.get(0).masks().get(ChannelListMode.BAN_EXCEPTION)).extracting(Channel.MaskEntry::mask).containsExactly("except!*@*");
+        assertThat(old.get(0).masks().get(ChannelListMode.INVITE_EXCEPTION)).extracting(Channel.MaskEntry::mask).containsExactly("invite!*@*");
+        assertThat(old.get(0).masks().get(ChannelListMode.QUIET)).extracting(Channel.MaskEntry::mask).containsExactly("quiet!*@*");
+    }
+
+    @Test
+    @DisplayName("3. [Corrupt] 남은 바이트보다 큰 개수나 잘린 파일은 메모리를 잡기 전에 거절하고 빈 상태로 시작한다")
+    void rejectsCorruptCounts() throws IOException {
+        // Given
+        ByteArrayOutputStream huge = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(huge)) {
+            out.writeInt(ServerSnapshotStore.MAGIC);
+            out.writeShort(ServerSnapshotStore.VERSION);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        ChannelRepository saved = new ChannelRepository();
+        saved.getOrCreate("#ops").setFlag(Channel.PERSISTENT_MODE, true);
+        byte[] valid = ServerSnapshotStore.encode(List.of(ServerSnapshotStore.ChannelState.of(saved.get("#ops")))).array();
+        Path truncated = dir.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(valid, valid.length - 3));
+
+        // When / Then
+        assertThatThrownBy(() -> ServerSnapshotStore.decode(ByteBuffer.wrap(huge.toByteArray())))
+                .isInstanceOf(IllegalStateException.class);
+        ChannelRepository restored = new ChannelRepository();
+        assertThat(store(restored, truncated.toString()).restore()).isZero();
+        assertThat(restored.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("4. [Reclaim] +P 가 아닌 채널도 목록째 복원하고, 유예 시간 동안 아무도 들어오지 않은 채널만 회수한다")
+    void restoresAllChannelsAndReclaimsUnjoined() throws InterruptedException {
+        // Given
+        ChannelRepository saved = new ChannelRepository();
+        saved.getOrCreate("#ops").setFlag(Channel.PERSISTENT_MODE, true);
+        saved.getOrCreate("#chat").addMask(ChannelListMode.BAN, "*!*@spam.example", "alice", 1700000000L);
+        saved.getOrCreate("#idle").setFlag('i', true);
+        String path = dir.resolve("state.snapshot").toString();
+        store(saved, path).save();
+
+        // When
+        ChannelRepository restored = new ChannelRepository();
+        BlockingQueue<Runnable> loopTasks = new LinkedBlockingQueue<>();
+        LoopExecutor loop = new LoopExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                loopTasks.add(task);
+            }
+        };
+        int count = new ServerSnapshotStore(restored, loop, path, true, 0).restore();
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        Channel chat = restored.get("#chat");
+        assertThat(chat.getMasks(ChannelListMode.BAN)).extracting(Channel.MaskEntry::mask).containsExactly("*!*@spam.example");
+        User member = new User(null);
+        member.setNickname("bob");
+        restored.join("#chat", member);
+
+        loopTasks.poll(5, TimeUnit.SECONDS).run(); // 유예 시간이 지난 뒤 루프에서 실행되는 회수
+        assertThat(restored.findAll()).extracting(Channel::getName).containsExactlyInAnyOrder("#ops", "#chat");
+        assertThat(restored.get("#chat").getMasks(ChannelListMode.BAN)).hasSize(1);
+
+        restored.leave("#chat", member); // 첫 멤버가 나가면 평소처럼 회수
+        assertThat(restored.findAll()).extracting(Channel::getName).containsExactly("#ops");
+    }
+
+    private static ServerSnapshotStore store(ChannelRepository repository, String path) {
+        return new ServerSnapshotStore(repository, new LoopExecutor(), path, true, 300);
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ircproject.repository;
+
+import com.ircproject.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.repository
+ * fileName       : WhowasRepositoryTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class WhowasRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("1. [Lookup] 대소문자를 접은 닉네임으로 최신순 기록을 찾고, 닉네임당 상한을 넘으면 오래된 것부터 버린다")
+    void findsNewestFirstWithPerNicknameCap() {
+        WhowasRepository repository = new WhowasRepository(100, 3, 0, now::get);
+        for (int i = 0; i < 5; i++) {
+            repository.record(user("Alice[1]", "10.0.0." + i));
+            now.addAndGet(1_000);
+        }
+
+        assertThat(repository.find("alice{1}", 0)).extracting(WhowasRepository.Entry::host)
+                .containsExactly("10.0.0.4", "10.0.0.3", "10.0.0.2");
+        assertThat(repository.find("ALICE[1]", 1)).extracting(WhowasRepository.Entry::nickname)
+                .containsExactly("Alice[1]");
+        assertThat(repository.size()).isEqualTo(3);
+        assertThat(repository.find("bob", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. [Evict] 전체 상한을 넘으면 가장 먼저 나간 기록부터 버리고 닉네임 색인에서도 지운다")
+    void evictsOldestAcrossNicknames() {
+        WhowasRepository repository = new WhowasRepository(3, 8, 0, now::get);
+        repository.record(user("alice", "a1"));
+        repository.record(user("bob", "b1"));
+        repository.record(user("alice", "a2"));
+        repository.record(user("carol", "c1"));
+        repository.record(user("dave", "d1"));
+
+        assertThat(repository.size()).isEqualTo(3);
+        assertThat(repository.find("bob", 0)).isEmpty();
+        assertThat(repository.find("alice", 0)).extracting(WhowasRepository.Entry::host).containsExactly("a2");
+        assertThat(repository.find("dave", 0)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("3. [Expire] 보관 기간이 지난 기록은 조회할 때 사라진다")
+    void expiresByAge() {
+        WhowasRepository repository = new WhowasRepository(100, 8, 60, now::get);
+        repository.record(user("alice", "old"));
+        now.addAndGet(30_000);
+        repository.record(user("alice", "new"));
+
+        now.addAndGet(45_000);
+        assertThat(repository.find("alice", 0)).extracting(WhowasRepository.Entry::host).containsExactly("new");
+
+        now.addAndGet(60_000);
+        assertThat(repository.find("alice", 0)).isEmpty();
+        assertThat(repository.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("4. [Record] 닉네임을 실제로 놓을 때만 한 번 기록하고, 닉네임이 없던 사용자는 기록하지 않는다")
+    void recordsOnlyWhenNicknameIsReleased() {
+        WhowasRepository whowas = new WhowasRepository(100, 8, 0, now::get);
+        UserRepository users = new UserRepository(whowas);
+        User alice = user("alice", "10.0.0.1");
+        users.save(alice);
+
+        users.remove("alice", alice);
+        users.remove("alice", alice); // QUIT 후 연결 종료
+        users.remove("*", user("*", "10.0.0.2"));
+
+        assertThat(whowas.find("alice", 0)).hasSize(1);
+        assertThat(whowas.size()).isEqualTo(1);
+    }
+
+    private static User user(String nickname, String host) {
+        User user = new User(null);
+        user.setNickname(nickname);
+        user.setHost(host);
+        return user;
+    }
+}
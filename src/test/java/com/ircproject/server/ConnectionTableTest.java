@@ -0,0 +1,56 @@
+package com.ircproject.server;
+
+import com.ircproject.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.server
+ * fileName       : ConnectionTableTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ConnectionTableTest {
+
+    @Test
+    @DisplayName("1. [Id] 해제된 id 는 다음 접속에 재사용되고, 두 번 해제해도 안전하다")
+    void releasedIdsAreReused() {
+        ConnectionTable table = new ConnectionTable();
+        User first = new User(null);
+        User second = new User(null);
+        User third = new User(null);
+
+        assertThat(table.register(first, null)).isZero();
+        assertThat(table.register(second, null)).isEqualTo(1);
+
+        assertThat(table.release(first)).isTrue();
+        assertThat(table.release(first)).isFalse();
+        assertThat(first.getConnectionId()).isEqualTo(User.NO_CONNECTION);
+
+        assertThat(table.register(third, null)).isZero();
+        assertThat(table.get(0)).isSameAs(third);
+        assertThat(table.get(1)).isSameAs(second);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("2. [Grow] 초기 용량을 넘는 연결도 id 순서대로 등록된다")
+    void growsBeyondInitialCapacity() {
+        ConnectionTable table = new ConnectionTable();
+        User[] users = new User[5000];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new User(null);
+            assertThat(table.register(users[i], null)).isEqualTo(i);
+        }
+
+        assertThat(table.get(4999)).isSameAs(users[4999]);
+        assertThat(table.get(5000)).isNull();
+    }
+}
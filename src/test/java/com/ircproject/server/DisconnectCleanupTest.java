@@ -0,0 +1,83 @@
+package com.ircproject.server;
+
+import com.ircproject.config.LeanBootstrap;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.server
+ * fileName       : DisconnectCleanupTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class DisconnectCleanupTest {
+
+    static class RecordingUser extends User {
+        final List<String> lines = new ArrayList<>();
+
+        RecordingUser() {
+            super(null);
+        }
+
+        @Override
+        public void sendMessage(byte[] message) {
+            lines.add(new String(message, StandardCharsets.UTF_8));
+        }
+    }
+
+    private final LeanBootstrap bootstrap = new LeanBootstrap();
+    private final CommandDispatcher dispatcher = bootstrap.getDispatcher();
+    private final DisconnectCleanup cleanup =
+            new DisconnectCleanup(bootstrap.getChannelRepository(), bootstrap.getUserRepository());
+
+    @Test
+    @DisplayName("1. [Nick] 정리 전에 같은 닉네임으로 재접속하면 닉네임은 정리가 끝난 뒤에야 풀리고, 피어는 QUIT 뒤에 JOIN 을 받는다")
+    void nicknameStaysReservedUntilCleanup() {
+        // Given
+        RecordingUser bob = new RecordingUser();
+        command(bob, "NICK", "bob");
+        command(bob, "JOIN", "#chat");
+        RecordingUser oldAlice = new RecordingUser();
+        command(oldAlice, "NICK", "alice");
+        command(oldAlice, "JOIN", "#chat");
+        cleanup.add(oldAlice); // 소켓은 닫혔고 정리는 다음 바퀴로 밀린 상태
+
+        // When
+        RecordingUser newAlice = new RecordingUser();
+        command(newAlice, "NICK", "alice");
+
+        // Then
+        assertThat(newAlice.lines).anyMatch(line -> line.startsWith(":server 433 * alice "));
+        assertThat(bootstrap.getUserRepository().findByNickname("alice")).isSameAs(oldAlice);
+
+        bob.lines.clear();
+        cleanup.process(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        command(newAlice, "NICK", "alice");
+        command(newAlice, "JOIN", "#chat");
+
+        assertThat(cleanup.isEmpty()).isTrue();
+        assertThat(bob.lines).containsExactly(
+                ":alice QUIT :Connection closed\r\n",
+                ":alice JOIN #chat\r\n");
+        assertThat(bootstrap.getChannelRepository().get("#chat").getUsers())
+                .containsExactlyInAnyOrder(bob, newAlice);
+    }
+
+    private void command(User user, String command, String... parameters) {
+        dispatcher.dispatch(user, new IrcMessage(null, command, List.of(parameters)));
+    }
+}
@@ -0,0 +1,186 @@
+package com.ircproject.service;
+
+import com.ircproject.config.LeanBootstrap;
+import com.ircproject.domain.IrcMessage;
+import com.ircproject.domain.User;
+import com.ircproject.handler.CommandDispatcher;
+import com.ircproject.server.LoopExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.ircproject.service
+ * fileName       : ServiceRegistryTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class ServiceRegistryTest {
+
+    // 이벤트 루프 대신 테스트 스레드가 작업을 꺼내 실행
+    static class QueuedLoopExecutor extends LoopExecutor {
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runUntil(BooleanSupplier condition) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+                Runnable task = tasks.poll();
+                if (task != null) {
+                    task.run();
+                } else {
+                    Thread.sleep(5);
+                }
+            }
+        }
+    }
+
+    static class RecordingUser extends User {
+        final List<String> lines = new CopyOnWriteArrayList<>();
+
+        RecordingUser() {
+            super(null);
+        }
+
+        @Override
+        public void sendMessage(byte[] message) {
+            lines.add(new String(message, StandardCharsets.UTF_8));
+        }
+    }
+
+    static class EchoService implements IrcService {
+        final BlockingQueue<ServiceEvent> events = new LinkedBlockingQueue<>();
+        volatile ServiceContext context;
+
+        @Override
+        public String getNickname() {
+            return "EchoServ";
+        }
+
+        @Override
+        public List<String> getChannels() {
+            return List.of("#help");
+        }
+
+        @Override
+        public void onStart(ServiceContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onEvent(ServiceEvent event) {
+            events.add(event);
+            if (event instanceof ServiceEvent.ChannelMessage message && message.text().equals("!ping")) {
+                context.privmsg(message.channel(), "pong");
+            } else if (event instanceof ServiceEvent.PrivateMessage message) {
+                context.notice(message.sender(), "echo: " + message.text());
+            }
+        }
+    }
+
+    private final LeanBootstrap bootstrap = new LeanBootstrap();
+    private final CommandDispatcher dispatcher = bootstrap.getDispatcher();
+    private final QueuedLoopExecutor loop = new QueuedLoopExecutor();
+
+    @Test
+    @DisplayName("1. [Event] 서비스는 채널 대화와 귓속말을 타입 이벤트로 받고, 보낸 명령은 루프에서 일반 명령처럼 처리된다")
+    void deliversEventsAndDispatchesReplies() throws Exception {
+        EchoService echo = new EchoService();
+        ServiceRegistry registry = new ServiceRegistry(List.of(echo), bootstrap.getUserRepository(), dispatcher, loop, 16);
+        registry.start();
+        loop.runUntil(() -> registry.getServiceCount() == 1 && echo.context != null);
+
+        assertThat(bootstrap.getUserRepository().exists("EchoServ")).isTrue();
+        assertThat(bootstrap.getChannelRepository().get("#help").getUsers()).extracting(User::getNickname).contains("EchoServ");
+
+        RecordingUser alice = new RecordingUser();
+        command(alice, "NICK", "alice");
+        command(alice, "JOIN", "#help");
+        loop.runUntil(() -> echo.events.size() == 1);
+        assertThat(echo.events.poll()).isEqualTo(new ServiceEvent.Join("#help", "alice"));
+
+        alice.lines.clear();
+        command(alice, "PRIVMSG", "#help", "!ping");
+        loop.runUntil(() -> alice.lines.stream().anyMatch(line -> line.contains("PRIVMSG #help :pong")));
+        assertThat(echo.events.poll()).isEqualTo(new ServiceEvent.ChannelMessage("#help", "alice", false, "!ping"));
+        assertThat(alice.lines).anyMatch(line -> line.equals(":EchoServ PRIVMSG #help :pong\r\n"));
+
+        command(alice, "PRIVMSG", "EchoServ", "hello");
+        loop.runUntil(() -> alice.lines.stream().anyMatch(line -> line.contains("NOTICE alice :echo: hello")));
+        assertThat(echo.events.poll()).isEqualTo(new ServiceEvent.PrivateMessage("alice", false, "hello"));
+        assertThat(alice.lines).anyMatch(line -> line.endsWith("NOTICE alice :echo: hello\r\n"));
+
+        command(alice, "PART", "#help", "bye");
+        assertThat(echo.events.poll(5, TimeUnit.SECONDS)).isEqualTo(new ServiceEvent.Part("#help", "alice", "bye"));
+        registry.stop();
+    }
+
+    @Test
+    @DisplayName("2. [Backpressure] 처리가 밀린 서비스의 이벤트는 대기열 한도를 넘으면 루프를 막지 않고 버려진다")
+    void dropsEventsPastQueueCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<ServiceEvent> received = new CopyOnWriteArrayList<>();
+        IrcService slow = new IrcService() {
+            @Override
+            public String getNickname() {
+                return "SlowServ";
+            }
+
+            @Override
+            public void onStart(ServiceContext context) {
+                try {
+                    release.await(); // 서비스 스레드를 붙잡아 두고 이벤트가 쌓이게 함
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void onEvent(ServiceEvent event) {
+                received.add(event);
+            }
+        };
+        ServiceRegistry registry = new ServiceRegistry(List.of(slow), bootstrap.getUserRepository(), dispatcher, loop, 2);
+        registry.start();
+        loop.runUntil(() -> registry.getServiceCount() == 1);
+
+        RecordingUser alice = new RecordingUser();
+        command(alice, "NICK", "alice");
+        for (int i = 0; i < 10; i++) {
+            command(alice, "PRIVMSG", "SlowServ", "message " + i);
+        }
+
+        assertThat(registry.getDroppedEvents()).isEqualTo(8);
+
+        release.countDown();
+        loop.runUntil(() -> received.size() == 2);
+        assertThat(received).extracting(event -> ((ServiceEvent.PrivateMessage) event).text())
+                .containsExactly("message 0", "message 1");
+        registry.stop();
+    }
+
+    private void command(User user, String command, String... parameters) {
+        dispatcher.dispatch(user, new IrcMessage(null, command, List.of(parameters)));
+    }
+}